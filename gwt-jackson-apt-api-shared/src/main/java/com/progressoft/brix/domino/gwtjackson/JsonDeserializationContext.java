@@ -1,9 +1,13 @@
 package com.progressoft.brix.domino.gwtjackson;
 
 import com.fasterxml.jackson.annotation.ObjectIdGenerator;
+import com.progressoft.brix.domino.gwtjackson.annotation.GwtIncompatible;
 import com.progressoft.brix.domino.gwtjackson.exception.JsonDeserializationException;
 import com.progressoft.brix.domino.gwtjackson.stream.JsonReader;
 
+import java.io.Reader;
+import java.nio.ByteBuffer;
+
 public interface JsonDeserializationContext extends JsonMappingContext {
     boolean isFailOnUnknownProperties();
 
@@ -17,8 +21,25 @@ public interface JsonDeserializationContext extends JsonMappingContext {
 
     boolean isUseBrowserTimezone();
 
+    boolean isPresizeCollections();
+
+    JsonDeserializationContext newSession();
+
     JsonReader newJsonReader(String input);
 
+    JsonReader obtainJsonReader(String input);
+
+    void releaseJsonReader(JsonReader reader);
+
+    @GwtIncompatible
+    JsonReader newJsonReader(byte[] input);
+
+    @GwtIncompatible
+    JsonReader newJsonReader(ByteBuffer input);
+
+    @GwtIncompatible
+    JsonReader newJsonReader(Reader input);
+
     JsonDeserializationException traceError(String message);
 
     JsonDeserializationException traceError(String message, JsonReader reader);
@@ -31,5 +52,9 @@ public interface JsonDeserializationContext extends JsonMappingContext {
 
     Object getObjectWithId(ObjectIdGenerator.IdKey id);
 
+    void addObjectId(Class<?> type, Class<?> scope, Object id, Object instance);
+
+    Object getObjectWithId(Class<?> type, Class<?> scope, Object id);
+
     JsonDeserializerParameters defaultParameters();
 }
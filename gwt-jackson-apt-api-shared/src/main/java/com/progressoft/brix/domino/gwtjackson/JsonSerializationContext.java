@@ -1,10 +1,13 @@
 package com.progressoft.brix.domino.gwtjackson;
 
 import com.fasterxml.jackson.annotation.ObjectIdGenerator;
+import com.progressoft.brix.domino.gwtjackson.annotation.GwtIncompatible;
 import com.progressoft.brix.domino.gwtjackson.exception.JsonSerializationException;
 import com.progressoft.brix.domino.gwtjackson.ser.bean.ObjectIdSerializer;
 import com.progressoft.brix.domino.gwtjackson.stream.JsonWriter;
 
+import java.io.OutputStream;
+
 public interface JsonSerializationContext extends JsonMappingContext {
     boolean isSerializeNulls();
 
@@ -24,8 +27,26 @@ public interface JsonSerializationContext extends JsonMappingContext {
 
     boolean isWriteSingleElemArraysUnwrapped();
 
+    JsonSerializationContext newSession();
+
+    /**
+     * @return a new session, as {@link #newSession()}, in which registering an object id or an id generator throws a
+     * {@link JsonSerializationException}, for serializations whose values are written independently of each other
+     */
+    JsonSerializationContext newSessionWithoutObjectIds();
+
     JsonWriter newJsonWriter();
 
+    JsonWriter obtainJsonWriter();
+
+    void releaseJsonWriter(JsonWriter writer);
+
+    @GwtIncompatible
+    JsonWriter newJsonWriter(Appendable out);
+
+    @GwtIncompatible
+    JsonWriter newJsonWriter(OutputStream out);
+
     JsonSerializationException traceError(Object value, String message);
 
     JsonSerializationException traceError(Object value, String message, JsonWriter writer);
@@ -16,8 +16,16 @@
 
 package com.progressoft.brix.domino.gwtjackson;
 
+import com.progressoft.brix.domino.gwtjackson.annotation.GwtIncompatible;
 import com.progressoft.brix.domino.gwtjackson.exception.JsonDeserializationException;
 
+import java.io.InputStream;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.IntFunction;
+
 /**
  * Reads a JSON input and return an object
  * <p>Example : </p>
@@ -59,4 +67,183 @@ public interface ObjectReader<T> {
      * @throws com.progressoft.brix.domino.gwtjackson.exception.JsonDeserializationException if an exception occurs while reading the input
      */
     T read(String input, JsonDeserializationContext ctx) throws JsonDeserializationException;
+
+    /**
+     * Reads a UTF-8 encoded JSON input into an object, without decoding it to a {@link String} first.
+     *
+     * @param input UTF-8 encoded JSON input to read
+     * @return the read object
+     * @throws com.progressoft.brix.domino.gwtjackson.exception.JsonDeserializationException if an exception occurs while reading the input
+     */
+    @GwtIncompatible
+    T read(byte[] input) throws JsonDeserializationException;
+
+    /**
+     * Reads a UTF-8 encoded JSON input into an object, without decoding it to a {@link String} first.
+     *
+     * @param input UTF-8 encoded JSON input to read
+     * @param ctx   Context for the full reading process
+     * @return the read object
+     * @throws com.progressoft.brix.domino.gwtjackson.exception.JsonDeserializationException if an exception occurs while reading the input
+     */
+    @GwtIncompatible
+    T read(byte[] input, JsonDeserializationContext ctx) throws JsonDeserializationException;
+
+    /**
+     * Reads the remaining bytes of a UTF-8 encoded JSON input into an object, without decoding it to a {@link String} first.
+     *
+     * @param input UTF-8 encoded JSON input to read
+     * @return the read object
+     * @throws com.progressoft.brix.domino.gwtjackson.exception.JsonDeserializationException if an exception occurs while reading the input
+     */
+    @GwtIncompatible
+    T read(ByteBuffer input) throws JsonDeserializationException;
+
+    /**
+     * Reads the remaining bytes of a UTF-8 encoded JSON input into an object, without decoding it to a {@link String} first.
+     *
+     * @param input UTF-8 encoded JSON input to read
+     * @param ctx   Context for the full reading process
+     * @return the read object
+     * @throws com.progressoft.brix.domino.gwtjackson.exception.JsonDeserializationException if an exception occurs while reading the input
+     */
+    @GwtIncompatible
+    T read(ByteBuffer input, JsonDeserializationContext ctx) throws JsonDeserializationException;
+
+    /**
+     * Reads a JSON input into an object. The input is read incrementally through a bounded buffer, it is never held
+     * in memory as a whole. The reader is not closed.
+     *
+     * @param input JSON input to read
+     * @return the read object
+     * @throws com.progressoft.brix.domino.gwtjackson.exception.JsonDeserializationException if an exception occurs while reading the input
+     */
+    @GwtIncompatible
+    T read(Reader input) throws JsonDeserializationException;
+
+    /**
+     * Reads a JSON input into an object. The input is read incrementally through a bounded buffer, it is never held
+     * in memory as a whole. The reader is not closed.
+     *
+     * @param input JSON input to read
+     * @param ctx   Context for the full reading process
+     * @return the read object
+     * @throws com.progressoft.brix.domino.gwtjackson.exception.JsonDeserializationException if an exception occurs while reading the input
+     */
+    @GwtIncompatible
+    T read(Reader input, JsonDeserializationContext ctx) throws JsonDeserializationException;
+
+    /**
+     * Reads a UTF-8 encoded JSON input into an object. The input is read incrementally through a bounded buffer, it is
+     * never held in memory as a whole. The stream is not closed.
+     *
+     * @param input UTF-8 encoded JSON input to read
+     * @return the read object
+     * @throws com.progressoft.brix.domino.gwtjackson.exception.JsonDeserializationException if an exception occurs while reading the input
+     */
+    @GwtIncompatible
+    T read(InputStream input) throws JsonDeserializationException;
+
+    /**
+     * Reads a UTF-8 encoded JSON input into an object. The input is read incrementally through a bounded buffer, it is
+     * never held in memory as a whole. The stream is not closed.
+     *
+     * @param input UTF-8 encoded JSON input to read
+     * @param ctx   Context for the full reading process
+     * @return the read object
+     * @throws com.progressoft.brix.domino.gwtjackson.exception.JsonDeserializationException if an exception occurs while reading the input
+     */
+    @GwtIncompatible
+    T read(InputStream input, JsonDeserializationContext ctx) throws JsonDeserializationException;
+
+    /**
+     * Reads a batch of values. The input is either a JSON array whose elements are the values, or the values one after the
+     * other separated by whitespace, e.g. newline-delimited JSON. As for {@link #read(String)}, an input without any value is
+     * invalid, an empty batch is written {@code []}. All the values are read with the same reader and in the same session, so
+     * object identities are shared across the batch.
+     * <p>
+     * The form is told from the first token: an input starting with {@code [} is always read as a single array of values.
+     * Values that are themselves JSON arrays can therefore only be given wrapped in an array, e.g. {@code [[1,2],[3]]}, as
+     * newline-delimited arrays would be read as the elements of the first one. Read such input one value at a time with
+     * {@link #read(String)} instead.
+     *
+     * @param input JSON input to read
+     * @return the read objects
+     * @throws com.progressoft.brix.domino.gwtjackson.exception.JsonDeserializationException if an exception occurs while reading the input
+     */
+    List<T> readList(String input) throws JsonDeserializationException;
+
+    /**
+     * Reads a batch of values, see {@link #readList(String)}.
+     *
+     * @param input JSON input to read
+     * @param ctx   Context for the full reading process
+     * @return the read objects
+     * @throws com.progressoft.brix.domino.gwtjackson.exception.JsonDeserializationException if an exception occurs while reading the input
+     */
+    List<T> readList(String input, JsonDeserializationContext ctx) throws JsonDeserializationException;
+
+    /**
+     * Reads a batch of values into an array, see {@link #readList(String)}.
+     *
+     * @param input        JSON input to read
+     * @param arrayCreator creates the returned array from its length, e.g. {@code Person[]::new}
+     * @return the read objects
+     * @throws com.progressoft.brix.domino.gwtjackson.exception.JsonDeserializationException if an exception occurs while reading the input
+     */
+    T[] readArray(String input, IntFunction<T[]> arrayCreator) throws JsonDeserializationException;
+
+    /**
+     * Reads a batch of values into an array, see {@link #readList(String)}.
+     *
+     * @param input        JSON input to read
+     * @param ctx          Context for the full reading process
+     * @param arrayCreator creates the returned array from its length, e.g. {@code Person[]::new}
+     * @return the read objects
+     * @throws com.progressoft.brix.domino.gwtjackson.exception.JsonDeserializationException if an exception occurs while reading the input
+     */
+    T[] readArray(String input, JsonDeserializationContext ctx, IntFunction<T[]> arrayCreator) throws JsonDeserializationException;
+
+    /**
+     * Reads a batch of values, see {@link #readList(String)}, and gives each one to {@code consumer} as soon as it is read.
+     *
+     * @param input    JSON input to read
+     * @param consumer receives the read objects in order
+     * @throws com.progressoft.brix.domino.gwtjackson.exception.JsonDeserializationException if an exception occurs while reading the input
+     */
+    void readEach(String input, Consumer<? super T> consumer) throws JsonDeserializationException;
+
+    /**
+     * Reads a batch of values, see {@link #readList(String)}, and gives each one to {@code consumer} as soon as it is read.
+     *
+     * @param input    JSON input to read
+     * @param ctx      Context for the full reading process
+     * @param consumer receives the read objects in order
+     * @throws com.progressoft.brix.domino.gwtjackson.exception.JsonDeserializationException if an exception occurs while reading the input
+     */
+    void readEach(String input, JsonDeserializationContext ctx, Consumer<? super T> consumer) throws JsonDeserializationException;
+
+    /**
+     * Reads a batch of values, see {@link #readList(String)}, and gives each one to {@code consumer} as soon as it is read.
+     * The input is read incrementally through a bounded buffer and no value is retained, so the batch is never held in
+     * memory as a whole. The reader is not closed. As for {@link #readList(String)}, an input starting with {@code [} is read
+     * as a single array of values, so a stream of arrays has to be wrapped in an array.
+     *
+     * @param input    JSON input to read
+     * @param consumer receives the read objects in order
+     * @throws com.progressoft.brix.domino.gwtjackson.exception.JsonDeserializationException if an exception occurs while reading the input
+     */
+    @GwtIncompatible
+    void readEach(Reader input, Consumer<? super T> consumer) throws JsonDeserializationException;
+
+    /**
+     * Reads a batch of values, see {@link #readEach(Reader, Consumer)}.
+     *
+     * @param input    JSON input to read
+     * @param ctx      Context for the full reading process
+     * @param consumer receives the read objects in order
+     * @throws com.progressoft.brix.domino.gwtjackson.exception.JsonDeserializationException if an exception occurs while reading the input
+     */
+    @GwtIncompatible
+    void readEach(Reader input, JsonDeserializationContext ctx, Consumer<? super T> consumer) throws JsonDeserializationException;
 }
@@ -16,8 +16,13 @@
 
 package com.progressoft.brix.domino.gwtjackson;
 
+import com.progressoft.brix.domino.gwtjackson.annotation.GwtIncompatible;
 import com.progressoft.brix.domino.gwtjackson.exception.JsonSerializationException;
 
+import java.io.OutputStream;
+import java.util.Collection;
+import java.util.concurrent.ExecutorService;
+
 /**
  * Writes an object to JSON.
  * <p>Example : </p>
@@ -62,4 +67,83 @@ public interface ObjectWriter<T> {
      * @throws com.progressoft.brix.domino.gwtjackson.exception.JsonSerializationException if an exception occurs while writing the output
      */
     String write(T value, JsonSerializationContext ctx) throws JsonSerializationException;
+
+    /**
+     * Writes an object to JSON directly into {@code out}, through a bounded buffer. {@code out} is flushed but not
+     * closed.
+     *
+     * @param value Object to write
+     * @param out   where to write the JSON output
+     * @throws com.progressoft.brix.domino.gwtjackson.exception.JsonSerializationException if an exception occurs while writing the output
+     */
+    @GwtIncompatible
+    void write(T value, Appendable out) throws JsonSerializationException;
+
+    /**
+     * Writes an object to JSON directly into {@code out}, through a bounded buffer. {@code out} is flushed but not
+     * closed.
+     *
+     * @param value Object to write
+     * @param out   where to write the JSON output
+     * @param ctx   Context for the full writing process
+     * @throws com.progressoft.brix.domino.gwtjackson.exception.JsonSerializationException if an exception occurs while writing the output
+     */
+    @GwtIncompatible
+    void write(T value, Appendable out, JsonSerializationContext ctx) throws JsonSerializationException;
+
+    /**
+     * Writes an object to UTF-8 encoded JSON directly into {@code out}, through a bounded buffer. {@code out} is
+     * flushed but not closed.
+     *
+     * @param value Object to write
+     * @param out   where to write the JSON output
+     * @throws com.progressoft.brix.domino.gwtjackson.exception.JsonSerializationException if an exception occurs while writing the output
+     */
+    @GwtIncompatible
+    void write(T value, OutputStream out) throws JsonSerializationException;
+
+    /**
+     * Writes an object to UTF-8 encoded JSON directly into {@code out}, through a bounded buffer. {@code out} is
+     * flushed but not closed.
+     *
+     * @param value Object to write
+     * @param out   where to write the JSON output
+     * @param ctx   Context for the full writing process
+     * @throws com.progressoft.brix.domino.gwtjackson.exception.JsonSerializationException if an exception occurs while writing the output
+     */
+    @GwtIncompatible
+    void write(T value, OutputStream out, JsonSerializationContext ctx) throws JsonSerializationException;
+
+    /**
+     * Writes a batch of values to a JSON array directly into {@code out}, serializing chunks of the batch in parallel on the
+     * common {@link java.util.concurrent.ForkJoinPool}. See {@link #writeParallel(Collection, Appendable,
+     * JsonSerializationContext, ExecutorService)}.
+     *
+     * @param values Objects to write
+     * @param out    where to write the JSON output
+     * @throws com.progressoft.brix.domino.gwtjackson.exception.JsonSerializationException if an exception occurs while writing the output
+     */
+    @GwtIncompatible
+    void writeParallel(Collection<? extends T> values, Appendable out) throws JsonSerializationException;
+
+    /**
+     * Writes a batch of values to a JSON array directly into {@code out}, serializing chunks of the batch in parallel on
+     * {@code executor}. Each chunk is written in its own session and buffered until all of them are done, then they are
+     * appended in order, so the output is the same as writing the values one after the other in an array. {@code out} is not
+     * flushed nor closed.
+     * <p>
+     * Object identities cannot be shared between sessions, so the values must not use
+     * {@link com.fasterxml.jackson.annotation.JsonIdentityInfo}: the chunks are written in sessions of
+     * {@link JsonSerializationContext#newSessionWithoutObjectIds()}, a {@link JsonSerializationException} is thrown as soon
+     * as one of them registers an object id and nothing is written.
+     *
+     * @param values   Objects to write
+     * @param out      where to write the JSON output
+     * @param ctx      Context for the full writing process, each chunk uses a new session of it
+     * @param executor runs the chunks, e.g. a {@link java.util.concurrent.ForkJoinPool} or an executor of virtual threads
+     * @throws com.progressoft.brix.domino.gwtjackson.exception.JsonSerializationException if an exception occurs while writing the output
+     */
+    @GwtIncompatible
+    void writeParallel(Collection<? extends T> values, Appendable out, JsonSerializationContext ctx, ExecutorService executor)
+            throws JsonSerializationException;
 }
@@ -16,7 +16,9 @@
 
 package com.progressoft.brix.domino.gwtjackson.stream;
 
+import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.util.function.Supplier;
 
 /**
  * <p>JsonReader interface.</p>
@@ -97,6 +99,18 @@ public interface JsonReader {
      */
     JsonToken peek();
 
+    /**
+     * Returns the number of elements of the array, or of properties of the object, that is the next token without consuming
+     * anything. It is only a hint used to presize collections and maps, computed by looking ahead in the input.
+     * The default implementation does not look ahead and returns -1.
+     *
+     * @return the number of elements, or -1 if the next token does not begin an array or an object or if the reader cannot look
+     * ahead to its end.
+     */
+    default int peekLength() {
+        return -1;
+    }
+
     /**
      * Returns the next token, a {@link JsonToken#NAME property name}, and
      * consumes it.
@@ -105,6 +119,33 @@ public interface JsonReader {
      */
     String nextName();
 
+    /**
+     * Matches the next token, a {@link JsonToken#NAME property name}, against the names of {@code table} without creating a
+     * {@link String}, and consumes it if it is found. When the name is not in the table, or cannot be matched in place (escaped
+     * or unquoted name, name not fully buffered), -1 is returned and the name is left to be read with {@link #nextName()}.
+     * The default implementation never matches in place and returns -1.
+     *
+     * @param table the known property names
+     * @return the index of the name in the table or -1 if the name was not consumed.
+     */
+    default int nextNameIndex(PropertyNameTable table) {
+        return -1;
+    }
+
+    /**
+     * Matches the next token, a double quoted {@link JsonToken#STRING string}, against the names of {@code table} without
+     * creating a {@link String}, and consumes it if it is found. When the string is not in the table, or cannot be matched in
+     * place (escaped or not double quoted string, other token, string not fully buffered), -1 is returned and the token is left
+     * to be read with {@link #nextString()}.
+     * The default implementation never matches in place and returns -1.
+     *
+     * @param table the known values
+     * @return the index of the string in the table or -1 if the string was not consumed.
+     */
+    default int nextStringIndex(PropertyNameTable table) {
+        return -1;
+    }
+
     /**
      * Returns the {@link JsonToken#STRING string} value of the next token,
      * consuming it. If the next token is a number, this method will return its
@@ -147,6 +188,54 @@ public interface JsonReader {
      */
     double nextDouble();
 
+    /**
+     * Returns the {@link JsonToken#NUMBER float} value of the next token,
+     * consuming it. Numbers are parsed directly from the buffer when possible,
+     * otherwise and if the next token is a string, this method will attempt to
+     * parse it as a float using {@link Float#parseFloat(String)}.
+     * The default implementation parses {@link #nextString()}.
+     *
+     * @return a float.
+     * @throws IllegalStateException if the next token is not a literal value.
+     * @throws NumberFormatException if the next literal value cannot be parsed
+     *                               as a float.
+     */
+    default float nextFloat() {
+        return Float.parseFloat(nextString());
+    }
+
+    /**
+     * Returns the {@link JsonToken#NUMBER BigDecimal} value of the next token,
+     * consuming it. Numbers with up to 18 significant digits are parsed directly
+     * from the buffer, otherwise and if the next token is a string, this method
+     * will attempt to parse it using {@link BigDecimal#BigDecimal(String)}.
+     * The default implementation parses {@link #nextString()}.
+     *
+     * @return a {@link BigDecimal} object.
+     * @throws IllegalStateException if the next token is not a literal value.
+     * @throws NumberFormatException if the next literal value cannot be parsed
+     *                               as a BigDecimal.
+     */
+    default BigDecimal nextBigDecimal() {
+        return new BigDecimal(nextString());
+    }
+
+    /**
+     * Returns the {@link JsonToken#NUMBER BigInteger} value of the next token,
+     * consuming it. Numbers that fit in a long are not copied to a String,
+     * otherwise and if the next token is a string, this method will attempt to
+     * parse it using {@link BigInteger#BigInteger(String)}.
+     * The default implementation parses {@link #nextString()}.
+     *
+     * @return a {@link BigInteger} object.
+     * @throws IllegalStateException if the next token is not a literal value.
+     * @throws NumberFormatException if the next literal value cannot be parsed
+     *                               as a BigInteger.
+     */
+    default BigInteger nextBigInteger() {
+        return new BigInteger(nextString());
+    }
+
     /**
      * Returns the {@link JsonToken#NUMBER long} value of the next token,
      * consuming it. If the next token is a string, this method will attempt to
@@ -185,6 +274,20 @@ public interface JsonReader {
      */
     void skipValue();
 
+    /**
+     * Skips the next value and returns a supplier of readers over its text, so the value can be read later, more than once, or
+     * never. The readers of a {@link String} input share it and only record where the value starts and ends, the readers of a
+     * byte input get a copy of the bytes of the value since the caller may reuse its array.
+     * The default implementation does not keep its input and returns null.
+     *
+     * @return a supplier creating a new reader positioned before the skipped value, or null without consuming anything if the
+     * next token is not a value, if its text cannot be located in the input (literals true, false and null) or if this reader
+     * does not keep its whole input.
+     */
+    default Supplier<JsonReader> nextValueReader() {
+        return null;
+    }
+
     /**
      * Reads the next value recursively and returns it as a String. If it is an object or array, all nested
      * elements are read.
@@ -111,6 +111,19 @@ public interface JsonWriter {
      */
     JsonWriter unescapeName(String name);
 
+    /**
+     * Encodes a property name prepared in advance, in a single append. {@code fragment} is the escaped and quoted name
+     * preceded by a comma and followed by a colon, e.g. <code>,"name":</code>; the comma is skipped for the first property of
+     * the object. Like {@link #unescapeName(String)} the name is deferred until the value is written, so it can be cancelled.
+     * The default implementation passes the quoted name of the fragment to {@link #unescapeName(String)}.
+     *
+     * @param fragment the name with its separators
+     * @return this writer.
+     */
+    default JsonWriter rawName(String fragment) {
+        return unescapeName(fragment.substring(2, fragment.length() - 2));
+    }
+
     /**
      * Encodes {@code value}.
      *
@@ -175,6 +188,73 @@ public interface JsonWriter {
      */
     JsonWriter value(Number value);
 
+    /**
+     * Encodes {@code length} values of {@code values} starting at {@code offset} as an array, in a single call.
+     * The default implementation writes the values one by one.
+     *
+     * @param values the values to encode.
+     * @param offset index of the first value to encode.
+     * @param length number of values to encode.
+     * @return this writer.
+     * @throws IndexOutOfBoundsException if {@code offset} and {@code length} do not select values of {@code values}, nothing
+     *                                   is written then.
+     */
+    default JsonWriter value(int[] values, int offset, int length) {
+        if (offset < 0 || length < 0 || offset > values.length - length) {
+            throw new IndexOutOfBoundsException("offset=" + offset + ", length=" + length + ", array length=" + values.length);
+        }
+        beginArray();
+        for (int i = offset; i < offset + length; i++) {
+            value(values[i]);
+        }
+        return endArray();
+    }
+
+    /**
+     * Encodes {@code length} values of {@code values} starting at {@code offset} as an array, in a single call.
+     * The default implementation writes the values one by one.
+     *
+     * @param values the values to encode.
+     * @param offset index of the first value to encode.
+     * @param length number of values to encode.
+     * @return this writer.
+     * @throws IndexOutOfBoundsException if {@code offset} and {@code length} do not select values of {@code values}, nothing
+     *                                   is written then.
+     */
+    default JsonWriter value(long[] values, int offset, int length) {
+        if (offset < 0 || length < 0 || offset > values.length - length) {
+            throw new IndexOutOfBoundsException("offset=" + offset + ", length=" + length + ", array length=" + values.length);
+        }
+        beginArray();
+        for (int i = offset; i < offset + length; i++) {
+            value(values[i]);
+        }
+        return endArray();
+    }
+
+    /**
+     * Encodes {@code length} values of {@code values} starting at {@code offset} as an array, in a single call.
+     * The default implementation writes the values one by one.
+     *
+     * @param values the values to encode. They must be finite, {@link Double#isNaN() NaNs} and
+     *               {@link Double#isInfinite() infinities} are not allowed.
+     * @param offset index of the first value to encode.
+     * @param length number of values to encode.
+     * @return this writer.
+     * @throws IndexOutOfBoundsException if {@code offset} and {@code length} do not select values of {@code values}, nothing
+     *                                   is written then.
+     */
+    default JsonWriter value(double[] values, int offset, int length) {
+        if (offset < 0 || length < 0 || offset > values.length - length) {
+            throw new IndexOutOfBoundsException("offset=" + offset + ", length=" + length + ", array length=" + values.length);
+        }
+        beginArray();
+        for (int i = offset; i < offset + length; i++) {
+            value(values[i]);
+        }
+        return endArray();
+    }
+
     /**
      * Encodes {@code value}.
      *
@@ -0,0 +1,186 @@
+/*
+ * Copyright 2017 Ahmad Bawaneh
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.progressoft.brix.domino.gwtjackson.stream;
+
+/**
+ * Table of known property names, built once and used by {@link JsonReader#nextNameIndex(PropertyNameTable)} to match a name
+ * directly inside the reader input without creating a {@link String}. {@link JsonReader#nextStringIndex(PropertyNameTable)} does
+ * the same for string values, e.g. the constants of an enumeration.
+ * <p>
+ * Names are hashed with the same function as {@link String#hashCode()} and stored in an open addressing table, so a lookup
+ * computes the hash of the input span and compares it with at most a few candidates.
+ */
+public final class PropertyNameTable {
+
+    private final String[] names;
+
+    private final int[] hashes;
+
+    /**
+     * index + 1 of the name stored in each slot, 0 for an empty slot
+     */
+    private final int[] slots;
+
+    private final int mask;
+
+    /**
+     * <p>Constructor for PropertyNameTable.</p>
+     *
+     * @param names the property names, their position in the array is the index returned by the lookups
+     */
+    public PropertyNameTable(String... names) {
+        this.names = names;
+        this.hashes = new int[names.length];
+
+        int capacity = 2;
+        while (capacity < names.length * 2) {
+            capacity <<= 1;
+        }
+        this.slots = new int[capacity];
+        this.mask = capacity - 1;
+
+        for (int i = 0; i < names.length; i++) {
+            int hash = names[i].hashCode();
+            hashes[i] = hash;
+            int slot = spread(hash) & mask;
+            while (slots[slot] != 0) {
+                slot = (slot + 1) & mask;
+            }
+            slots[slot] = i + 1;
+        }
+    }
+
+    private static int spread(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+
+    /**
+     * @return the number of names in the table
+     */
+    public int size() {
+        return names.length;
+    }
+
+    /**
+     * @param index index of the name
+     * @return the name at the given index
+     */
+    public String getName(int index) {
+        return names[index];
+    }
+
+    /**
+     * @param name the name to look for
+     * @return the index of the name or -1 if it is not in the table
+     */
+    public int indexOf(String name) {
+        return indexOf(name, 0, name.length());
+    }
+
+    /**
+     * @param in    the input containing the name
+     * @param start index of the first character of the name
+     * @param end   index after the last character of the name
+     * @return the index of the name or -1 if it is not in the table
+     */
+    public int indexOf(String in, int start, int end) {
+        int hash = 0;
+        for (int i = start; i < end; i++) {
+            hash = 31 * hash + in.charAt(i);
+        }
+        int length = end - start;
+        for (int slot = spread(hash) & mask; slots[slot] != 0; slot = (slot + 1) & mask) {
+            int index = slots[slot] - 1;
+            if (hashes[index] == hash && names[index].length() == length && in.regionMatches(start, names[index], 0, length)) {
+                return index;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * @param in    the buffer containing the name
+     * @param start index of the first character of the name
+     * @param end   index after the last character of the name
+     * @return the index of the name or -1 if it is not in the table
+     */
+    public int indexOf(char[] in, int start, int end) {
+        int hash = 0;
+        for (int i = start; i < end; i++) {
+            hash = 31 * hash + in[i];
+        }
+        int length = end - start;
+        for (int slot = spread(hash) & mask; slots[slot] != 0; slot = (slot + 1) & mask) {
+            int index = slots[slot] - 1;
+            if (hashes[index] == hash && matches(names[index], in, start, length)) {
+                return index;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Looks for a name encoded in UTF-8. Only ASCII names can be matched this way, -1 is returned as soon as the input contains
+     * a multi-byte character.
+     *
+     * @param in    the buffer containing the name
+     * @param start index of the first byte of the name
+     * @param end   index after the last byte of the name
+     * @return the index of the name or -1 if it is not in the table
+     */
+    public int indexOf(byte[] in, int start, int end) {
+        int hash = 0;
+        for (int i = start; i < end; i++) {
+            byte b = in[i];
+            if (b < 0) {
+                return -1;
+            }
+            hash = 31 * hash + b;
+        }
+        int length = end - start;
+        for (int slot = spread(hash) & mask; slots[slot] != 0; slot = (slot + 1) & mask) {
+            int index = slots[slot] - 1;
+            if (hashes[index] == hash && matches(names[index], in, start, length)) {
+                return index;
+            }
+        }
+        return -1;
+    }
+
+    private static boolean matches(String name, char[] in, int start, int length) {
+        if (name.length() != length) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (name.charAt(i) != in[start + i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean matches(String name, byte[] in, int start, int length) {
+        if (name.length() != length) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (name.charAt(i) != in[start + i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -16,12 +16,31 @@
 
 package com.progressoft.brix.domino.gwtjackson;
 
+import com.progressoft.brix.domino.gwtjackson.annotation.GwtIncompatible;
 import com.progressoft.brix.domino.gwtjackson.exception.JsonDeserializationException;
 import com.progressoft.brix.domino.gwtjackson.exception.JsonSerializationException;
 import com.progressoft.brix.domino.gwtjackson.stream.JsonReader;
 import com.progressoft.brix.domino.gwtjackson.stream.JsonToken;
 import com.progressoft.brix.domino.gwtjackson.stream.JsonWriter;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+import java.util.function.IntFunction;
+
 /**
  * Base implementation of {@link ObjectMapper}. It delegates the serialization/deserialization to a serializer/deserializer.
  *
@@ -30,11 +49,36 @@ import com.progressoft.brix.domino.gwtjackson.stream.JsonWriter;
  */
 public abstract class AbstractObjectMapper<T> implements ObjectMapper<T> {
 
+    /**
+     * Contexts with the default options, shared by all the mappers since each read and write uses its own session
+     */
+    private static final JsonDeserializationContext DEFAULT_DESERIALIZATION_CONTEXT = DefaultJsonDeserializationContext.builder()
+            .build();
+
+    private static final JsonSerializationContext DEFAULT_SERIALIZATION_CONTEXT = DefaultJsonSerializationContext.builder().build();
+
+    /**
+     * Initial length of the array filled by {@link #readArray(String, JsonDeserializationContext, IntFunction)} when the
+     * number of values is not known in advance
+     */
+    private static final int DEFAULT_ARRAY_CAPACITY = 10;
+
+    /**
+     * Smallest number of values serialized by one task of {@link #writeParallel(Collection, Appendable)}, smaller chunks cost
+     * more to schedule and stitch than they save
+     */
+    private static final int MIN_PARALLEL_CHUNK_SIZE = 256;
+
+    /**
+     * Number of chunks per processor, so a slow chunk does not keep the other processors idle at the end
+     */
+    private static final int PARALLEL_CHUNKS_PER_PROCESSOR = 4;
+
     private final String rootName;
 
-    private JsonDeserializer<T> deserializer;
+    private volatile JsonDeserializer<T> deserializer;
 
-    private JsonSerializer<T> serializer;
+    private volatile JsonSerializer<T> serializer;
 
     /**
      * <p>Constructor for AbstractObjectMapper.</p>
@@ -50,40 +94,240 @@ public abstract class AbstractObjectMapper<T> implements ObjectMapper<T> {
      */
     @Override
     public T read(String in) throws JsonDeserializationException {
-        return read(in, DefaultJsonDeserializationContext.builder().build());
+        return read(in, DEFAULT_DESERIALIZATION_CONTEXT);
     }
 
     /**
      * {@inheritDoc}
      */
     public T read(String in, JsonDeserializationContext ctx) throws JsonDeserializationException {
-        JsonReader reader = ctx.newJsonReader(in);
+        JsonReader reader = ctx.obtainJsonReader(in);
+        try {
+            return read(reader, ctx);
+        } finally {
+            ctx.releaseJsonReader(reader);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @GwtIncompatible
+    public T read(byte[] in) throws JsonDeserializationException {
+        return read(in, DEFAULT_DESERIALIZATION_CONTEXT);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @GwtIncompatible
+    public T read(byte[] in, JsonDeserializationContext ctx) throws JsonDeserializationException {
+        return read(ctx.newJsonReader(in), ctx);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @GwtIncompatible
+    public T read(ByteBuffer in) throws JsonDeserializationException {
+        return read(in, DEFAULT_DESERIALIZATION_CONTEXT);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @GwtIncompatible
+    public T read(ByteBuffer in, JsonDeserializationContext ctx) throws JsonDeserializationException {
+        return read(ctx.newJsonReader(in), ctx);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @GwtIncompatible
+    public T read(Reader in) throws JsonDeserializationException {
+        return read(in, DEFAULT_DESERIALIZATION_CONTEXT);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @GwtIncompatible
+    public T read(Reader in, JsonDeserializationContext ctx) throws JsonDeserializationException {
+        return read(ctx.newJsonReader(in), ctx);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @GwtIncompatible
+    public T read(InputStream in) throws JsonDeserializationException {
+        return read(in, DEFAULT_DESERIALIZATION_CONTEXT);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @GwtIncompatible
+    public T read(InputStream in, JsonDeserializationContext ctx) throws JsonDeserializationException {
+        return read(new InputStreamReader(in, StandardCharsets.UTF_8), ctx);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<T> readList(String in) throws JsonDeserializationException {
+        return readList(in, DEFAULT_DESERIALIZATION_CONTEXT);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<T> readList(String in, JsonDeserializationContext ctx) throws JsonDeserializationException {
+        List<T> result = new ArrayList<T>();
+        readEach(in, ctx, result::add);
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public T[] readArray(String in, IntFunction<T[]> arrayCreator) throws JsonDeserializationException {
+        return readArray(in, DEFAULT_DESERIALIZATION_CONTEXT, arrayCreator);
+    }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public T[] readArray(String in, JsonDeserializationContext ctx, IntFunction<T[]> arrayCreator) throws JsonDeserializationException {
+        JsonReader reader = ctx.obtainJsonReader(in);
         try {
+            return readArray(reader, ctx, arrayCreator);
+        } finally {
+            ctx.releaseJsonReader(reader);
+        }
+    }
 
-            if (ctx.isUnwrapRootValue()) {
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void readEach(String in, Consumer<? super T> consumer) throws JsonDeserializationException {
+        readEach(in, DEFAULT_DESERIALIZATION_CONTEXT, consumer);
+    }
 
-                if (JsonToken.BEGIN_OBJECT != reader.peek()) {
-                    throw ctx.traceError("Unwrap root value is enabled but the input is not a JSON Object", reader);
-                }
-                reader.beginObject();
-                if (JsonToken.END_OBJECT == reader.peek()) {
-                    throw ctx.traceError("Unwrap root value is enabled but the JSON Object is empty", reader);
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void readEach(String in, JsonDeserializationContext ctx, Consumer<? super T> consumer) throws JsonDeserializationException {
+        JsonReader reader = ctx.obtainJsonReader(in);
+        try {
+            readEach(reader, ctx, consumer);
+        } finally {
+            ctx.releaseJsonReader(reader);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @GwtIncompatible
+    public void readEach(Reader in, Consumer<? super T> consumer) throws JsonDeserializationException {
+        readEach(in, DEFAULT_DESERIALIZATION_CONTEXT, consumer);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @GwtIncompatible
+    public void readEach(Reader in, JsonDeserializationContext ctx, Consumer<? super T> consumer) throws JsonDeserializationException {
+        readEach(ctx.newJsonReader(in), ctx, consumer);
+    }
+
+    private T read(JsonReader reader, JsonDeserializationContext configuration) throws JsonDeserializationException {
+        JsonDeserializationContext ctx = configuration.newSession();
+        try {
+            return readValue(reader, ctx);
+        } catch (JsonDeserializationException e) {
+            // already logged, we just throw it
+            throw e;
+        } catch (RuntimeException e) {
+            throw ctx.traceError(e, reader);
+        }
+    }
+
+    private void readEach(JsonReader reader, JsonDeserializationContext configuration, Consumer<? super T> consumer) throws
+            JsonDeserializationException {
+        JsonDeserializationContext ctx = configuration.newSession();
+        try {
+
+            // a leading array is always the batch itself, newline-delimited arrays cannot be told apart from it
+            if (JsonToken.BEGIN_ARRAY == reader.peek()) {
+                reader.beginArray();
+                while (JsonToken.END_ARRAY != reader.peek()) {
+                    consumer.accept(readValue(reader, ctx));
                 }
-                String name = reader.nextName();
-                if (!name.equals(rootName)) {
-                    throw ctx.traceError("Unwrap root value is enabled but the name '" + name + "' don't match the expected rootName " +
-                            "'" + rootName + "'", reader);
+                reader.endArray();
+            } else {
+                // values following each other, the readers created by the context are lenient so they accept several
+                // top-level values
+                while (JsonToken.END_DOCUMENT != reader.peek()) {
+                    consumer.accept(readValue(reader, ctx));
                 }
-                T result = getDeserializer().deserialize(reader, ctx);
-                reader.endObject();
-                return result;
+            }
 
-            } else {
+        } catch (JsonDeserializationException e) {
+            // already logged, we just throw it
+            throw e;
+        } catch (RuntimeException e) {
+            throw ctx.traceError(e, reader);
+        }
+    }
 
-                return getDeserializer().deserialize(reader, ctx);
+    private T[] readArray(JsonReader reader, JsonDeserializationContext configuration, IntFunction<T[]> arrayCreator) throws
+            JsonDeserializationException {
+        JsonDeserializationContext ctx = configuration.newSession();
+        try {
 
+            T[] result;
+            int size = 0;
+            // same forms as readEach, the values are stored in the returned array directly instead of a list
+            if (JsonToken.BEGIN_ARRAY == reader.peek()) {
+                int expectedSize = ctx.isPresizeCollections() ? reader.peekLength() : -1;
+                result = arrayCreator.apply(expectedSize < 0 ? DEFAULT_ARRAY_CAPACITY : expectedSize);
+                reader.beginArray();
+                while (JsonToken.END_ARRAY != reader.peek()) {
+                    if (size == result.length) {
+                        result = Arrays.copyOf(result, size + (size >> 1) + 1);
+                    }
+                    result[size++] = readValue(reader, ctx);
+                }
+                reader.endArray();
+            } else {
+                result = arrayCreator.apply(DEFAULT_ARRAY_CAPACITY);
+                while (JsonToken.END_DOCUMENT != reader.peek()) {
+                    if (size == result.length) {
+                        result = Arrays.copyOf(result, size + (size >> 1) + 1);
+                    }
+                    result[size++] = readValue(reader, ctx);
+                }
             }
+            return size == result.length ? result : Arrays.copyOf(result, size);
 
         } catch (JsonDeserializationException e) {
             // already logged, we just throw it
@@ -93,6 +337,32 @@ public abstract class AbstractObjectMapper<T> implements ObjectMapper<T> {
         }
     }
 
+    private T readValue(JsonReader reader, JsonDeserializationContext ctx) {
+        if (ctx.isUnwrapRootValue()) {
+
+            if (JsonToken.BEGIN_OBJECT != reader.peek()) {
+                throw ctx.traceError("Unwrap root value is enabled but the input is not a JSON Object", reader);
+            }
+            reader.beginObject();
+            if (JsonToken.END_OBJECT == reader.peek()) {
+                throw ctx.traceError("Unwrap root value is enabled but the JSON Object is empty", reader);
+            }
+            String name = reader.nextName();
+            if (!name.equals(rootName)) {
+                throw ctx.traceError("Unwrap root value is enabled but the name '" + name + "' don't match the expected rootName " +
+                        "'" + rootName + "'", reader);
+            }
+            T result = getDeserializer().deserialize(reader, ctx);
+            reader.endObject();
+            return result;
+
+        } else {
+
+            return getDeserializer().deserialize(reader, ctx);
+
+        }
+    }
+
     /**
      * <p>Getter for the field <code>deserializer</code>.</p>
      *
@@ -100,10 +370,17 @@ public abstract class AbstractObjectMapper<T> implements ObjectMapper<T> {
      */
     @Override
     public JsonDeserializer<T> getDeserializer() {
-        if (null == deserializer) {
-            deserializer = newDeserializer();
+        JsonDeserializer<T> result = deserializer;
+        if (null == result) {
+            synchronized (this) {
+                result = deserializer;
+                if (null == result) {
+                    result = newDeserializer();
+                    deserializer = result;
+                }
+            }
         }
-        return deserializer;
+        return result;
     }
 
     /**
@@ -118,14 +395,151 @@ public abstract class AbstractObjectMapper<T> implements ObjectMapper<T> {
      */
     @Override
     public String write(T value) throws JsonSerializationException {
-        return write(value, DefaultJsonSerializationContext.builder().build());
+        return write(value, DEFAULT_SERIALIZATION_CONTEXT);
     }
 
     /**
      * {@inheritDoc}
      */
     public String write(T value, JsonSerializationContext ctx) throws JsonSerializationException {
-        JsonWriter writer = ctx.newJsonWriter();
+        JsonWriter writer = ctx.obtainJsonWriter();
+        try {
+            write(value, writer, ctx);
+            return writer.getOutput();
+        } finally {
+            ctx.releaseJsonWriter(writer);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @GwtIncompatible
+    public void write(T value, Appendable out) throws JsonSerializationException {
+        write(value, out, DEFAULT_SERIALIZATION_CONTEXT);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @GwtIncompatible
+    public void write(T value, Appendable out, JsonSerializationContext ctx) throws JsonSerializationException {
+        JsonWriter writer = ctx.newJsonWriter(out);
+        write(value, writer, ctx);
+        writer.flush();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @GwtIncompatible
+    public void write(T value, OutputStream out) throws JsonSerializationException {
+        write(value, out, DEFAULT_SERIALIZATION_CONTEXT);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @GwtIncompatible
+    public void write(T value, OutputStream out, JsonSerializationContext ctx) throws JsonSerializationException {
+        JsonWriter writer = ctx.newJsonWriter(out);
+        write(value, writer, ctx);
+        writer.flush();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @GwtIncompatible
+    public void writeParallel(Collection<? extends T> values, Appendable out) throws JsonSerializationException {
+        writeParallel(values, out, DEFAULT_SERIALIZATION_CONTEXT, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @GwtIncompatible
+    public void writeParallel(Collection<? extends T> values, Appendable out, JsonSerializationContext ctx,
+                              ExecutorService executor) throws JsonSerializationException {
+        Object[] array = values.toArray();
+        int chunks = Runtime.getRuntime().availableProcessors() * PARALLEL_CHUNKS_PER_PROCESSOR;
+        int chunkSize = Math.max(MIN_PARALLEL_CHUNK_SIZE, (array.length + chunks - 1) / chunks);
+
+        List<Future<StringBuilder>> futures = new ArrayList<Future<StringBuilder>>();
+        try {
+            for (int start = 0; start < array.length || start == 0; start += chunkSize) {
+                int chunkStart = start;
+                int chunkEnd = Math.min(array.length, start + chunkSize);
+                futures.add(executor.submit(() -> writeChunk(array, chunkStart, chunkEnd, ctx)));
+            }
+
+            List<StringBuilder> outputs = new ArrayList<StringBuilder>(futures.size());
+            for (Future<StringBuilder> future : futures) {
+                outputs.add(future.get());
+            }
+
+            // each chunk is a complete array, the first one gives the opening and closing of the whole array, the others only
+            // their elements
+            StringBuilder first = outputs.get(0);
+            int firstEnd = arrayContentEnd(first);
+            out.append(first, 0, firstEnd);
+            for (int i = 1; i < outputs.size(); i++) {
+                StringBuilder output = outputs.get(i);
+                out.append(',').append(output, 1, arrayContentEnd(output));
+            }
+            out.append(first, firstEnd, first.length());
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new JsonSerializationException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new JsonSerializationException(e);
+        } catch (IOException e) {
+            throw new JsonSerializationException("Cannot write the output", e);
+        } finally {
+            for (Future<StringBuilder> future : futures) {
+                future.cancel(true);
+            }
+        }
+    }
+
+    @GwtIncompatible
+    private StringBuilder writeChunk(Object[] values, int start, int end, JsonSerializationContext configuration) {
+        // the chunks are written independently, an object written in one of them could not be referred to by its id in another
+        JsonSerializationContext ctx = configuration.newSessionWithoutObjectIds();
+        StringBuilder out = new StringBuilder();
+        JsonWriter writer = ctx.newJsonWriter(out);
+        writer.beginArray();
+        for (int i = start; i < end; i++) {
+            writeValue((T) values[i], writer, ctx);
+        }
+        writer.endArray();
+        writer.flush();
+        return out;
+    }
+
+    /**
+     * @return the index of the closing bracket of an array written alone, or of the line break before it when pretty printed
+     */
+    @GwtIncompatible
+    private static int arrayContentEnd(StringBuilder array) {
+        int end = array.length() - 1;
+        return array.charAt(end - 1) == '\n' ? end - 1 : end;
+    }
+
+    private void write(T value, JsonWriter writer, JsonSerializationContext configuration) throws JsonSerializationException {
+        writeValue(value, writer, configuration.newSession());
+    }
+
+    private void writeValue(T value, JsonWriter writer, JsonSerializationContext ctx) throws JsonSerializationException {
         try {
             if (ctx.isWrapRootValue()) {
                 writer.beginObject();
@@ -135,7 +549,6 @@ public abstract class AbstractObjectMapper<T> implements ObjectMapper<T> {
             } else {
                 getSerializer().serialize(writer, value, ctx);
             }
-            return writer.getOutput();
         } catch (JsonSerializationException e) {
             // already logged, we just throw it
             throw e;
@@ -151,10 +564,17 @@ public abstract class AbstractObjectMapper<T> implements ObjectMapper<T> {
      */
     @Override
     public JsonSerializer<T> getSerializer() {
-        if (null == serializer) {
-            serializer = (JsonSerializer<T>) newSerializer();
+        JsonSerializer<T> result = serializer;
+        if (null == result) {
+            synchronized (this) {
+                result = serializer;
+                if (null == result) {
+                    result = (JsonSerializer<T>) newSerializer();
+                    serializer = result;
+                }
+            }
         }
-        return serializer;
+        return result;
     }
 
     /**
@@ -17,10 +17,15 @@
 package com.progressoft.brix.domino.gwtjackson;
 
 import com.fasterxml.jackson.annotation.ObjectIdGenerator.IdKey;
+import com.progressoft.brix.domino.gwtjackson.annotation.GwtIncompatible;
 import com.progressoft.brix.domino.gwtjackson.exception.JsonDeserializationException;
 import com.progressoft.brix.domino.gwtjackson.stream.JsonReader;
-import com.progressoft.brix.domino.gwtjackson.stream.impl.NonBufferedJsonReader;
+import com.progressoft.brix.domino.gwtjackson.stream.impl.DefaultJsonReader;
+import com.progressoft.brix.domino.gwtjackson.stream.impl.JsonStreamPool;
+import com.progressoft.brix.domino.gwtjackson.stream.impl.Utf8JsonReader;
 
+import java.io.Reader;
+import java.nio.ByteBuffer;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.logging.Level;
@@ -63,6 +68,10 @@ public class DefaultJsonDeserializationContext implements JsonDeserializationCon
 
         protected boolean useBrowserTimezone = false;
 
+        protected boolean presizeCollections = false;
+
+        protected int expectedObjectIds = 0;
+
         /**
          * @deprecated Use {@link DefaultJsonDeserializationContext#builder()} instead. This constructor will be made protected in v1.0.
          */
@@ -191,9 +200,37 @@ public class DefaultJsonDeserializationContext implements JsonDeserializationCon
             return this;
         }
 
+        /**
+         * Feature that determines whether collections and maps are created with the number of elements found by looking ahead
+         * in the input with {@link JsonReader#peekLength()}, instead of growing while they are filled. The look ahead scans each
+         * array and object one more time, so it only pays off when most collections are large.
+         * Default is false. Collections whose end is not in the buffer of the reader, and readers that cannot look ahead, are
+         * not presized.
+         *
+         * @param presizeCollections true if collections and maps should be presized
+         * @return the builder
+         */
+        public Builder presizeCollections(boolean presizeCollections) {
+            this.presizeCollections = presizeCollections;
+            return this;
+        }
+
+        /**
+         * Number of objects with an identity (see {@link com.fasterxml.jackson.annotation.JsonIdentityInfo}) expected in one
+         * input, so the tables of ids are created with the right size instead of growing while a large graph is read.
+         * Default is 0, the tables start small.
+         *
+         * @param expectedObjectIds the number of objects with an identity expected
+         * @return the builder
+         */
+        public Builder expectedObjectIds(int expectedObjectIds) {
+            this.expectedObjectIds = expectedObjectIds;
+            return this;
+        }
+
         public final JsonDeserializationContext build() {
             return new DefaultJsonDeserializationContext(failOnUnknownProperties, unwrapRootValue, acceptSingleValueAsArray, wrapExceptions,
-                    useSafeEval, readUnknownEnumValuesAsNull, useBrowserTimezone);
+                    useSafeEval, readUnknownEnumValuesAsNull, useBrowserTimezone, presizeCollections, expectedObjectIds);
         }
     }
 
@@ -213,10 +250,40 @@ public class DefaultJsonDeserializationContext implements JsonDeserializationCon
         return new DefaultBuilder();
     }
 
+    /**
+     * Tables of the objects with an int or a long id for one generator type and scope
+     */
+    private static final class IdTables {
+
+        private final Class<?> type;
+
+        private final Class<?> scope;
+
+        private final IdTables next;
+
+        private ObjectIdTable ints;
+
+        private ObjectIdTable longs;
+
+        private IdTables(Class<?> type, Class<?> scope, IdTables next) {
+            this.type = type;
+            this.scope = scope;
+            this.next = next;
+        }
+    }
+
     private static final Logger logger = Logger.getLogger("JsonDeserialization");
 
+    /**
+     * Objects whose id is neither an int nor a long
+     */
     private Map<IdKey, Object> idToObject;
 
+    /**
+     * Objects with an int or a long id, one entry per generator type and scope, so usually just one
+     */
+    private IdTables idTables;
+
     /*
      * Deserialization options
      */
@@ -234,9 +301,13 @@ public class DefaultJsonDeserializationContext implements JsonDeserializationCon
 
     private final boolean useBrowserTimezone;
 
+    private final boolean presizeCollections;
+
+    private final int expectedObjectIds;
+
     private DefaultJsonDeserializationContext(boolean failOnUnknownProperties, boolean unwrapRootValue, boolean acceptSingleValueAsArray,
                                               boolean wrapExceptions, boolean useSafeEval, boolean readUnknownEnumValuesAsNull,
-                                              boolean useBrowserTimezone) {
+                                              boolean useBrowserTimezone, boolean presizeCollections, int expectedObjectIds) {
         this.failOnUnknownProperties = failOnUnknownProperties;
         this.unwrapRootValue = unwrapRootValue;
         this.acceptSingleValueAsArray = acceptSingleValueAsArray;
@@ -244,6 +315,26 @@ public class DefaultJsonDeserializationContext implements JsonDeserializationCon
         this.useSafeEval = useSafeEval;
         this.readUnknownEnumValuesAsNull = readUnknownEnumValuesAsNull;
         this.useBrowserTimezone = useBrowserTimezone;
+        this.presizeCollections = presizeCollections;
+        this.expectedObjectIds = expectedObjectIds;
+    }
+
+    private DefaultJsonDeserializationContext(DefaultJsonDeserializationContext configuration) {
+        this(configuration.failOnUnknownProperties, configuration.unwrapRootValue, configuration.acceptSingleValueAsArray,
+                configuration.wrapExceptions, configuration.useSafeEval, configuration.readUnknownEnumValuesAsNull,
+                configuration.useBrowserTimezone, configuration.presizeCollections, configuration.expectedObjectIds);
+    }
+
+    /**
+     * Returns a context with the options of this one and no object id registered yet. The options never change once built, so a
+     * context returned by {@link Builder#build()} can be kept and shared by threads as long as each deserialization runs in
+     * its own session, which is what {@link AbstractObjectMapper} does.
+     *
+     * @return a new {@link JsonDeserializationContext} for one deserialization
+     */
+    @Override
+    public JsonDeserializationContext newSession() {
+        return new DefaultJsonDeserializationContext(this);
     }
 
     /**
@@ -320,6 +411,17 @@ public class DefaultJsonDeserializationContext implements JsonDeserializationCon
         return useBrowserTimezone;
     }
 
+    /**
+     * <p>isPresizeCollections</p>
+     *
+     * @return a boolean.
+     * @see Builder#presizeCollections(boolean)
+     */
+    @Override
+    public boolean isPresizeCollections() {
+        return presizeCollections;
+    }
+
     /**
      * <p>newJsonReader</p>
      *
@@ -328,7 +430,73 @@ public class DefaultJsonDeserializationContext implements JsonDeserializationCon
      */
     @Override
     public JsonReader newJsonReader(String input) {
-        JsonReader reader = new NonBufferedJsonReader(input);
+        JsonReader reader = JsonStreamPool.newReader(input);
+        reader.setLenient(true);
+        return reader;
+    }
+
+    /**
+     * Returns a reader of {@code input} reused from previous reads of the current thread when possible. It must be given back
+     * with {@link #releaseJsonReader(JsonReader)} and not be used after.
+     *
+     * @param input a {@link String} object.
+     * @return a {@link com.progressoft.brix.domino.gwtjackson.stream.JsonReader} object.
+     */
+    @Override
+    public JsonReader obtainJsonReader(String input) {
+        JsonReader reader = JsonStreamPool.get().obtainReader(input);
+        reader.setLenient(true);
+        return reader;
+    }
+
+    /**
+     * Gives back a reader obtained with {@link #obtainJsonReader(String)} so it can be reused.
+     *
+     * @param reader a {@link com.progressoft.brix.domino.gwtjackson.stream.JsonReader} object.
+     */
+    @Override
+    public void releaseJsonReader(JsonReader reader) {
+        JsonStreamPool.get().releaseReader(reader);
+    }
+
+    /**
+     * <p>newJsonReader</p>
+     *
+     * @param input a UTF-8 encoded JSON input.
+     * @return a {@link com.progressoft.brix.domino.gwtjackson.stream.JsonReader} object.
+     */
+    @Override
+    @GwtIncompatible
+    public JsonReader newJsonReader(byte[] input) {
+        JsonReader reader = new Utf8JsonReader(input);
+        reader.setLenient(true);
+        return reader;
+    }
+
+    /**
+     * <p>newJsonReader</p>
+     *
+     * @param input a UTF-8 encoded JSON input.
+     * @return a {@link com.progressoft.brix.domino.gwtjackson.stream.JsonReader} object.
+     */
+    @Override
+    @GwtIncompatible
+    public JsonReader newJsonReader(ByteBuffer input) {
+        JsonReader reader = new Utf8JsonReader(input);
+        reader.setLenient(true);
+        return reader;
+    }
+
+    /**
+     * <p>newJsonReader</p>
+     *
+     * @param input a {@link Reader} object.
+     * @return a {@link com.progressoft.brix.domino.gwtjackson.stream.JsonReader} object.
+     */
+    @Override
+    @GwtIncompatible
+    public JsonReader newJsonReader(Reader input) {
+        JsonReader reader = new DefaultJsonReader(input);
         reader.setLenient(true);
         return reader;
     }
@@ -406,10 +574,7 @@ public class DefaultJsonDeserializationContext implements JsonDeserializationCon
      */
     @Override
     public void addObjectId(IdKey id, Object instance) {
-        if (null == idToObject) {
-            idToObject = new HashMap<IdKey, Object>();
-        }
-        idToObject.put(id, instance);
+        addObjectId(id.type, id.scope, id.key, instance);
     }
 
     /**
@@ -420,12 +585,74 @@ public class DefaultJsonDeserializationContext implements JsonDeserializationCon
      */
     @Override
     public Object getObjectWithId(IdKey id) {
-        if (null != idToObject) {
-            return idToObject.get(id);
+        return getObjectWithId(id.type, id.scope, id.key);
+    }
+
+    /**
+     * Registers an object with its id. Ids of type int or long, as produced by
+     * {@link com.fasterxml.jackson.annotation.ObjectIdGenerators.IntSequenceGenerator}, are kept in a table keyed by the
+     * primitive value and no {@link IdKey} is created.
+     *
+     * @param type     type of the id generator
+     * @param scope    scope of the id, null for a global scope
+     * @param id       the id
+     * @param instance the object
+     */
+    @Override
+    public void addObjectId(Class<?> type, Class<?> scope, Object id, Object instance) {
+        if (id instanceof Integer || id instanceof Long) {
+            IdTables tables = getIdTables(type, scope);
+            if (null == tables) {
+                tables = idTables = new IdTables(type, scope, idTables);
+            }
+            if (id instanceof Integer) {
+                if (null == tables.ints) {
+                    tables.ints = new ObjectIdTable(expectedObjectIds);
+                }
+                tables.ints.put((Integer) id, instance);
+            } else {
+                if (null == tables.longs) {
+                    tables.longs = new ObjectIdTable(expectedObjectIds);
+                }
+                tables.longs.put((Long) id, instance);
+            }
+        } else {
+            if (null == idToObject) {
+                idToObject = expectedObjectIds > 0 ? new HashMap<IdKey, Object>(expectedObjectIds * 4 / 3 + 1)
+                        : new HashMap<IdKey, Object>();
+            }
+            idToObject.put(new IdKey(type, scope, id), instance);
+        }
+    }
+
+    /**
+     * Returns the object registered with an id by {@link #addObjectId(Class, Class, Object, Object)}.
+     *
+     * @param type  type of the id generator
+     * @param scope scope of the id, null for a global scope
+     * @param id    the id
+     * @return the object or null if there is none
+     */
+    @Override
+    public Object getObjectWithId(Class<?> type, Class<?> scope, Object id) {
+        if (id instanceof Integer || id instanceof Long) {
+            IdTables tables = getIdTables(type, scope);
+            ObjectIdTable table = null == tables ? null : id instanceof Integer ? tables.ints : tables.longs;
+            return null == table ? null : table.get(((Number) id).longValue());
+        } else if (null != idToObject) {
+            return idToObject.get(new IdKey(type, scope, id));
         }
         return null;
     }
 
+    private IdTables getIdTables(Class<?> type, Class<?> scope) {
+        IdTables tables = idTables;
+        while (null != tables && (tables.type != type || tables.scope != scope)) {
+            tables = tables.next;
+        }
+        return tables;
+    }
+
     @Override
     public JsonDeserializerParameters defaultParameters() {
         return GwtJacksonJsonDeserializerParameters.DEFAULT;
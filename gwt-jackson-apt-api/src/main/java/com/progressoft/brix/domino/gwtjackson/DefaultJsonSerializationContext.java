@@ -17,12 +17,15 @@
 package com.progressoft.brix.domino.gwtjackson;
 
 import com.fasterxml.jackson.annotation.ObjectIdGenerator;
+import com.progressoft.brix.domino.gwtjackson.annotation.GwtIncompatible;
 import com.progressoft.brix.domino.gwtjackson.exception.JsonSerializationException;
 import com.progressoft.brix.domino.gwtjackson.ser.bean.AbstractBeanJsonSerializer;
 import com.progressoft.brix.domino.gwtjackson.ser.bean.ObjectIdSerializer;
 import com.progressoft.brix.domino.gwtjackson.stream.JsonWriter;
-import com.progressoft.brix.domino.gwtjackson.stream.impl.FastJsonWriter;
+import com.progressoft.brix.domino.gwtjackson.stream.impl.DefaultJsonWriter;
+import com.progressoft.brix.domino.gwtjackson.stream.impl.JsonStreamPool;
 
+import java.io.OutputStream;
 import java.util.*;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -52,6 +55,8 @@ public class DefaultJsonSerializationContext implements JsonSerializationContext
 
         protected boolean useEqualityForObjectId = false;
 
+        protected int expectedObjectIds = 0;
+
         protected boolean serializeNulls = true;
 
         protected boolean writeDatesAsTimestamps = true;
@@ -292,10 +297,25 @@ public class DefaultJsonSerializationContext implements JsonSerializationContext
             return this;
         }
 
+        /**
+         * Number of objects with an identity (see {@link com.fasterxml.jackson.annotation.JsonIdentityInfo}) expected in one
+         * value, so the map of the objects already written is created with the right size instead of growing while a large
+         * graph is written. The JRE maps use it, the GWT emulated maps ignore it.
+         * Default is 0, the map starts small.
+         *
+         * @param expectedObjectIds the number of objects with an identity expected
+         * @return the builder
+         */
+        public Builder expectedObjectIds(int expectedObjectIds) {
+            this.expectedObjectIds = expectedObjectIds;
+            return this;
+        }
+
         public final JsonSerializationContext build() {
             return new DefaultJsonSerializationContext(useEqualityForObjectId, serializeNulls, writeDatesAsTimestamps,
                     writeDateKeysAsTimestamps, indent, wrapRootValue, writeCharArraysAsJsonArrays, writeNullMapValues,
-                    writeEmptyJsonArrays, orderMapEntriesByKeys, writeSingleElemArraysUnwrapped, wrapExceptions);
+                    writeEmptyJsonArrays, orderMapEntriesByKeys, writeSingleElemArraysUnwrapped, wrapExceptions, expectedObjectIds,
+                    true);
         }
     }
 
@@ -321,6 +341,11 @@ public class DefaultJsonSerializationContext implements JsonSerializationContext
 
     private List<ObjectIdGenerator<?>> generators;
 
+    /**
+     * False in the sessions returned by {@link #newSessionWithoutObjectIds()}
+     */
+    private final boolean objectIdsAllowed;
+
     /*
      * Serialization options
      */
@@ -348,11 +373,13 @@ public class DefaultJsonSerializationContext implements JsonSerializationContext
 
     private final boolean wrapExceptions;
 
+    private final int expectedObjectIds;
+
     private DefaultJsonSerializationContext(boolean useEqualityForObjectId, boolean serializeNulls, boolean writeDatesAsTimestamps, boolean
             writeDateKeysAsTimestamps, boolean indent, boolean wrapRootValue, boolean writeCharArraysAsJsonArrays, boolean
                                                     writeNullMapValues, boolean writeEmptyJsonArrays, boolean orderMapEntriesByKeys, boolean
                                                     writeSingleElemArraysUnwrapped,
-                                            boolean wrapExceptions) {
+                                            boolean wrapExceptions, int expectedObjectIds, boolean objectIdsAllowed) {
         this.useEqualityForObjectId = useEqualityForObjectId;
         this.serializeNulls = serializeNulls;
         this.writeDatesAsTimestamps = writeDatesAsTimestamps;
@@ -365,6 +392,36 @@ public class DefaultJsonSerializationContext implements JsonSerializationContext
         this.orderMapEntriesByKeys = orderMapEntriesByKeys;
         this.writeSingleElemArraysUnwrapped = writeSingleElemArraysUnwrapped;
         this.wrapExceptions = wrapExceptions;
+        this.expectedObjectIds = expectedObjectIds;
+        this.objectIdsAllowed = objectIdsAllowed;
+    }
+
+    private DefaultJsonSerializationContext(DefaultJsonSerializationContext configuration, boolean objectIdsAllowed) {
+        this(configuration.useEqualityForObjectId, configuration.serializeNulls, configuration.writeDatesAsTimestamps,
+                configuration.writeDateKeysAsTimestamps, configuration.indent, configuration.wrapRootValue,
+                configuration.writeCharArraysAsJsonArrays, configuration.writeNullMapValues, configuration.writeEmptyJsonArrays,
+                configuration.orderMapEntriesByKeys, configuration.writeSingleElemArraysUnwrapped, configuration.wrapExceptions,
+                configuration.expectedObjectIds, objectIdsAllowed);
+    }
+
+    /**
+     * Returns a context with the options of this one and no object id or generator registered yet. The options never change
+     * once built, so a context returned by {@link Builder#build()} can be kept and shared by threads as long as each
+     * serialization runs in its own session, which is what {@link AbstractObjectMapper} does.
+     *
+     * @return a new {@link JsonSerializationContext} for one serialization
+     */
+    @Override
+    public JsonSerializationContext newSession() {
+        return new DefaultJsonSerializationContext(this, true);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public JsonSerializationContext newSessionWithoutObjectIds() {
+        return new DefaultJsonSerializationContext(this, false);
     }
 
     /**
@@ -481,7 +538,65 @@ public class DefaultJsonSerializationContext implements JsonSerializationContext
      */
     @Override
     public JsonWriter newJsonWriter() {
-        JsonWriter writer = new FastJsonWriter(new StringBuilder());
+        JsonWriter writer = JsonStreamPool.newWriter();
+        writer.setLenient(true);
+        if (indent) {
+            writer.setIndent("  ");
+        }
+        return writer;
+    }
+
+    /**
+     * Returns a writer reused from previous writes of the current thread when possible. It must be given back with
+     * {@link #releaseJsonWriter(JsonWriter)} once its output is read and not be used after.
+     *
+     * @return a {@link com.progressoft.brix.domino.gwtjackson.stream.JsonWriter} object.
+     */
+    @Override
+    public JsonWriter obtainJsonWriter() {
+        JsonWriter writer = JsonStreamPool.get().obtainWriter();
+        writer.setLenient(true);
+        writer.setIndent(indent ? "  " : "");
+        return writer;
+    }
+
+    /**
+     * Gives back a writer obtained with {@link #obtainJsonWriter()} so it can be reused.
+     *
+     * @param writer a {@link com.progressoft.brix.domino.gwtjackson.stream.JsonWriter} object.
+     */
+    @Override
+    public void releaseJsonWriter(JsonWriter writer) {
+        JsonStreamPool.get().releaseWriter(writer);
+    }
+
+    /**
+     * <p>newJsonWriter</p>
+     *
+     * @param out where the JSON output is written
+     * @return a {@link com.progressoft.brix.domino.gwtjackson.stream.JsonWriter} object.
+     */
+    @Override
+    @GwtIncompatible
+    public JsonWriter newJsonWriter(Appendable out) {
+        JsonWriter writer = new DefaultJsonWriter(out);
+        writer.setLenient(true);
+        if (indent) {
+            writer.setIndent("  ");
+        }
+        return writer;
+    }
+
+    /**
+     * <p>newJsonWriter</p>
+     *
+     * @param out where the UTF-8 encoded JSON output is written
+     * @return a {@link com.progressoft.brix.domino.gwtjackson.stream.JsonWriter} object.
+     */
+    @Override
+    @GwtIncompatible
+    public JsonWriter newJsonWriter(OutputStream out) {
+        JsonWriter writer = new DefaultJsonWriter(out);
         writer.setLenient(true);
         if (indent) {
             writer.setIndent("  ");
@@ -568,11 +683,16 @@ public class DefaultJsonSerializationContext implements JsonSerializationContext
      */
     @Override
     public void addObjectId(Object object, ObjectIdSerializer<?> id) {
+        if (!objectIdsAllowed) {
+            throw traceError(object, "Values with an object identity cannot be written in this session");
+        }
         if (null == mapObjectId) {
             if (useEqualityForObjectId) {
-                mapObjectId = new HashMap<Object, ObjectIdSerializer<?>>();
+                mapObjectId = expectedObjectIds > 0 ? new HashMap<Object, ObjectIdSerializer<?>>(expectedObjectIds * 4 / 3 + 1)
+                        : new HashMap<Object, ObjectIdSerializer<?>>();
             } else {
-                mapObjectId = new IdentityHashMap<Object, ObjectIdSerializer<?>>();
+                mapObjectId = expectedObjectIds > 0 ? new IdentityHashMap<Object, ObjectIdSerializer<?>>(expectedObjectIds)
+                        : new IdentityHashMap<Object, ObjectIdSerializer<?>>();
             }
         }
         mapObjectId.put(object, id);
@@ -600,6 +720,9 @@ public class DefaultJsonSerializationContext implements JsonSerializationContext
     @Override
     @SuppressWarnings("UnusedDeclaration")
     public void addGenerator(ObjectIdGenerator<?> generator) {
+        if (!objectIdsAllowed) {
+            throw traceError(generator, "Values with an object identity cannot be written in this session");
+        }
         if (null == generators) {
             generators = new ArrayList<ObjectIdGenerator<?>>();
         }
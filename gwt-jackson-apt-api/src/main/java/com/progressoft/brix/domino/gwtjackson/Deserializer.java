@@ -26,9 +26,9 @@ import com.progressoft.brix.domino.gwtjackson.deser.map.key.KeyDeserializer;
  */
 public abstract class Deserializer<T> {
 
-    private KeyDeserializer<T> key;
+    private volatile KeyDeserializer<T> key;
 
-    private JsonDeserializer<T> json;
+    private volatile JsonDeserializer<T> json;
 
     /**
      * <p>key</p>
@@ -36,10 +36,17 @@ public abstract class Deserializer<T> {
      * @return a {@link com.progressoft.brix.domino.gwtjackson.deser.map.key.KeyDeserializer} object.
      */
     public KeyDeserializer<T> key() {
-        if (null == key) {
-            key = createKeyDeserializer();
+        KeyDeserializer<T> result = key;
+        if (null == result) {
+            synchronized (this) {
+                result = key;
+                if (null == result) {
+                    result = createKeyDeserializer();
+                    key = result;
+                }
+            }
         }
-        return key;
+        return result;
     }
 
     /**
@@ -55,10 +62,17 @@ public abstract class Deserializer<T> {
      * @return a {@link com.progressoft.brix.domino.gwtjackson.JsonDeserializer} object.
      */
     public JsonDeserializer<T> json() {
-        if (null == json) {
-            json = createJsonDeserializer();
+        JsonDeserializer<T> result = json;
+        if (null == result) {
+            synchronized (this) {
+                result = json;
+                if (null == result) {
+                    result = createJsonDeserializer();
+                    json = result;
+                }
+            }
         }
-        return json;
+        return result;
     }
 
     /**
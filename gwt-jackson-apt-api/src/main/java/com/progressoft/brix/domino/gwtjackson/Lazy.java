@@ -0,0 +1,85 @@
+/*
+ * Copyright 2017 Ahmad Bawaneh
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.progressoft.brix.domino.gwtjackson;
+
+import java.util.function.Supplier;
+
+/**
+ * Holder of a bean property that is deserialized on first access. Declaring a property as {@code Lazy<T>} makes the generated
+ * deserializer skip its JSON value and only remember where it is in the input, the value is deserialized by the
+ * first call to {@link #get()}. Errors in the skipped JSON are reported by that call.
+ *
+ * @param <T> type of the value
+ */
+public final class Lazy<T> {
+
+    /**
+     * @param value the value
+     * @param <T>   type of the value
+     * @return a holder of an already available value
+     */
+    public static <T> Lazy<T> of(T value) {
+        return new Lazy<>(value, null);
+    }
+
+    /**
+     * @param supplier computes the value on first access
+     * @param <T>      type of the value
+     * @return a holder of a value computed by {@code supplier} on first access
+     */
+    public static <T> Lazy<T> of(Supplier<T> supplier) {
+        if (null == supplier) {
+            throw new IllegalArgumentException("supplier cannot be null");
+        }
+        return new Lazy<>(null, supplier);
+    }
+
+    private T value;
+
+    /**
+     * cleared once {@link #value} is set, its volatile write publishes the value to the other threads
+     */
+    private volatile Supplier<T> supplier;
+
+    private Lazy(T value, Supplier<T> supplier) {
+        this.value = value;
+        this.supplier = supplier;
+    }
+
+    /**
+     * @return the value, computed on the first call. Threads calling it concurrently wait for that computation and all get the
+     * same value.
+     */
+    public T get() {
+        if (null != supplier) {
+            synchronized (this) {
+                Supplier<T> pending = supplier;
+                if (null != pending) {
+                    value = pending.get();
+                    supplier = null;
+                }
+            }
+        }
+        return value;
+    }
+
+    /**
+     * @return true if the value is available without computing it
+     */
+    public boolean isLoaded() {
+        return null == supplier;
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright 2017 Ahmad Bawaneh
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.progressoft.brix.domino.gwtjackson;
+
+/**
+ * Open addressing table of the instances read for one generator type and scope, keyed by their primitive integer id. Ids come
+ * from sequence generators, so they are mostly consecutive and their low bits alone spread them well enough for linear
+ * probing, without boxing the keys nor allocating an entry per instance.
+ */
+final class ObjectIdTable {
+
+    private static final int MIN_CAPACITY = 16;
+
+    private long[] keys;
+
+    /**
+     * Instances of the ids, a null value marks an empty slot
+     */
+    private Object[] values;
+
+    private int size;
+
+    /**
+     * @param expectedSize number of ids expected, the table does not grow until they are all added
+     */
+    ObjectIdTable(int expectedSize) {
+        int capacity = MIN_CAPACITY;
+        while (capacity < expectedSize * 2 && capacity < (1 << 30)) {
+            capacity <<= 1;
+        }
+        keys = new long[capacity];
+        values = new Object[capacity];
+    }
+
+    private static int hash(long key) {
+        int h = (int) key ^ (int) (key >>> 32);
+        return h ^ (h >>> 16);
+    }
+
+    /**
+     * @param id the id
+     * @return the instance with the id or null if there is none
+     */
+    Object get(long id) {
+        int mask = keys.length - 1;
+        for (int i = hash(id) & mask; ; i = (i + 1) & mask) {
+            Object value = values[i];
+            if (null == value || keys[i] == id) {
+                return value;
+            }
+        }
+    }
+
+    /**
+     * Registers an instance, replacing the one already registered with the same id. Null instances are not registered.
+     *
+     * @param id       the id
+     * @param instance the instance
+     */
+    void put(long id, Object instance) {
+        if (null == instance) {
+            return;
+        }
+        int mask = keys.length - 1;
+        int i = hash(id) & mask;
+        while (null != values[i]) {
+            if (keys[i] == id) {
+                values[i] = instance;
+                return;
+            }
+            i = (i + 1) & mask;
+        }
+        keys[i] = id;
+        values[i] = instance;
+        if (++size * 2 > keys.length) {
+            resize();
+        }
+    }
+
+    int size() {
+        return size;
+    }
+
+    private void resize() {
+        long[] oldKeys = keys;
+        Object[] oldValues = values;
+        keys = new long[oldKeys.length * 2];
+        values = new Object[oldValues.length * 2];
+        int mask = keys.length - 1;
+        for (int j = 0; j < oldKeys.length; j++) {
+            if (null != oldValues[j]) {
+                int i = hash(oldKeys[j]) & mask;
+                while (null != values[i]) {
+                    i = (i + 1) & mask;
+                }
+                keys[i] = oldKeys[j];
+                values[i] = oldValues[j];
+            }
+        }
+    }
+}
@@ -26,9 +26,9 @@ import com.progressoft.brix.domino.gwtjackson.ser.map.key.KeySerializer;
  */
 public abstract class Serializer<T> {
 
-    private KeySerializer<T> key;
+    private volatile KeySerializer<T> key;
 
-    private JsonSerializer<T> json;
+    private volatile JsonSerializer<T> json;
 
     /**
      * <p>key</p>
@@ -36,10 +36,17 @@ public abstract class Serializer<T> {
      * @return a {@link com.progressoft.brix.domino.gwtjackson.ser.map.key.KeySerializer} object.
      */
     public KeySerializer<T> key() {
-        if (null == key) {
-            key = createKeySerializer();
+        KeySerializer<T> result = key;
+        if (null == result) {
+            synchronized (this) {
+                result = key;
+                if (null == result) {
+                    result = createKeySerializer();
+                    key = result;
+                }
+            }
         }
-        return key;
+        return result;
     }
 
     /**
@@ -55,10 +62,17 @@ public abstract class Serializer<T> {
      * @return a {@link com.progressoft.brix.domino.gwtjackson.JsonSerializer} object.
      */
     public JsonSerializer<T> json() {
-        if (null == json) {
-            json = createJsonSerializer();
+        JsonSerializer<T> result = json;
+        if (null == result) {
+            synchronized (this) {
+                result = json;
+                if (null == result) {
+                    result = createJsonSerializer();
+                    json = result;
+                }
+            }
         }
-        return json;
+        return result;
     }
 
     /**
@@ -21,6 +21,7 @@ import com.progressoft.brix.domino.gwtjackson.JsonDeserializationContext;
 import com.progressoft.brix.domino.gwtjackson.stream.JsonReader;
 import com.progressoft.brix.domino.gwtjackson.stream.JsonToken;
 import com.progressoft.brix.domino.gwtjackson.utils.DateFormat;
+import com.progressoft.brix.domino.gwtjackson.utils.Iso8601Format;
 
 import java.sql.Time;
 import java.sql.Timestamp;
@@ -69,7 +70,7 @@ public abstract class BaseDateJsonDeserializer<D extends Date> extends JsonDeser
 
         private static final SqlDateJsonDeserializer INSTANCE = new SqlDateJsonDeserializer();
 
-        private static final String SQL_DATE_FORMAT = "yyyy-MM-dd";
+        private static final String SQL_DATE_FORMAT = Iso8601Format.PLAIN_PATTERN;
 
         /**
          * @return an instance of {@link SqlDateJsonDeserializer}
@@ -88,6 +89,12 @@ public abstract class BaseDateJsonDeserializer<D extends Date> extends JsonDeser
 
         @Override
         protected java.sql.Date deserializeString(String date, JsonDeserializationContext ctx, JsonDeserializerParameters params) {
+            if (!ctx.isUseBrowserTimezone()) {
+                long millis = Iso8601Format.parseDateUtc(date);
+                if (millis != Iso8601Format.INVALID) {
+                    return new java.sql.Date(millis);
+                }
+            }
             return new java.sql.Date(DateFormat.parse(ctx.isUseBrowserTimezone(), SQL_DATE_FORMAT, false, date).getTime());
         }
     }
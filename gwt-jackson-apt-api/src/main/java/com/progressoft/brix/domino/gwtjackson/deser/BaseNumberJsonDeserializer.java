@@ -52,7 +52,7 @@ public abstract class BaseNumberJsonDeserializer<N extends Number> extends JsonD
 
         @Override
         protected BigDecimal doDeserialize(JsonReader reader, JsonDeserializationContext ctx, JsonDeserializerParameters params) {
-            return new BigDecimal(reader.nextString());
+            return reader.nextBigDecimal();
         }
     }
 
@@ -75,7 +75,7 @@ public abstract class BaseNumberJsonDeserializer<N extends Number> extends JsonD
 
         @Override
         protected BigInteger doDeserialize(JsonReader reader, JsonDeserializationContext ctx, JsonDeserializerParameters params) {
-            return new BigInteger(reader.nextString());
+            return reader.nextBigInteger();
         }
     }
 
@@ -144,7 +144,7 @@ public abstract class BaseNumberJsonDeserializer<N extends Number> extends JsonD
 
         @Override
         protected Float doDeserialize(JsonReader reader, JsonDeserializationContext ctx, JsonDeserializerParameters params) {
-            return Float.parseFloat(reader.nextString());
+            return reader.nextFloat();
         }
     }
 
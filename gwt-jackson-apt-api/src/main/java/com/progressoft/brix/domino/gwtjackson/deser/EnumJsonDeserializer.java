@@ -20,6 +20,7 @@ import com.progressoft.brix.domino.gwtjackson.JsonDeserializationContext;
 import com.progressoft.brix.domino.gwtjackson.JsonDeserializer;
 import com.progressoft.brix.domino.gwtjackson.JsonDeserializerParameters;
 import com.progressoft.brix.domino.gwtjackson.stream.JsonReader;
+import com.progressoft.brix.domino.gwtjackson.stream.PropertyNameTable;
 
 /**
  * Default {@link JsonDeserializer} implementation for {@link Enum}.
@@ -43,6 +44,10 @@ public class EnumJsonDeserializer<E extends Enum<E>> extends JsonDeserializer<E>
 
     private final Class<E> enumClass;
 
+    private final E[] values;
+
+    private final PropertyNameTable names;
+
     /**
      * <p>Constructor for EnumJsonDeserializer.</p>
      *
@@ -53,6 +58,12 @@ public class EnumJsonDeserializer<E extends Enum<E>> extends JsonDeserializer<E>
             throw new IllegalArgumentException("enumClass cannot be null");
         }
         this.enumClass = enumClass;
+        this.values = enumClass.getEnumConstants();
+        String[] constantNames = new String[values.length];
+        for (int i = 0; i < values.length; i++) {
+            constantNames[i] = values[i].name();
+        }
+        this.names = new PropertyNameTable(constantNames);
     }
 
     /**
@@ -60,14 +71,19 @@ public class EnumJsonDeserializer<E extends Enum<E>> extends JsonDeserializer<E>
      */
     @Override
     public E doDeserialize(JsonReader reader, JsonDeserializationContext ctx, JsonDeserializerParameters params) {
-        try {
-            return Enum.valueOf(enumClass, reader.nextString());
-        } catch (IllegalArgumentException ex) {
-            if (ctx.isReadUnknownEnumValuesAsNull()) {
-                return null;
-            }
-            throw ex;
+        int index = reader.nextStringIndex(names);
+        if (index >= 0) {
+            return values[index];
+        }
+        String name = reader.nextString();
+        index = names.indexOf(name);
+        if (index >= 0) {
+            return values[index];
+        }
+        if (ctx.isReadUnknownEnumValuesAsNull()) {
+            return null;
         }
+        throw new IllegalArgumentException("No enum constant " + enumClass.getName() + "." + name);
     }
 
     /**
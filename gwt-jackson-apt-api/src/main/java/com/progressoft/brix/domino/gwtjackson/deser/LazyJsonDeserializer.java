@@ -0,0 +1,68 @@
+/*
+ * Copyright 2017 Ahmad Bawaneh
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.progressoft.brix.domino.gwtjackson.deser;
+
+import com.progressoft.brix.domino.gwtjackson.JsonDeserializationContext;
+import com.progressoft.brix.domino.gwtjackson.JsonDeserializer;
+import com.progressoft.brix.domino.gwtjackson.JsonDeserializerParameters;
+import com.progressoft.brix.domino.gwtjackson.Lazy;
+import com.progressoft.brix.domino.gwtjackson.stream.JsonReader;
+
+import java.util.function.Supplier;
+
+/**
+ * Default {@link JsonDeserializer} implementation for {@link Lazy}. The value is skipped and deserialized on the first access
+ * when the reader can read it again later, see {@link JsonReader#nextValueReader()}. Otherwise it is deserialized immediately.
+ *
+ * @param <T> Type of the value
+ */
+public class LazyJsonDeserializer<T> extends JsonDeserializer<Lazy<T>> {
+
+    /**
+     * <p>newInstance</p>
+     *
+     * @param deserializer {@link JsonDeserializer} used to deserialize the value.
+     * @param <T>          Type of the value
+     * @return a new instance of {@link LazyJsonDeserializer}
+     */
+    public static <T> LazyJsonDeserializer<T> newInstance(JsonDeserializer<T> deserializer) {
+        return new LazyJsonDeserializer<T>(deserializer);
+    }
+
+    private final JsonDeserializer<T> deserializer;
+
+    /**
+     * @param deserializer {@link JsonDeserializer} used to deserialize the value.
+     */
+    protected LazyJsonDeserializer(JsonDeserializer<T> deserializer) {
+        if (null == deserializer) {
+            throw new IllegalArgumentException("deserializer cannot be null");
+        }
+        this.deserializer = deserializer;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected Lazy<T> doDeserialize(JsonReader reader, final JsonDeserializationContext ctx, final JsonDeserializerParameters params) {
+        final Supplier<JsonReader> valueReader = reader.nextValueReader();
+        if (null == valueReader) {
+            return Lazy.of(deserializer.deserialize(reader, ctx, params));
+        }
+        return Lazy.of(() -> deserializer.deserialize(valueReader.get(), ctx, params));
+    }
+}
@@ -33,6 +33,12 @@ import java.util.List;
  */
 public abstract class AbstractArrayJsonDeserializer<T> extends JsonDeserializer<T> {
 
+    /**
+     * Initial capacity of the buffer used by the primitive array deserializers. They read the values straight into a primitive
+     * buffer, doubled when full and trimmed at the end, instead of boxing them into a {@link List}.
+     */
+    protected static final int DEFAULT_CAPACITY = 16;
+
     /**
      * {@inheritDoc}
      */
@@ -21,8 +21,9 @@ import com.progressoft.brix.domino.gwtjackson.JsonDeserializationContext;
 import com.progressoft.brix.domino.gwtjackson.JsonDeserializer;
 import com.progressoft.brix.domino.gwtjackson.deser.BooleanJsonDeserializer;
 import com.progressoft.brix.domino.gwtjackson.stream.JsonReader;
+import com.progressoft.brix.domino.gwtjackson.stream.JsonToken;
 
-import java.util.List;
+import java.util.Arrays;
 
 /**
  * Default {@link JsonDeserializer} implementation for array of boolean.
@@ -51,17 +52,32 @@ public class PrimitiveBooleanArrayJsonDeserializer extends AbstractArrayJsonDese
      */
     @Override
     public boolean[] doDeserializeArray(JsonReader reader, JsonDeserializationContext ctx, JsonDeserializerParameters params) {
-        List<Boolean> list = deserializeIntoList(reader, ctx, BooleanJsonDeserializer.getInstance(), params);
+        reader.beginArray();
+        if (JsonToken.END_ARRAY == reader.peek()) {
+            reader.endArray();
+            return new boolean[0];
+        }
 
-        boolean[] result = new boolean[list.size()];
-        int i = 0;
-        for (Boolean value : list) {
-            if (null != value) {
-                result[i] = value;
+        boolean[] result = new boolean[DEFAULT_CAPACITY];
+        int size = 0;
+        JsonToken token;
+        while (JsonToken.END_ARRAY != (token = reader.peek())) {
+            if (size == result.length) {
+                result = Arrays.copyOf(result, size * 2);
+            }
+            if (JsonToken.BOOLEAN == token) {
+                result[size] = reader.nextBoolean();
+            } else {
+                Boolean value = BooleanJsonDeserializer.getInstance().deserialize(reader, ctx, params);
+                if (null != value) {
+                    result[size] = value;
+                }
             }
-            i++;
+            size++;
         }
-        return result;
+        reader.endArray();
+
+        return size == result.length ? result : Arrays.copyOf(result, size);
     }
 
     /**
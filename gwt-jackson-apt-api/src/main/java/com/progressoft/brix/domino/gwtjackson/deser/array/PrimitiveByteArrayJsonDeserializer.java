@@ -24,7 +24,7 @@ import com.progressoft.brix.domino.gwtjackson.stream.JsonReader;
 import com.progressoft.brix.domino.gwtjackson.stream.JsonToken;
 import com.progressoft.brix.domino.gwtjackson.utils.Base64Utils;
 
-import java.util.List;
+import java.util.Arrays;
 
 /**
  * Default {@link JsonDeserializer} implementation for array of byte.
@@ -53,17 +53,32 @@ public class PrimitiveByteArrayJsonDeserializer extends AbstractArrayJsonDeseria
      */
     @Override
     public byte[] doDeserializeArray(JsonReader reader, JsonDeserializationContext ctx, JsonDeserializerParameters params) {
-        List<Byte> list = deserializeIntoList(reader, ctx, ByteJsonDeserializer.getInstance(), params);
+        reader.beginArray();
+        if (JsonToken.END_ARRAY == reader.peek()) {
+            reader.endArray();
+            return new byte[0];
+        }
 
-        byte[] result = new byte[list.size()];
-        int i = 0;
-        for (Byte value : list) {
-            if (null != value) {
-                result[i] = value;
+        byte[] result = new byte[DEFAULT_CAPACITY];
+        int size = 0;
+        JsonToken token;
+        while (JsonToken.END_ARRAY != (token = reader.peek())) {
+            if (size == result.length) {
+                result = Arrays.copyOf(result, size * 2);
+            }
+            if (JsonToken.NUMBER == token) {
+                result[size] = (byte) reader.nextInt();
+            } else {
+                Byte value = ByteJsonDeserializer.getInstance().deserialize(reader, ctx, params);
+                if (null != value) {
+                    result[size] = value;
+                }
             }
-            i++;
+            size++;
         }
-        return result;
+        reader.endArray();
+
+        return size == result.length ? result : Arrays.copyOf(result, size);
     }
 
     /**
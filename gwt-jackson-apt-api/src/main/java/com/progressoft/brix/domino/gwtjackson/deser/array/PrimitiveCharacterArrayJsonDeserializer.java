@@ -23,7 +23,7 @@ import com.progressoft.brix.domino.gwtjackson.deser.CharacterJsonDeserializer;
 import com.progressoft.brix.domino.gwtjackson.stream.JsonReader;
 import com.progressoft.brix.domino.gwtjackson.stream.JsonToken;
 
-import java.util.List;
+import java.util.Arrays;
 
 /**
  * Default {@link JsonDeserializer} implementation for array of char.
@@ -52,17 +52,32 @@ public class PrimitiveCharacterArrayJsonDeserializer extends AbstractArrayJsonDe
      */
     @Override
     public char[] doDeserializeArray(JsonReader reader, JsonDeserializationContext ctx, JsonDeserializerParameters params) {
-        List<Character> list = deserializeIntoList(reader, ctx, CharacterJsonDeserializer.getInstance(), params);
+        reader.beginArray();
+        if (JsonToken.END_ARRAY == reader.peek()) {
+            reader.endArray();
+            return new char[0];
+        }
 
-        char[] result = new char[list.size()];
-        int i = 0;
-        for (Character value : list) {
-            if (null != value) {
-                result[i] = value;
+        char[] result = new char[DEFAULT_CAPACITY];
+        int size = 0;
+        JsonToken token;
+        while (JsonToken.END_ARRAY != (token = reader.peek())) {
+            if (size == result.length) {
+                result = Arrays.copyOf(result, size * 2);
+            }
+            if (JsonToken.NUMBER == token) {
+                result[size] = (char) reader.nextInt();
+            } else {
+                Character value = CharacterJsonDeserializer.getInstance().deserialize(reader, ctx, params);
+                if (null != value) {
+                    result[size] = value;
+                }
             }
-            i++;
+            size++;
         }
-        return result;
+        reader.endArray();
+
+        return size == result.length ? result : Arrays.copyOf(result, size);
     }
 
     /**
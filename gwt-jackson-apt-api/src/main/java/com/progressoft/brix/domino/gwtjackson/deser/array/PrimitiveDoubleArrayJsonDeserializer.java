@@ -21,8 +21,9 @@ import com.progressoft.brix.domino.gwtjackson.JsonDeserializationContext;
 import com.progressoft.brix.domino.gwtjackson.JsonDeserializer;
 import com.progressoft.brix.domino.gwtjackson.deser.BaseNumberJsonDeserializer.DoubleJsonDeserializer;
 import com.progressoft.brix.domino.gwtjackson.stream.JsonReader;
+import com.progressoft.brix.domino.gwtjackson.stream.JsonToken;
 
-import java.util.List;
+import java.util.Arrays;
 
 /**
  * Default {@link JsonDeserializer} implementation for array of double.
@@ -51,17 +52,32 @@ public class PrimitiveDoubleArrayJsonDeserializer extends AbstractArrayJsonDeser
      */
     @Override
     public double[] doDeserializeArray(JsonReader reader, JsonDeserializationContext ctx, JsonDeserializerParameters params) {
-        List<Double> list = deserializeIntoList(reader, ctx, DoubleJsonDeserializer.getInstance(), params);
+        reader.beginArray();
+        if (JsonToken.END_ARRAY == reader.peek()) {
+            reader.endArray();
+            return new double[0];
+        }
 
-        double[] result = new double[list.size()];
-        int i = 0;
-        for (Double value : list) {
-            if (null != value) {
-                result[i] = value;
+        double[] result = new double[DEFAULT_CAPACITY];
+        int size = 0;
+        JsonToken token;
+        while (JsonToken.END_ARRAY != (token = reader.peek())) {
+            if (size == result.length) {
+                result = Arrays.copyOf(result, size * 2);
+            }
+            if (JsonToken.NUMBER == token) {
+                result[size] = reader.nextDouble();
+            } else {
+                Double value = DoubleJsonDeserializer.getInstance().deserialize(reader, ctx, params);
+                if (null != value) {
+                    result[size] = value;
+                }
             }
-            i++;
+            size++;
         }
-        return result;
+        reader.endArray();
+
+        return size == result.length ? result : Arrays.copyOf(result, size);
     }
 
     /**
@@ -21,8 +21,9 @@ import com.progressoft.brix.domino.gwtjackson.JsonDeserializationContext;
 import com.progressoft.brix.domino.gwtjackson.JsonDeserializer;
 import com.progressoft.brix.domino.gwtjackson.deser.BaseNumberJsonDeserializer.FloatJsonDeserializer;
 import com.progressoft.brix.domino.gwtjackson.stream.JsonReader;
+import com.progressoft.brix.domino.gwtjackson.stream.JsonToken;
 
-import java.util.List;
+import java.util.Arrays;
 
 /**
  * Default {@link JsonDeserializer} implementation for array of float.
@@ -51,17 +52,32 @@ public class PrimitiveFloatArrayJsonDeserializer extends AbstractArrayJsonDeseri
      */
     @Override
     public float[] doDeserializeArray(JsonReader reader, JsonDeserializationContext ctx, JsonDeserializerParameters params) {
-        List<Float> list = deserializeIntoList(reader, ctx, FloatJsonDeserializer.getInstance(), params);
+        reader.beginArray();
+        if (JsonToken.END_ARRAY == reader.peek()) {
+            reader.endArray();
+            return new float[0];
+        }
 
-        float[] result = new float[list.size()];
-        int i = 0;
-        for (Float value : list) {
-            if (null != value) {
-                result[i] = value;
+        float[] result = new float[DEFAULT_CAPACITY];
+        int size = 0;
+        JsonToken token;
+        while (JsonToken.END_ARRAY != (token = reader.peek())) {
+            if (size == result.length) {
+                result = Arrays.copyOf(result, size * 2);
+            }
+            if (JsonToken.NUMBER == token) {
+                result[size] = reader.nextFloat();
+            } else {
+                Float value = FloatJsonDeserializer.getInstance().deserialize(reader, ctx, params);
+                if (null != value) {
+                    result[size] = value;
+                }
             }
-            i++;
+            size++;
         }
-        return result;
+        reader.endArray();
+
+        return size == result.length ? result : Arrays.copyOf(result, size);
     }
 
     /**
@@ -21,8 +21,9 @@ import com.progressoft.brix.domino.gwtjackson.JsonDeserializationContext;
 import com.progressoft.brix.domino.gwtjackson.JsonDeserializer;
 import com.progressoft.brix.domino.gwtjackson.deser.BaseNumberJsonDeserializer.IntegerJsonDeserializer;
 import com.progressoft.brix.domino.gwtjackson.stream.JsonReader;
+import com.progressoft.brix.domino.gwtjackson.stream.JsonToken;
 
-import java.util.List;
+import java.util.Arrays;
 
 /**
  * Default {@link JsonDeserializer} implementation for array of int.
@@ -51,17 +52,32 @@ public class PrimitiveIntegerArrayJsonDeserializer extends AbstractArrayJsonDese
      */
     @Override
     public int[] doDeserializeArray(JsonReader reader, JsonDeserializationContext ctx, JsonDeserializerParameters params) {
-        List<Integer> list = deserializeIntoList(reader, ctx, IntegerJsonDeserializer.getInstance(), params);
+        reader.beginArray();
+        if (JsonToken.END_ARRAY == reader.peek()) {
+            reader.endArray();
+            return new int[0];
+        }
 
-        int[] result = new int[list.size()];
-        int i = 0;
-        for (Integer value : list) {
-            if (null != value) {
-                result[i] = value;
+        int[] result = new int[DEFAULT_CAPACITY];
+        int size = 0;
+        JsonToken token;
+        while (JsonToken.END_ARRAY != (token = reader.peek())) {
+            if (size == result.length) {
+                result = Arrays.copyOf(result, size * 2);
+            }
+            if (JsonToken.NUMBER == token) {
+                result[size] = reader.nextInt();
+            } else {
+                Integer value = IntegerJsonDeserializer.getInstance().deserialize(reader, ctx, params);
+                if (null != value) {
+                    result[size] = value;
+                }
             }
-            i++;
+            size++;
         }
-        return result;
+        reader.endArray();
+
+        return size == result.length ? result : Arrays.copyOf(result, size);
     }
 
     /**
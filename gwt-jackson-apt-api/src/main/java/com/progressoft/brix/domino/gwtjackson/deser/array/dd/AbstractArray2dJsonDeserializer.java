@@ -112,4 +112,66 @@ public abstract class AbstractArray2dJsonDeserializer<T> extends JsonDeserialize
         }
         return list;
     }
+
+    /**
+     * Deserializes the rows of the array with a deserializer of the row type, so primitive rows are read without boxing their
+     * values.
+     *
+     * @param reader          reader
+     * @param ctx             context of the deserialization process
+     * @param rowDeserializer deserializer for the rows of the array
+     * @param params          Parameters for the deserializer
+     * @param <A>             type of the rows of the array
+     * @return a list containing all the rows of the array
+     */
+    protected <A> List<A> deserializeRows(JsonReader reader, JsonDeserializationContext ctx, JsonDeserializer<A> rowDeserializer,
+                                          JsonDeserializerParameters params) {
+        reader.beginArray();
+        List<A> rows = doDeserializeRows(reader, ctx, rowDeserializer, params);
+        reader.endArray();
+        return rows;
+    }
+
+    /**
+     * <p>doDeserializeRows</p>
+     * Like the arrays created by {@code new int[rows][columns]}, a row cannot be null.
+     *
+     * @param reader          a {@link com.progressoft.brix.domino.gwtjackson.stream.JsonReader} object.
+     * @param ctx             a {@link JsonDeserializationContext} object.
+     * @param rowDeserializer a {@link com.progressoft.brix.domino.gwtjackson.JsonDeserializer} object.
+     * @param params          a {@link JsonDeserializerParameters} object.
+     * @param <A>             a A object.
+     * @return a {@link List} object.
+     */
+    protected <A> List<A> doDeserializeRows(JsonReader reader, JsonDeserializationContext ctx, JsonDeserializer<A> rowDeserializer,
+                                            JsonDeserializerParameters params) {
+        if (JsonToken.END_ARRAY == reader.peek()) {
+            return Collections.emptyList();
+        }
+        List<A> rows = new ArrayList<A>();
+        while (JsonToken.END_ARRAY != reader.peek()) {
+            if (JsonToken.NULL == reader.peek()) {
+                throw ctx.traceError("Row " + rows.size() + " of a 2D array of primitives cannot be null", reader);
+            }
+            rows.add(rowDeserializer.deserialize(reader, ctx, params));
+        }
+        return rows;
+    }
+
+    /**
+     * Checks the length of a row of a 2D array of primitives. The first row gives the length of all the rows, shorter rows
+     * are padded with default values but a longer row cannot be stored.
+     *
+     * @param reader reader
+     * @param ctx    context of the deserialization process
+     * @param index  index of the row
+     * @param length length of the row
+     * @param size   length of the first row
+     */
+    protected void checkRowLength(JsonReader reader, JsonDeserializationContext ctx, int index, int length, int size) {
+        if (length > size) {
+            throw ctx.traceError("Row " + index + " of a 2D array of primitives has " + length + " elements, more than the " + size
+                    + " elements of the first row", reader);
+        }
+    }
 }
@@ -19,9 +19,10 @@ package com.progressoft.brix.domino.gwtjackson.deser.array.dd;
 import com.progressoft.brix.domino.gwtjackson.JsonDeserializerParameters;
 import com.progressoft.brix.domino.gwtjackson.JsonDeserializationContext;
 import com.progressoft.brix.domino.gwtjackson.JsonDeserializer;
-import com.progressoft.brix.domino.gwtjackson.deser.BooleanJsonDeserializer;
+import com.progressoft.brix.domino.gwtjackson.deser.array.PrimitiveBooleanArrayJsonDeserializer;
 import com.progressoft.brix.domino.gwtjackson.stream.JsonReader;
 
+import java.util.Arrays;
 import java.util.List;
 
 /**
@@ -51,30 +52,14 @@ public class PrimitiveBooleanArray2dJsonDeserializer extends AbstractArray2dJson
      */
     @Override
     public boolean[][] doDeserialize(JsonReader reader, JsonDeserializationContext ctx, JsonDeserializerParameters params) {
-        List<List<Boolean>> list = deserializeIntoList(reader, ctx, BooleanJsonDeserializer.getInstance(), params);
+        List<boolean[]> rows = deserializeRows(reader, ctx, PrimitiveBooleanArrayJsonDeserializer.getInstance(), params);
 
-        if (list.isEmpty()) {
-            return new boolean[0][0];
-        }
-
-        List<Boolean> firstList = list.get(0);
-        if (firstList.isEmpty()) {
-            return new boolean[list.size()][0];
-        }
-
-        boolean[][] array = new boolean[list.size()][firstList.size()];
-
-        int i = 0;
-        int j;
-        for (List<Boolean> innerList : list) {
-            j = 0;
-            for (Boolean value : innerList) {
-                if (null != value) {
-                    array[i][j] = value;
-                }
-                j++;
-            }
-            i++;
+        boolean[][] array = new boolean[rows.size()][];
+        int size = rows.isEmpty() ? 0 : rows.get(0).length;
+        for (int i = 0; i < array.length; i++) {
+            boolean[] row = rows.get(i);
+            checkRowLength(reader, ctx, i, row.length, size);
+            array[i] = row.length < size ? Arrays.copyOf(row, size) : row;
         }
         return array;
     }
@@ -19,12 +19,13 @@ package com.progressoft.brix.domino.gwtjackson.deser.array.dd;
 import com.progressoft.brix.domino.gwtjackson.JsonDeserializerParameters;
 import com.progressoft.brix.domino.gwtjackson.JsonDeserializationContext;
 import com.progressoft.brix.domino.gwtjackson.JsonDeserializer;
-import com.progressoft.brix.domino.gwtjackson.deser.BaseNumberJsonDeserializer.ByteJsonDeserializer;
+import com.progressoft.brix.domino.gwtjackson.deser.array.PrimitiveByteArrayJsonDeserializer;
 import com.progressoft.brix.domino.gwtjackson.stream.JsonReader;
 import com.progressoft.brix.domino.gwtjackson.stream.JsonToken;
 import com.progressoft.brix.domino.gwtjackson.utils.Base64Utils;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 /**
@@ -89,29 +90,14 @@ public class PrimitiveByteArray2dJsonDeserializer extends AbstractArray2dJsonDes
 
         } else {
 
-            List<List<Byte>> list = doDeserializeIntoList(reader, ctx, ByteJsonDeserializer.getInstance(), params, token);
+            List<byte[]> rows = doDeserializeRows(reader, ctx, PrimitiveByteArrayJsonDeserializer.getInstance(), params);
 
-            List<Byte> firstList = list.get(0);
-            if (firstList.isEmpty()) {
-
-                result = new byte[list.size()][0];
-
-            } else {
-
-                result = new byte[list.size()][firstList.size()];
-
-                int i = 0;
-                int j;
-                for (List<Byte> innerList : list) {
-                    j = 0;
-                    for (Byte value : innerList) {
-                        if (null != value) {
-                            result[i][j] = value;
-                        }
-                        j++;
-                    }
-                    i++;
-                }
+            result = new byte[rows.size()][];
+            int size = rows.get(0).length;
+            for (int i = 0; i < result.length; i++) {
+                byte[] row = rows.get(i);
+                checkRowLength(reader, ctx, i, row.length, size);
+                result[i] = row.length < size ? Arrays.copyOf(row, size) : row;
             }
 
         }
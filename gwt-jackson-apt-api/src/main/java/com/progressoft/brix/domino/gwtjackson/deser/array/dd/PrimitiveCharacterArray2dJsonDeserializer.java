@@ -19,11 +19,12 @@ package com.progressoft.brix.domino.gwtjackson.deser.array.dd;
 import com.progressoft.brix.domino.gwtjackson.JsonDeserializerParameters;
 import com.progressoft.brix.domino.gwtjackson.JsonDeserializationContext;
 import com.progressoft.brix.domino.gwtjackson.JsonDeserializer;
-import com.progressoft.brix.domino.gwtjackson.deser.CharacterJsonDeserializer;
+import com.progressoft.brix.domino.gwtjackson.deser.array.PrimitiveCharacterArrayJsonDeserializer;
 import com.progressoft.brix.domino.gwtjackson.stream.JsonReader;
 import com.progressoft.brix.domino.gwtjackson.stream.JsonToken;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 /**
@@ -88,29 +89,14 @@ public class PrimitiveCharacterArray2dJsonDeserializer extends AbstractArray2dJs
 
         } else {
 
-            List<List<Character>> list = doDeserializeIntoList(reader, ctx, CharacterJsonDeserializer.getInstance(), params, token);
+            List<char[]> rows = doDeserializeRows(reader, ctx, PrimitiveCharacterArrayJsonDeserializer.getInstance(), params);
 
-            List<Character> firstList = list.get(0);
-            if (firstList.isEmpty()) {
-
-                result = new char[list.size()][0];
-
-            } else {
-
-                result = new char[list.size()][firstList.size()];
-
-                int i = 0;
-                int j;
-                for (List<Character> innerList : list) {
-                    j = 0;
-                    for (Character value : innerList) {
-                        if (null != value) {
-                            result[i][j] = value;
-                        }
-                        j++;
-                    }
-                    i++;
-                }
+            result = new char[rows.size()][];
+            int size = rows.get(0).length;
+            for (int i = 0; i < result.length; i++) {
+                char[] row = rows.get(i);
+                checkRowLength(reader, ctx, i, row.length, size);
+                result[i] = row.length < size ? Arrays.copyOf(row, size) : row;
             }
 
         }
@@ -19,9 +19,10 @@ package com.progressoft.brix.domino.gwtjackson.deser.array.dd;
 import com.progressoft.brix.domino.gwtjackson.JsonDeserializerParameters;
 import com.progressoft.brix.domino.gwtjackson.JsonDeserializationContext;
 import com.progressoft.brix.domino.gwtjackson.JsonDeserializer;
-import com.progressoft.brix.domino.gwtjackson.deser.BaseNumberJsonDeserializer.DoubleJsonDeserializer;
+import com.progressoft.brix.domino.gwtjackson.deser.array.PrimitiveDoubleArrayJsonDeserializer;
 import com.progressoft.brix.domino.gwtjackson.stream.JsonReader;
 
+import java.util.Arrays;
 import java.util.List;
 
 /**
@@ -51,30 +52,14 @@ public class PrimitiveDoubleArray2dJsonDeserializer extends AbstractArray2dJsonD
      */
     @Override
     public double[][] doDeserialize(JsonReader reader, JsonDeserializationContext ctx, JsonDeserializerParameters params) {
-        List<List<Double>> list = deserializeIntoList(reader, ctx, DoubleJsonDeserializer.getInstance(), params);
+        List<double[]> rows = deserializeRows(reader, ctx, PrimitiveDoubleArrayJsonDeserializer.getInstance(), params);
 
-        if (list.isEmpty()) {
-            return new double[0][0];
-        }
-
-        List<Double> firstList = list.get(0);
-        if (firstList.isEmpty()) {
-            return new double[list.size()][0];
-        }
-
-        double[][] array = new double[list.size()][firstList.size()];
-
-        int i = 0;
-        int j;
-        for (List<Double> innerList : list) {
-            j = 0;
-            for (Double value : innerList) {
-                if (null != value) {
-                    array[i][j] = value;
-                }
-                j++;
-            }
-            i++;
+        double[][] array = new double[rows.size()][];
+        int size = rows.isEmpty() ? 0 : rows.get(0).length;
+        for (int i = 0; i < array.length; i++) {
+            double[] row = rows.get(i);
+            checkRowLength(reader, ctx, i, row.length, size);
+            array[i] = row.length < size ? Arrays.copyOf(row, size) : row;
         }
         return array;
     }
@@ -19,9 +19,10 @@ package com.progressoft.brix.domino.gwtjackson.deser.array.dd;
 import com.progressoft.brix.domino.gwtjackson.JsonDeserializerParameters;
 import com.progressoft.brix.domino.gwtjackson.JsonDeserializationContext;
 import com.progressoft.brix.domino.gwtjackson.JsonDeserializer;
-import com.progressoft.brix.domino.gwtjackson.deser.BaseNumberJsonDeserializer.FloatJsonDeserializer;
+import com.progressoft.brix.domino.gwtjackson.deser.array.PrimitiveFloatArrayJsonDeserializer;
 import com.progressoft.brix.domino.gwtjackson.stream.JsonReader;
 
+import java.util.Arrays;
 import java.util.List;
 
 /**
@@ -51,30 +52,14 @@ public class PrimitiveFloatArray2dJsonDeserializer extends AbstractArray2dJsonDe
      */
     @Override
     public float[][] doDeserialize(JsonReader reader, JsonDeserializationContext ctx, JsonDeserializerParameters params) {
-        List<List<Float>> list = deserializeIntoList(reader, ctx, FloatJsonDeserializer.getInstance(), params);
+        List<float[]> rows = deserializeRows(reader, ctx, PrimitiveFloatArrayJsonDeserializer.getInstance(), params);
 
-        if (list.isEmpty()) {
-            return new float[0][0];
-        }
-
-        List<Float> firstList = list.get(0);
-        if (firstList.isEmpty()) {
-            return new float[list.size()][0];
-        }
-
-        float[][] array = new float[list.size()][firstList.size()];
-
-        int i = 0;
-        int j;
-        for (List<Float> innerList : list) {
-            j = 0;
-            for (Float value : innerList) {
-                if (null != value) {
-                    array[i][j] = value;
-                }
-                j++;
-            }
-            i++;
+        float[][] array = new float[rows.size()][];
+        int size = rows.isEmpty() ? 0 : rows.get(0).length;
+        for (int i = 0; i < array.length; i++) {
+            float[] row = rows.get(i);
+            checkRowLength(reader, ctx, i, row.length, size);
+            array[i] = row.length < size ? Arrays.copyOf(row, size) : row;
         }
         return array;
     }
@@ -19,9 +19,10 @@ package com.progressoft.brix.domino.gwtjackson.deser.array.dd;
 import com.progressoft.brix.domino.gwtjackson.JsonDeserializerParameters;
 import com.progressoft.brix.domino.gwtjackson.JsonDeserializationContext;
 import com.progressoft.brix.domino.gwtjackson.JsonDeserializer;
-import com.progressoft.brix.domino.gwtjackson.deser.BaseNumberJsonDeserializer.IntegerJsonDeserializer;
+import com.progressoft.brix.domino.gwtjackson.deser.array.PrimitiveIntegerArrayJsonDeserializer;
 import com.progressoft.brix.domino.gwtjackson.stream.JsonReader;
 
+import java.util.Arrays;
 import java.util.List;
 
 /**
@@ -51,30 +52,14 @@ public class PrimitiveIntegerArray2dJsonDeserializer extends AbstractArray2dJson
      */
     @Override
     public int[][] doDeserialize(JsonReader reader, JsonDeserializationContext ctx, JsonDeserializerParameters params) {
-        List<List<Integer>> list = deserializeIntoList(reader, ctx, IntegerJsonDeserializer.getInstance(), params);
+        List<int[]> rows = deserializeRows(reader, ctx, PrimitiveIntegerArrayJsonDeserializer.getInstance(), params);
 
-        if (list.isEmpty()) {
-            return new int[0][0];
-        }
-
-        List<Integer> firstList = list.get(0);
-        if (firstList.isEmpty()) {
-            return new int[list.size()][0];
-        }
-
-        int[][] array = new int[list.size()][firstList.size()];
-
-        int i = 0;
-        int j;
-        for (List<Integer> innerList : list) {
-            j = 0;
-            for (Integer value : innerList) {
-                if (null != value) {
-                    array[i][j] = value;
-                }
-                j++;
-            }
-            i++;
+        int[][] array = new int[rows.size()][];
+        int size = rows.isEmpty() ? 0 : rows.get(0).length;
+        for (int i = 0; i < array.length; i++) {
+            int[] row = rows.get(i);
+            checkRowLength(reader, ctx, i, row.length, size);
+            array[i] = row.length < size ? Arrays.copyOf(row, size) : row;
         }
         return array;
     }
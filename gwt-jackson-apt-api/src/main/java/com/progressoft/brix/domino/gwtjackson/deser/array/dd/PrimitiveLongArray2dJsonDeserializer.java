@@ -19,9 +19,10 @@ package com.progressoft.brix.domino.gwtjackson.deser.array.dd;
 import com.progressoft.brix.domino.gwtjackson.JsonDeserializerParameters;
 import com.progressoft.brix.domino.gwtjackson.JsonDeserializationContext;
 import com.progressoft.brix.domino.gwtjackson.JsonDeserializer;
-import com.progressoft.brix.domino.gwtjackson.deser.BaseNumberJsonDeserializer.LongJsonDeserializer;
+import com.progressoft.brix.domino.gwtjackson.deser.array.PrimitiveLongArrayJsonDeserializer;
 import com.progressoft.brix.domino.gwtjackson.stream.JsonReader;
 
+import java.util.Arrays;
 import java.util.List;
 
 /**
@@ -51,30 +52,14 @@ public class PrimitiveLongArray2dJsonDeserializer extends AbstractArray2dJsonDes
      */
     @Override
     public long[][] doDeserialize(JsonReader reader, JsonDeserializationContext ctx, JsonDeserializerParameters params) {
-        List<List<Long>> list = deserializeIntoList(reader, ctx, LongJsonDeserializer.getInstance(), params);
+        List<long[]> rows = deserializeRows(reader, ctx, PrimitiveLongArrayJsonDeserializer.getInstance(), params);
 
-        if (list.isEmpty()) {
-            return new long[0][0];
-        }
-
-        List<Long> firstList = list.get(0);
-        if (firstList.isEmpty()) {
-            return new long[list.size()][0];
-        }
-
-        long[][] array = new long[list.size()][firstList.size()];
-
-        int i = 0;
-        int j;
-        for (List<Long> innerList : list) {
-            j = 0;
-            for (Long value : innerList) {
-                if (null != value) {
-                    array[i][j] = value;
-                }
-                j++;
-            }
-            i++;
+        long[][] array = new long[rows.size()][];
+        int size = rows.isEmpty() ? 0 : rows.get(0).length;
+        for (int i = 0; i < array.length; i++) {
+            long[] row = rows.get(i);
+            checkRowLength(reader, ctx, i, row.length, size);
+            array[i] = row.length < size ? Arrays.copyOf(row, size) : row;
         }
         return array;
     }
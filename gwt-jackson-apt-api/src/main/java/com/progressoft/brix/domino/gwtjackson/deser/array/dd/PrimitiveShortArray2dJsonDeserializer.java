@@ -19,9 +19,10 @@ package com.progressoft.brix.domino.gwtjackson.deser.array.dd;
 import com.progressoft.brix.domino.gwtjackson.JsonDeserializerParameters;
 import com.progressoft.brix.domino.gwtjackson.JsonDeserializationContext;
 import com.progressoft.brix.domino.gwtjackson.JsonDeserializer;
-import com.progressoft.brix.domino.gwtjackson.deser.BaseNumberJsonDeserializer.ShortJsonDeserializer;
+import com.progressoft.brix.domino.gwtjackson.deser.array.PrimitiveShortArrayJsonDeserializer;
 import com.progressoft.brix.domino.gwtjackson.stream.JsonReader;
 
+import java.util.Arrays;
 import java.util.List;
 
 /**
@@ -51,30 +52,14 @@ public class PrimitiveShortArray2dJsonDeserializer extends AbstractArray2dJsonDe
      */
     @Override
     public short[][] doDeserialize(JsonReader reader, JsonDeserializationContext ctx, JsonDeserializerParameters params) {
-        List<List<Short>> list = deserializeIntoList(reader, ctx, ShortJsonDeserializer.getInstance(), params);
+        List<short[]> rows = deserializeRows(reader, ctx, PrimitiveShortArrayJsonDeserializer.getInstance(), params);
 
-        if (list.isEmpty()) {
-            return new short[0][0];
-        }
-
-        List<Short> firstList = list.get(0);
-        if (firstList.isEmpty()) {
-            return new short[list.size()][0];
-        }
-
-        short[][] array = new short[list.size()][firstList.size()];
-
-        int i = 0;
-        int j;
-        for (List<Short> innerList : list) {
-            j = 0;
-            for (Short value : innerList) {
-                if (null != value) {
-                    array[i][j] = value;
-                }
-                j++;
-            }
-            i++;
+        short[][] array = new short[rows.size()][];
+        int size = rows.isEmpty() ? 0 : rows.get(0).length;
+        for (int i = 0; i < array.length; i++) {
+            short[] row = rows.get(i);
+            checkRowLength(reader, ctx, i, row.length, size);
+            array[i] = row.length < size ? Arrays.copyOf(row, size) : row;
         }
         return array;
     }
@@ -26,9 +26,11 @@ import com.progressoft.brix.domino.gwtjackson.JsonDeserializer;
 import com.progressoft.brix.domino.gwtjackson.JsonDeserializerParameters;
 import com.progressoft.brix.domino.gwtjackson.stream.JsonReader;
 import com.progressoft.brix.domino.gwtjackson.stream.JsonToken;
+import com.progressoft.brix.domino.gwtjackson.stream.PropertyNameTable;
 
 import java.util.*;
 import java.util.Map.Entry;
+import java.util.function.Supplier;
 
 /**
  * Base implementation of {@link JsonDeserializer} for beans.
@@ -43,6 +45,12 @@ public abstract class AbstractBeanJsonDeserializer<T> extends JsonDeserializer<T
 
     private final MapLike<BeanPropertyDeserializer<T, ?>> deserializers;
 
+    private final String[] propertyNames;
+
+    private final BeanPropertyDeserializer<T, ?>[] indexedDeserializers;
+
+    private final PropertyNameTable propertyNameTable;
+
     private final MapLike<BackReferenceProperty<T, ?>> backReferenceDeserializers;
 
     private final Set<String> defaultIgnoredProperties;
@@ -63,6 +71,9 @@ public abstract class AbstractBeanJsonDeserializer<T> extends JsonDeserializer<T
     protected AbstractBeanJsonDeserializer() {
         this.instanceBuilder = initInstanceBuilder();
         this.deserializers = initDeserializers();
+        this.propertyNames = initPropertyNames();
+        this.indexedDeserializers = initIndexedDeserializers();
+        this.propertyNameTable = null == propertyNames ? null : new PropertyNameTable(propertyNames);
         this.backReferenceDeserializers = initBackReferenceDeserializers();
         this.defaultIgnoredProperties = initIgnoredProperties();
         this.requiredProperties = initRequiredProperties();
@@ -92,6 +103,39 @@ public abstract class AbstractBeanJsonDeserializer<T> extends JsonDeserializer<T
         return new JsMapLike<>();
     }
 
+    /**
+     * Initialize the names of the properties resolved by {@link #propertyIndex(String)}, in index order. Returns null if the
+     * properties are resolved through the {@link MapLike} returned by {@link #initDeserializers()}.
+     *
+     * @return an array of property names.
+     */
+    protected String[] initPropertyNames() {
+        return null;
+    }
+
+    /**
+     * Resolves the index of a property in the array returned by {@link #initPropertyNames()}. Generated deserializers override it
+     * with a dispatch on the name known at compile time.
+     *
+     * @param propertyName name of the property
+     * @return the index of the property or -1 if the property is unknown.
+     */
+    protected int propertyIndex(String propertyName) {
+        return -1;
+    }
+
+    @SuppressWarnings("unchecked")
+    private BeanPropertyDeserializer<T, ?>[] initIndexedDeserializers() {
+        if (null == propertyNames) {
+            return null;
+        }
+        BeanPropertyDeserializer<T, ?>[] result = new BeanPropertyDeserializer[propertyNames.length];
+        for (int i = 0; i < propertyNames.length; i++) {
+            result[i] = deserializers.get(propertyNames[i]);
+        }
+        return result;
+    }
+
     /**
      * Initialize the {@link MapLike} containing the back reference deserializers. Returns an empty map if there are no back
      * reference on the bean.
@@ -198,7 +242,7 @@ public abstract class AbstractBeanJsonDeserializer<T> extends JsonDeserializer<T
             } else {
                 id = identityInfo.readId(reader, ctx);
             }
-            Object instance = ctx.getObjectWithId(identityInfo.newIdKey(id));
+            Object instance = ctx.getObjectWithId(identityInfo.getType(), identityInfo.getScope(), id);
             if (null == instance) {
                 throw ctx.traceError("Cannot find an object with id " + id, reader);
             }
@@ -221,7 +265,7 @@ public abstract class AbstractBeanJsonDeserializer<T> extends JsonDeserializer<T
                 case PROPERTY:
                     // the type info is the first property of the object
                     reader.beginObject();
-                    Map<String, String> bufferedProperties = null;
+                    Map<String, Supplier<JsonReader>> bufferedProperties = null;
                     String typeInfoProperty = null;
                     while (JsonToken.NAME.equals(reader.peek())) {
                         String name = reader.nextName();
@@ -231,9 +275,9 @@ public abstract class AbstractBeanJsonDeserializer<T> extends JsonDeserializer<T
                             break;
                         } else {
                             if (null == bufferedProperties) {
-                                bufferedProperties = new HashMap<String, String>();
+                                bufferedProperties = new HashMap<String, Supplier<JsonReader>>();
                             }
-                            bufferedProperties.put(name, reader.nextValue());
+                            bufferedProperties.put(name, bufferValue(reader, ctx));
                         }
                     }
                     if (null == typeInfoProperty) {
@@ -306,7 +350,7 @@ public abstract class AbstractBeanJsonDeserializer<T> extends JsonDeserializer<T
     @Override
     public final T deserializeInline(final JsonReader reader, final JsonDeserializationContext ctx, JsonDeserializerParameters params,
                                      IdentityDeserializationInfo identityInfo, TypeDeserializationInfo typeInfo, String type,
-                                     Map<String, String> bufferedProperties) {
+                                     Map<String, Supplier<JsonReader>> bufferedProperties) {
         final boolean ignoreUnknown = params.isIgnoreUnknown() || isDefaultIgnoreUnknown();
         final Set<String> ignoredProperties;
         if (null == params.getIgnoredProperties()) {
@@ -327,7 +371,7 @@ public abstract class AbstractBeanJsonDeserializer<T> extends JsonDeserializer<T
             JsonReader identityReader = null;
 
             // we look if it has not been already buffered
-            String propertyValue = null;
+            Supplier<JsonReader> propertyValue = null;
 
             // we fisrt look if the identity property has not been read already
             if (null != bufferedProperties) {
@@ -335,7 +379,7 @@ public abstract class AbstractBeanJsonDeserializer<T> extends JsonDeserializer<T
             }
 
             if (null != propertyValue) {
-                identityReader = ctx.newJsonReader(propertyValue);
+                identityReader = propertyValue.get();
             } else {
                 // we search for the identity property
                 while (JsonToken.NAME.equals(reader.peek())) {
@@ -351,9 +395,9 @@ public abstract class AbstractBeanJsonDeserializer<T> extends JsonDeserializer<T
                         break;
                     } else {
                         if (null == bufferedProperties) {
-                            bufferedProperties = new HashMap<String, String>();
+                            bufferedProperties = new HashMap<String, Supplier<JsonReader>>();
                         }
-                        bufferedProperties.put(name, reader.nextValue());
+                        bufferedProperties.put(name, bufferValue(reader, ctx));
                     }
                 }
             }
@@ -391,7 +435,7 @@ public abstract class AbstractBeanJsonDeserializer<T> extends JsonDeserializer<T
                     propertyDeserializer.setValue(bean, id, ctx);
                 }
             }
-            ctx.addObjectId(identityInfo.newIdKey(id), bean);
+            ctx.addObjectId(identityInfo.getType(), identityInfo.getScope(), id, bean);
         }
 
         // we flush any buffered properties
@@ -406,7 +450,9 @@ public abstract class AbstractBeanJsonDeserializer<T> extends JsonDeserializer<T
         }
 
         while (JsonToken.NAME.equals(reader.peek())) {
-            String propertyName = reader.nextName();
+            // known names are matched in the reader input, only unknown or escaped names are read as a String
+            int index = null == propertyNameTable ? -1 : reader.nextNameIndex(propertyNameTable);
+            String propertyName = index < 0 ? reader.nextName() : propertyNames[index];
 
             requiredPropertiesLeft.remove(propertyName);
 
@@ -415,7 +461,8 @@ public abstract class AbstractBeanJsonDeserializer<T> extends JsonDeserializer<T
                 continue;
             }
 
-            BeanPropertyDeserializer<T, ?> property = getPropertyDeserializer(propertyName, ctx, ignoreUnknown);
+            BeanPropertyDeserializer<T, ?> property = index < 0 ? getPropertyDeserializer(propertyName, ctx, ignoreUnknown) :
+                    indexedDeserializers[index];
             if (null != property) {
                 property.deserialize(reader, bean, ctx);
             } else if (null != anySetterDeserializer) {
@@ -431,10 +478,23 @@ public abstract class AbstractBeanJsonDeserializer<T> extends JsonDeserializer<T
         return bean;
     }
 
-    private void flushBufferedProperties(T bean, Map<String, String> bufferedProperties, Set<String> requiredPropertiesLeft,
+    /**
+     * Skips the next value and returns a supplier of readers positioned before it. When the reader keeps its whole input, only the
+     * position of the value is remembered, otherwise the value is copied.
+     */
+    private static Supplier<JsonReader> bufferValue(JsonReader reader, final JsonDeserializationContext ctx) {
+        Supplier<JsonReader> valueReader = reader.nextValueReader();
+        if (null == valueReader) {
+            final String value = reader.nextValue();
+            valueReader = () -> ctx.newJsonReader(value);
+        }
+        return valueReader;
+    }
+
+    private void flushBufferedProperties(T bean, Map<String, Supplier<JsonReader>> bufferedProperties, Set<String> requiredPropertiesLeft,
                                          JsonDeserializationContext ctx, boolean ignoreUnknown, Set<String> ignoredProperties) {
         if (null != bufferedProperties && !bufferedProperties.isEmpty()) {
-            for (Entry<String, String> bufferedProperty : bufferedProperties.entrySet()) {
+            for (Entry<String, Supplier<JsonReader>> bufferedProperty : bufferedProperties.entrySet()) {
                 String propertyName = bufferedProperty.getKey();
 
                 requiredPropertiesLeft.remove(propertyName);
@@ -445,9 +505,9 @@ public abstract class AbstractBeanJsonDeserializer<T> extends JsonDeserializer<T
 
                 BeanPropertyDeserializer<T, ?> property = getPropertyDeserializer(propertyName, ctx, ignoreUnknown);
                 if (null != property) {
-                    property.deserialize(ctx.newJsonReader(bufferedProperty.getValue()), bean, ctx);
+                    property.deserialize(bufferedProperty.getValue().get(), bean, ctx);
                 } else if (null != anySetterDeserializer) {
-                    anySetterDeserializer.deserialize(ctx.newJsonReader(bufferedProperty.getValue()), bean, propertyName, ctx);
+                    anySetterDeserializer.deserialize(bufferedProperty.getValue().get(), bean, propertyName, ctx);
                 }
             }
         }
@@ -455,7 +515,7 @@ public abstract class AbstractBeanJsonDeserializer<T> extends JsonDeserializer<T
 
     private BeanPropertyDeserializer<T, ?> getPropertyDeserializer(String propertyName, JsonDeserializationContext ctx, boolean
             ignoreUnknown) {
-        BeanPropertyDeserializer<T, ?> property = deserializers.get(propertyName);
+        BeanPropertyDeserializer<T, ?> property = findPropertyDeserializer(propertyName);
         if (null == property) {
             if (!ignoreUnknown && ctx.isFailOnUnknownProperties() && null == anySetterDeserializer) {
                 throw ctx.traceError("Unknown property '" + propertyName + "'");
@@ -464,6 +524,14 @@ public abstract class AbstractBeanJsonDeserializer<T> extends JsonDeserializer<T
         return property;
     }
 
+    private BeanPropertyDeserializer<T, ?> findPropertyDeserializer(String propertyName) {
+        if (null == indexedDeserializers) {
+            return deserializers.get(propertyName);
+        }
+        int index = propertyIndex(propertyName);
+        return index < 0 ? null : indexedDeserializers[index];
+    }
+
     private InternalDeserializer<T, ? extends JsonDeserializer<T>> getDeserializer(JsonReader reader, JsonDeserializationContext ctx,
                                                                                    TypeDeserializationInfo typeInfo, String
                                                                                            typeInformation) {
@@ -67,6 +67,22 @@ public abstract class AbstractIdentityDeserializationInfo<T, V> extends HasDeser
         return new IdKey(type, scope, id);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public final Class<?> getType() {
+        return type;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public final Class<?> getScope() {
+        return scope;
+    }
+
     /**
      * {@inheritDoc}
      */
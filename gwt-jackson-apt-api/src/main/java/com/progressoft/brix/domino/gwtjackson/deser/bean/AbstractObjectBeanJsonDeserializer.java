@@ -35,9 +35,9 @@ import com.progressoft.brix.domino.gwtjackson.stream.JsonReader;
 @SuppressWarnings("UnusedDeclaration")
 public abstract class AbstractObjectBeanJsonDeserializer extends AbstractBeanJsonDeserializer<Object> {
 
-    private ArrayListJsonDeserializer<Object> listJsonDeserializer;
+    private volatile ArrayListJsonDeserializer<Object> listJsonDeserializer;
 
-    private LinkedHashMapJsonDeserializer<String, Object> mapJsonDeserializer;
+    private volatile LinkedHashMapJsonDeserializer<String, Object> mapJsonDeserializer;
 
     /**
      * {@inheritDoc}
@@ -61,15 +61,9 @@ public abstract class AbstractObjectBeanJsonDeserializer extends AbstractBeanJso
             case BOOLEAN:
                 return BooleanJsonDeserializer.getInstance().doDeserialize(reader, ctx, params);
             case BEGIN_ARRAY:
-                if (null == listJsonDeserializer) {
-                    listJsonDeserializer = ArrayListJsonDeserializer.newInstance(this);
-                }
-                return listJsonDeserializer.doDeserialize(reader, ctx, params);
+                return getListJsonDeserializer().doDeserialize(reader, ctx, params);
             case BEGIN_OBJECT:
-                if (null == mapJsonDeserializer) {
-                    mapJsonDeserializer = LinkedHashMapJsonDeserializer.newInstance(StringKeyDeserializer.getInstance(), this);
-                }
-                return mapJsonDeserializer.doDeserialize(reader, ctx, params);
+                return getMapJsonDeserializer().doDeserialize(reader, ctx, params);
             case NULL:
                 reader.nextNull();
                 return null;
@@ -78,4 +72,31 @@ public abstract class AbstractObjectBeanJsonDeserializer extends AbstractBeanJso
         }
     }
 
+    private ArrayListJsonDeserializer<Object> getListJsonDeserializer() {
+        ArrayListJsonDeserializer<Object> result = listJsonDeserializer;
+        if (null == result) {
+            synchronized (this) {
+                result = listJsonDeserializer;
+                if (null == result) {
+                    result = ArrayListJsonDeserializer.newInstance(this);
+                    listJsonDeserializer = result;
+                }
+            }
+        }
+        return result;
+    }
+
+    private LinkedHashMapJsonDeserializer<String, Object> getMapJsonDeserializer() {
+        LinkedHashMapJsonDeserializer<String, Object> result = mapJsonDeserializer;
+        if (null == result) {
+            synchronized (this) {
+                result = mapJsonDeserializer;
+                if (null == result) {
+                    result = LinkedHashMapJsonDeserializer.newInstance(StringKeyDeserializer.getInstance(), this);
+                    mapJsonDeserializer = result;
+                }
+            }
+        }
+        return result;
+    }
 }
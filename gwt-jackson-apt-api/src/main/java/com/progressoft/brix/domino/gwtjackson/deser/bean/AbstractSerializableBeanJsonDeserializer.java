@@ -37,9 +37,9 @@ import java.io.Serializable;
 @SuppressWarnings("UnusedDeclaration")
 public abstract class AbstractSerializableBeanJsonDeserializer extends AbstractBeanJsonDeserializer<Serializable> {
 
-    private ArrayListJsonDeserializer<Serializable> listJsonDeserializer;
+    private volatile ArrayListJsonDeserializer<Serializable> listJsonDeserializer;
 
-    private LinkedHashMapJsonDeserializer<String, Serializable> mapJsonDeserializer;
+    private volatile LinkedHashMapJsonDeserializer<String, Serializable> mapJsonDeserializer;
 
     /**
      * {@inheritDoc}
@@ -65,15 +65,9 @@ public abstract class AbstractSerializableBeanJsonDeserializer extends AbstractB
             case BOOLEAN:
                 return BooleanJsonDeserializer.getInstance().doDeserialize(reader, ctx, params);
             case BEGIN_ARRAY:
-                if (null == listJsonDeserializer) {
-                    listJsonDeserializer = ArrayListJsonDeserializer.newInstance(this);
-                }
-                return listJsonDeserializer.doDeserialize(reader, ctx, params);
+                return getListJsonDeserializer().doDeserialize(reader, ctx, params);
             case BEGIN_OBJECT:
-                if (null == mapJsonDeserializer) {
-                    mapJsonDeserializer = LinkedHashMapJsonDeserializer.newInstance(StringKeyDeserializer.getInstance(), this);
-                }
-                return mapJsonDeserializer.doDeserialize(reader, ctx, params);
+                return getMapJsonDeserializer().doDeserialize(reader, ctx, params);
             case NULL:
                 reader.nextNull();
                 return null;
@@ -82,4 +76,31 @@ public abstract class AbstractSerializableBeanJsonDeserializer extends AbstractB
         }
     }
 
+    private ArrayListJsonDeserializer<Serializable> getListJsonDeserializer() {
+        ArrayListJsonDeserializer<Serializable> result = listJsonDeserializer;
+        if (null == result) {
+            synchronized (this) {
+                result = listJsonDeserializer;
+                if (null == result) {
+                    result = ArrayListJsonDeserializer.newInstance(this);
+                    listJsonDeserializer = result;
+                }
+            }
+        }
+        return result;
+    }
+
+    private LinkedHashMapJsonDeserializer<String, Serializable> getMapJsonDeserializer() {
+        LinkedHashMapJsonDeserializer<String, Serializable> result = mapJsonDeserializer;
+        if (null == result) {
+            synchronized (this) {
+                result = mapJsonDeserializer;
+                if (null == result) {
+                    result = LinkedHashMapJsonDeserializer.newInstance(StringKeyDeserializer.getInstance(), this);
+                    mapJsonDeserializer = result;
+                }
+            }
+        }
+        return result;
+    }
 }
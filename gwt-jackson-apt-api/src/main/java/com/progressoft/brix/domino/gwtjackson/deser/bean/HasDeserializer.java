@@ -19,14 +19,15 @@ package com.progressoft.brix.domino.gwtjackson.deser.bean;
 import com.progressoft.brix.domino.gwtjackson.JsonDeserializer;
 
 /**
- * Lazy initialize a {@link JsonDeserializer}
+ * Lazy initialize a {@link JsonDeserializer}. The instance is created once, under a lock only taken until it is published through
+ * a volatile field.
  *
  * @author Nicolas Morel
  * @version $Id: $
  */
 public abstract class HasDeserializer<V, S extends JsonDeserializer<V>> {
 
-    private S deserializer;
+    private volatile S deserializer;
 
     /**
      * <p>Getter for the field <code>deserializer</code>.</p>
@@ -34,10 +35,17 @@ public abstract class HasDeserializer<V, S extends JsonDeserializer<V>> {
      * @return a S object.
      */
     public S getDeserializer() {
-        if (null == deserializer) {
-            deserializer = (S) newDeserializer();
+        S result = deserializer;
+        if (null == result) {
+            synchronized (this) {
+                result = deserializer;
+                if (null == result) {
+                    result = (S) newDeserializer();
+                    deserializer = result;
+                }
+            }
         }
-        return deserializer;
+        return result;
     }
 
     /**
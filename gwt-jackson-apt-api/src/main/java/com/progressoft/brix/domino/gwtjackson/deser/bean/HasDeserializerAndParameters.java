@@ -30,7 +30,7 @@ import com.progressoft.brix.domino.gwtjackson.stream.JsonReader;
  */
 public abstract class HasDeserializerAndParameters<V, S extends JsonDeserializer<V>> extends HasDeserializer<V, S> {
 
-    private JsonDeserializerParameters parameters;
+    private volatile JsonDeserializerParameters parameters;
 
     /**
      * <p>Getter for the field <code>parameters</code>.</p>
@@ -38,10 +38,17 @@ public abstract class HasDeserializerAndParameters<V, S extends JsonDeserializer
      * @return a {@link JsonDeserializerParameters} object.
      */
     protected JsonDeserializerParameters getParameters() {
-        if (null == parameters) {
-            parameters = newParameters();
+        JsonDeserializerParameters result = parameters;
+        if (null == result) {
+            synchronized (this) {
+                result = parameters;
+                if (null == result) {
+                    result = newParameters();
+                    parameters = result;
+                }
+            }
         }
-        return parameters;
+        return result;
     }
 
     /**
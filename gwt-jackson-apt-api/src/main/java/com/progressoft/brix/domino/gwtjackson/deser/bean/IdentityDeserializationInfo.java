@@ -50,6 +50,20 @@ public interface IdentityDeserializationInfo<T> {
      */
     IdKey newIdKey(Object id);
 
+    /**
+     * <p>getType</p>
+     *
+     * @return type of the {@link com.fasterxml.jackson.annotation.ObjectIdGenerator} used for generating the identifier
+     */
+    Class<?> getType();
+
+    /**
+     * <p>getScope</p>
+     *
+     * @return scope of the identifier, null for a global scope
+     */
+    Class<?> getScope();
+
     /**
      * Reads the id and returns it.
      *
@@ -16,7 +16,10 @@
 
 package com.progressoft.brix.domino.gwtjackson.deser.bean;
 
+import com.progressoft.brix.domino.gwtjackson.stream.JsonReader;
+
 import java.util.Map;
+import java.util.function.Supplier;
 
 /**
  * <p>Instance class.</p>
@@ -28,7 +31,7 @@ public class Instance<T> {
 
     private final T instance;
 
-    private final Map<String, String> bufferedProperties;
+    private final Map<String, Supplier<JsonReader>> bufferedProperties;
 
     /**
      * <p>Constructor for Instance.</p>
@@ -36,7 +39,7 @@ public class Instance<T> {
      * @param instance           a T object.
      * @param bufferedProperties a {@link Map} object.
      */
-    public Instance(T instance, Map<String, String> bufferedProperties) {
+    public Instance(T instance, Map<String, Supplier<JsonReader>> bufferedProperties) {
         this.instance = instance;
         this.bufferedProperties = bufferedProperties;
     }
@@ -55,7 +58,7 @@ public class Instance<T> {
      *
      * @return a {@link Map} object.
      */
-    public Map<String, String> getBufferedProperties() {
+    public Map<String, Supplier<JsonReader>> getBufferedProperties() {
         return bufferedProperties;
     }
 }
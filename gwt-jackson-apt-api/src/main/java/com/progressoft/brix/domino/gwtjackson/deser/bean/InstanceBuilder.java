@@ -22,6 +22,7 @@ import com.progressoft.brix.domino.gwtjackson.JsonDeserializerParameters;
 import com.progressoft.brix.domino.gwtjackson.stream.JsonReader;
 
 import java.util.Map;
+import java.util.function.Supplier;
 
 /**
  * <p>InstanceBuilder interface.</p>
@@ -43,7 +44,7 @@ public interface InstanceBuilder<T> {
      * @return a {@link com.progressoft.brix.domino.gwtjackson.deser.bean.Instance} object.
      */
     Instance<T> newInstance(JsonReader reader, JsonDeserializationContext ctx, JsonDeserializerParameters params,
-                            Map<String, String> bufferedProperties,
+                            Map<String, Supplier<JsonReader>> bufferedProperties,
                             Map<String, Object> bufferedPropertiesValues);
 
     /**
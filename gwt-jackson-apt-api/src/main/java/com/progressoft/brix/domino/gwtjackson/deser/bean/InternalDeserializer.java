@@ -22,6 +22,7 @@ import com.progressoft.brix.domino.gwtjackson.JsonDeserializationContext;
 import com.progressoft.brix.domino.gwtjackson.stream.JsonReader;
 
 import java.util.Map;
+import java.util.function.Supplier;
 
 /**
  * Interface hiding the actual implementation doing the bean deserialization.
@@ -51,8 +52,7 @@ interface InternalDeserializer<T, S extends JsonDeserializer<T>> {
      */
     T deserializeInline(JsonReader reader, JsonDeserializationContext ctx, JsonDeserializerParameters params,
                         IdentityDeserializationInfo identityInfo, TypeDeserializationInfo typeInfo,
-                        String typeInformation, Map<String,
-            String> bufferedProperties);
+                        String typeInformation, Map<String, Supplier<JsonReader>> bufferedProperties);
 
     /**
      * <p>deserializeWrapped</p>
@@ -15,13 +15,16 @@
  */
 package com.progressoft.brix.domino.gwtjackson.deser.bean;
 
-import elemental2.core.JsObject;
-import jsinterop.base.Js;
-import jsinterop.base.JsPropertyMap;
+import java.util.HashMap;
+import java.util.Map;
 
+/**
+ * {@link MapLike} used by the generated deserializers. In the browser it is a native object, see the super source, on the JVM
+ * it is a {@link HashMap}.
+ */
 public class JsMapLike<T> implements MapLike<T> {
 
-    private JsPropertyMap<T> map = (JsPropertyMap<T>) Js.asAny(JsObject.create(null)).asPropertyMap();
+    private final Map<String, T> map = new HashMap<String, T>();
 
     @Override
     public T get(String key) {
@@ -30,6 +33,6 @@ public class JsMapLike<T> implements MapLike<T> {
 
     @Override
     public void put(String key, T value) {
-        map.set(key, value);
+        map.put(key, value);
     }
 }
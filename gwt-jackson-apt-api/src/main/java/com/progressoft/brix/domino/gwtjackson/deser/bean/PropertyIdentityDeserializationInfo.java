@@ -66,6 +66,22 @@ public class PropertyIdentityDeserializationInfo<T> implements IdentityDeseriali
         return new IdKey(type, scope, id);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public final Class<?> getType() {
+        return type;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public final Class<?> getScope() {
+        return scope;
+    }
+
     /**
      * {@inheritDoc}
      */
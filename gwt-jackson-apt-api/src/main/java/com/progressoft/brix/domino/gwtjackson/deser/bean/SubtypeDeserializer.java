@@ -23,6 +23,7 @@ import com.progressoft.brix.domino.gwtjackson.JsonDeserializerParameters;
 import com.progressoft.brix.domino.gwtjackson.stream.JsonReader;
 
 import java.util.Map;
+import java.util.function.Supplier;
 
 /**
  * Delegate the deserialization of a subtype to a corresponding {@link AbstractBeanJsonDeserializer}
@@ -43,7 +44,7 @@ public abstract class SubtypeDeserializer<T, D extends JsonDeserializer<T>> exte
         @Override
         public T deserializeInline(JsonReader reader, JsonDeserializationContext ctx, JsonDeserializerParameters params,
                                    IdentityDeserializationInfo identityInfo, TypeDeserializationInfo typeInfo, String typeInformation,
-                                   Map<String, String> bufferedProperties) {
+                                   Map<String, Supplier<JsonReader>> bufferedProperties) {
             return getDeserializer().deserializeInline(reader, ctx, params, identityInfo, typeInfo, typeInformation, bufferedProperties);
         }
 
@@ -64,7 +65,7 @@ public abstract class SubtypeDeserializer<T, D extends JsonDeserializer<T>> exte
         @Override
         public T deserializeInline(JsonReader reader, JsonDeserializationContext ctx, JsonDeserializerParameters params,
                                    IdentityDeserializationInfo identityInfo, TypeDeserializationInfo typeInfo, String typeInformation,
-                                   Map<String, String> bufferedProperties) {
+                                   Map<String, Supplier<JsonReader>> bufferedProperties) {
             throw ctx.traceError("Cannot deserialize into a bean when not using an AbstractBeanJsonDeserializer");
         }
 
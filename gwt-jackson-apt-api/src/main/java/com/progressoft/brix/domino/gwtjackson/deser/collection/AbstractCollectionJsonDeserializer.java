@@ -55,4 +55,12 @@ public class AbstractCollectionJsonDeserializer<T> extends BaseCollectionJsonDes
     protected AbstractCollection<T> newCollection() {
         return new ArrayList<T>();
     }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected AbstractCollection<T> newCollection(int expectedSize) {
+        return new ArrayList<T>(expectedSize);
+    }
 }
@@ -55,4 +55,12 @@ public class AbstractListJsonDeserializer<T> extends BaseListJsonDeserializer<Ab
     protected AbstractList<T> newCollection() {
         return new ArrayList<T>();
     }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected AbstractList<T> newCollection(int expectedSize) {
+        return new ArrayList<T>(expectedSize);
+    }
 }
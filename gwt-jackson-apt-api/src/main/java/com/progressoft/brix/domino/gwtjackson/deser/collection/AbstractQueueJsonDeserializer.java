@@ -55,4 +55,12 @@ public final class AbstractQueueJsonDeserializer<T> extends BaseQueueJsonDeseria
     protected AbstractQueue<T> newCollection() {
         return new PriorityQueue<T>();
     }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected AbstractQueue<T> newCollection(int expectedSize) {
+        return new PriorityQueue<T>(Math.max(1, expectedSize));
+    }
 }
@@ -17,6 +17,7 @@
 package com.progressoft.brix.domino.gwtjackson.deser.collection;
 
 import com.progressoft.brix.domino.gwtjackson.JsonDeserializer;
+import com.progressoft.brix.domino.gwtjackson.utils.CollectionUtils;
 
 import java.util.AbstractSet;
 import java.util.LinkedHashSet;
@@ -56,4 +57,12 @@ public final class AbstractSetJsonDeserializer<T> extends BaseSetJsonDeserialize
     protected AbstractSet<T> newCollection() {
         return new LinkedHashSet<T>();
     }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected AbstractSet<T> newCollection(int expectedSize) {
+        return new LinkedHashSet<T>(CollectionUtils.hashCapacity(expectedSize));
+    }
 }
@@ -54,4 +54,12 @@ public class ArrayListJsonDeserializer<T> extends BaseListJsonDeserializer<Array
     protected ArrayList<T> newCollection() {
         return new ArrayList<T>();
     }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected ArrayList<T> newCollection(int expectedSize) {
+        return new ArrayList<T>(expectedSize);
+    }
 }
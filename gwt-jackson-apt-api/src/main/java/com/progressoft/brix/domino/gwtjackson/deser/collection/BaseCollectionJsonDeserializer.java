@@ -50,7 +50,8 @@ public abstract class BaseCollectionJsonDeserializer<C extends Collection<T>, T>
     public C doDeserialize(JsonReader reader, JsonDeserializationContext ctx, JsonDeserializerParameters params) {
         if (JsonToken.BEGIN_ARRAY == reader.peek()) {
 
-            C result = newCollection();
+            int expectedSize = ctx.isPresizeCollections() ? reader.peekLength() : -1;
+            C result = expectedSize < 0 ? newCollection() : newCollection(expectedSize);
 
             reader.beginArray();
             while (JsonToken.END_ARRAY != reader.peek()) {
@@ -81,6 +82,17 @@ public abstract class BaseCollectionJsonDeserializer<C extends Collection<T>, T>
      */
     protected abstract C newCollection();
 
+    /**
+     * Instantiates a new collection for deserialization process, sized for the number of elements found in the input. Returns
+     * {@link #newCollection()} by default.
+     *
+     * @param expectedSize number of elements in the input
+     * @return the new collection
+     */
+    protected C newCollection(int expectedSize) {
+        return newCollection();
+    }
+
     /**
      * <p>isNullValueAllowed</p>
      *
@@ -55,4 +55,12 @@ public class CollectionJsonDeserializer<T> extends BaseCollectionJsonDeserialize
     protected Collection<T> newCollection() {
         return new ArrayList<T>();
     }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected Collection<T> newCollection(int expectedSize) {
+        return new ArrayList<T>(expectedSize);
+    }
 }
@@ -17,6 +17,7 @@
 package com.progressoft.brix.domino.gwtjackson.deser.collection;
 
 import com.progressoft.brix.domino.gwtjackson.JsonDeserializer;
+import com.progressoft.brix.domino.gwtjackson.utils.CollectionUtils;
 
 import java.util.HashSet;
 
@@ -54,4 +55,12 @@ public class HashSetJsonDeserializer<T> extends BaseSetJsonDeserializer<HashSet<
     protected HashSet<T> newCollection() {
         return new HashSet<T>();
     }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected HashSet<T> newCollection(int expectedSize) {
+        return new HashSet<T>(CollectionUtils.hashCapacity(expectedSize));
+    }
 }
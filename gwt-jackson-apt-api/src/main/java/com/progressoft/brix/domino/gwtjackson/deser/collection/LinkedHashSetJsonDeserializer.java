@@ -17,6 +17,7 @@
 package com.progressoft.brix.domino.gwtjackson.deser.collection;
 
 import com.progressoft.brix.domino.gwtjackson.JsonDeserializer;
+import com.progressoft.brix.domino.gwtjackson.utils.CollectionUtils;
 
 import java.util.LinkedHashSet;
 
@@ -54,4 +55,12 @@ public class LinkedHashSetJsonDeserializer<T> extends BaseSetJsonDeserializer<Li
     protected LinkedHashSet<T> newCollection() {
         return new LinkedHashSet<T>();
     }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected LinkedHashSet<T> newCollection(int expectedSize) {
+        return new LinkedHashSet<T>(CollectionUtils.hashCapacity(expectedSize));
+    }
 }
@@ -55,4 +55,12 @@ public final class ListJsonDeserializer<T> extends BaseListJsonDeserializer<List
     protected List<T> newCollection() {
         return new ArrayList<T>();
     }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected List<T> newCollection(int expectedSize) {
+        return new ArrayList<T>(expectedSize);
+    }
 }
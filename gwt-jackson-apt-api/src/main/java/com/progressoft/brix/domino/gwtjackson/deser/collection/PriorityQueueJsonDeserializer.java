@@ -54,4 +54,12 @@ public class PriorityQueueJsonDeserializer<T> extends BaseQueueJsonDeserializer<
     protected PriorityQueue<T> newCollection() {
         return new PriorityQueue<T>();
     }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected PriorityQueue<T> newCollection(int expectedSize) {
+        return new PriorityQueue<T>(Math.max(1, expectedSize));
+    }
 }
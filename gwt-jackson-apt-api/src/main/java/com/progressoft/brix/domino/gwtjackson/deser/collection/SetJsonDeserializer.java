@@ -17,6 +17,7 @@
 package com.progressoft.brix.domino.gwtjackson.deser.collection;
 
 import com.progressoft.brix.domino.gwtjackson.JsonDeserializer;
+import com.progressoft.brix.domino.gwtjackson.utils.CollectionUtils;
 
 import java.util.LinkedHashSet;
 import java.util.Set;
@@ -55,4 +56,12 @@ public final class SetJsonDeserializer<T> extends BaseSetJsonDeserializer<Set<T>
     protected Set<T> newCollection() {
         return new LinkedHashSet<T>();
     }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected Set<T> newCollection(int expectedSize) {
+        return new LinkedHashSet<T>(CollectionUtils.hashCapacity(expectedSize));
+    }
 }
@@ -54,4 +54,12 @@ public class VectorJsonDeserializer<T> extends BaseListJsonDeserializer<Vector<T
     protected Vector<T> newCollection() {
         return new Vector<T>();
     }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected Vector<T> newCollection(int expectedSize) {
+        return new Vector<T>(expectedSize);
+    }
 }
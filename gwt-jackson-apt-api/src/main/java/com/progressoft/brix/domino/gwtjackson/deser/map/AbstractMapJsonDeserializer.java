@@ -18,6 +18,7 @@ package com.progressoft.brix.domino.gwtjackson.deser.map;
 
 import com.progressoft.brix.domino.gwtjackson.JsonDeserializer;
 import com.progressoft.brix.domino.gwtjackson.deser.map.key.KeyDeserializer;
+import com.progressoft.brix.domino.gwtjackson.utils.CollectionUtils;
 
 import java.util.AbstractMap;
 import java.util.LinkedHashMap;
@@ -62,4 +63,12 @@ public final class AbstractMapJsonDeserializer<K, V> extends BaseMapJsonDeserial
     protected AbstractMap<K, V> newMap() {
         return new LinkedHashMap<K, V>();
     }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected AbstractMap<K, V> newMap(int expectedSize) {
+        return new LinkedHashMap<K, V>(CollectionUtils.hashCapacity(expectedSize));
+    }
 }
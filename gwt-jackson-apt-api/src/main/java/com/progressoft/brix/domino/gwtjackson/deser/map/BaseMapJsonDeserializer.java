@@ -68,7 +68,8 @@ public abstract class BaseMapJsonDeserializer<M extends Map<K, V>, K, V> extends
      */
     @Override
     public M doDeserialize(JsonReader reader, JsonDeserializationContext ctx, JsonDeserializerParameters params) {
-        M result = newMap();
+        int expectedSize = ctx.isPresizeCollections() ? reader.peekLength() : -1;
+        M result = expectedSize < 0 ? newMap() : newMap(expectedSize);
 
         reader.beginObject();
         while (JsonToken.END_OBJECT != reader.peek()) {
@@ -89,6 +90,17 @@ public abstract class BaseMapJsonDeserializer<M extends Map<K, V>, K, V> extends
      */
     protected abstract M newMap();
 
+    /**
+     * Instantiates a new map for deserialization process, sized for the number of properties found in the input. Returns
+     * {@link #newMap()} by default.
+     *
+     * @param expectedSize number of properties in the input
+     * @return the new map
+     */
+    protected M newMap(int expectedSize) {
+        return newMap();
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -18,6 +18,7 @@ package com.progressoft.brix.domino.gwtjackson.deser.map;
 
 import com.progressoft.brix.domino.gwtjackson.JsonDeserializer;
 import com.progressoft.brix.domino.gwtjackson.deser.map.key.KeyDeserializer;
+import com.progressoft.brix.domino.gwtjackson.utils.CollectionUtils;
 
 import java.util.HashMap;
 
@@ -61,4 +62,12 @@ public final class HashMapJsonDeserializer<K, V> extends BaseMapJsonDeserializer
     protected HashMap<K, V> newMap() {
         return new HashMap<K, V>();
     }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected HashMap<K, V> newMap(int expectedSize) {
+        return new HashMap<K, V>(CollectionUtils.hashCapacity(expectedSize));
+    }
 }
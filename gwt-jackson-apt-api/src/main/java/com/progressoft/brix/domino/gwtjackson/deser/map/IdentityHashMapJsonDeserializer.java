@@ -61,4 +61,12 @@ public final class IdentityHashMapJsonDeserializer<K, V> extends BaseMapJsonDese
     protected IdentityHashMap<K, V> newMap() {
         return new IdentityHashMap<K, V>();
     }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected IdentityHashMap<K, V> newMap(int expectedSize) {
+        return new IdentityHashMap<K, V>(expectedSize);
+    }
 }
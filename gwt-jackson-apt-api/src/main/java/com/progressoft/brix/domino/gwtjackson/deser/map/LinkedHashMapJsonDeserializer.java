@@ -18,6 +18,7 @@ package com.progressoft.brix.domino.gwtjackson.deser.map;
 
 import com.progressoft.brix.domino.gwtjackson.JsonDeserializer;
 import com.progressoft.brix.domino.gwtjackson.deser.map.key.KeyDeserializer;
+import com.progressoft.brix.domino.gwtjackson.utils.CollectionUtils;
 
 import java.util.LinkedHashMap;
 
@@ -61,4 +62,12 @@ public final class LinkedHashMapJsonDeserializer<K, V> extends BaseMapJsonDeseri
     protected LinkedHashMap<K, V> newMap() {
         return new LinkedHashMap<K, V>();
     }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected LinkedHashMap<K, V> newMap(int expectedSize) {
+        return new LinkedHashMap<K, V>(CollectionUtils.hashCapacity(expectedSize));
+    }
 }
@@ -18,6 +18,7 @@ package com.progressoft.brix.domino.gwtjackson.deser.map;
 
 import com.progressoft.brix.domino.gwtjackson.JsonDeserializer;
 import com.progressoft.brix.domino.gwtjackson.deser.map.key.KeyDeserializer;
+import com.progressoft.brix.domino.gwtjackson.utils.CollectionUtils;
 
 import java.util.LinkedHashMap;
 import java.util.Map;
@@ -62,4 +63,12 @@ public final class MapJsonDeserializer<K, V> extends BaseMapJsonDeserializer<Map
     protected Map<K, V> newMap() {
         return new LinkedHashMap<K, V>();
     }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected Map<K, V> newMap(int expectedSize) {
+        return new LinkedHashMap<K, V>(CollectionUtils.hashCapacity(expectedSize));
+    }
 }
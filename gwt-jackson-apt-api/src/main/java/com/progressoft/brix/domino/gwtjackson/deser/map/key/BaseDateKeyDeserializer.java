@@ -18,6 +18,7 @@ package com.progressoft.brix.domino.gwtjackson.deser.map.key;
 
 import com.progressoft.brix.domino.gwtjackson.JsonDeserializationContext;
 import com.progressoft.brix.domino.gwtjackson.exception.JsonDeserializationException;
+import com.progressoft.brix.domino.gwtjackson.utils.Iso8601Format;
 import com.google.gwt.i18n.client.DateTimeFormat;
 import com.google.gwt.i18n.client.DateTimeFormat.PredefinedFormat;
 
@@ -159,7 +160,11 @@ public abstract class BaseDateKeyDeserializer<D extends Date> extends KeyDeseria
 
         // Default configuration for serializing keys is using ISO-8601, we try that one first
 
-        // in ISO-8601
+        // in ISO-8601, the layout written by DateKeySerializer is parsed without DateTimeFormat
+        long isoMillis = Iso8601Format.parseUtc(key);
+        if (isoMillis != Iso8601Format.INVALID) {
+            return deserializeMillis(isoMillis);
+        }
         try {
             return deserializeDate(ISO_8601_FORMAT.parse(key));
         } catch (IllegalArgumentException e) {
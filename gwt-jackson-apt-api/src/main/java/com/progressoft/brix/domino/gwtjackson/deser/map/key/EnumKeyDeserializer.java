@@ -17,6 +17,7 @@
 package com.progressoft.brix.domino.gwtjackson.deser.map.key;
 
 import com.progressoft.brix.domino.gwtjackson.JsonDeserializationContext;
+import com.progressoft.brix.domino.gwtjackson.stream.PropertyNameTable;
 
 /**
  * Default {@link KeyDeserializer} implementation for {@link Enum}.
@@ -40,6 +41,10 @@ public final class EnumKeyDeserializer<E extends Enum<E>> extends KeyDeserialize
 
     private final Class<E> enumClass;
 
+    private final E[] values;
+
+    private final PropertyNameTable names;
+
     /**
      * @param enumClass class of the enumeration
      */
@@ -48,6 +53,12 @@ public final class EnumKeyDeserializer<E extends Enum<E>> extends KeyDeserialize
             throw new IllegalArgumentException("enumClass cannot be null");
         }
         this.enumClass = enumClass;
+        this.values = enumClass.getEnumConstants();
+        String[] constantNames = new String[values.length];
+        for (int i = 0; i < values.length; i++) {
+            constantNames[i] = values[i].name();
+        }
+        this.names = new PropertyNameTable(constantNames);
     }
 
     /**
@@ -55,14 +66,14 @@ public final class EnumKeyDeserializer<E extends Enum<E>> extends KeyDeserialize
      */
     @Override
     protected E doDeserialize(String key, JsonDeserializationContext ctx) {
-        try {
-            return Enum.valueOf(enumClass, key);
-        } catch (IllegalArgumentException ex) {
-            if (ctx.isReadUnknownEnumValuesAsNull()) {
-                return null;
-            }
-            throw ex;
+        int index = names.indexOf(key);
+        if (index >= 0) {
+            return values[index];
+        }
+        if (ctx.isReadUnknownEnumValuesAsNull()) {
+            return null;
         }
+        throw new IllegalArgumentException("No enum constant " + enumClass.getName() + "." + key);
     }
 
     /**
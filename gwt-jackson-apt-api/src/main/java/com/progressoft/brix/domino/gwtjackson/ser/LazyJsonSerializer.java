@@ -0,0 +1,60 @@
+/*
+ * Copyright 2017 Ahmad Bawaneh
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.progressoft.brix.domino.gwtjackson.ser;
+
+import com.progressoft.brix.domino.gwtjackson.JsonSerializationContext;
+import com.progressoft.brix.domino.gwtjackson.JsonSerializer;
+import com.progressoft.brix.domino.gwtjackson.JsonSerializerParameters;
+import com.progressoft.brix.domino.gwtjackson.Lazy;
+import com.progressoft.brix.domino.gwtjackson.stream.JsonWriter;
+
+/**
+ * Default {@link JsonSerializer} implementation for {@link Lazy}. The value is loaded if it was not yet.
+ *
+ * @param <T> Type of the value
+ */
+public class LazyJsonSerializer<T> extends JsonSerializer<Lazy<T>> {
+
+    /**
+     * <p>newInstance</p>
+     *
+     * @param serializer {@link JsonSerializer} used to serialize the value.
+     * @return a new instance of {@link LazyJsonSerializer}
+     */
+    public static LazyJsonSerializer<?> newInstance(JsonSerializer<?> serializer) {
+        return new LazyJsonSerializer(serializer);
+    }
+
+    private final JsonSerializer<T> serializer;
+
+    /**
+     * @param serializer {@link JsonSerializer} used to serialize the value.
+     */
+    protected LazyJsonSerializer(JsonSerializer<T> serializer) {
+        if (null == serializer) {
+            throw new IllegalArgumentException("serializer cannot be null");
+        }
+        this.serializer = serializer;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void doSerialize(JsonWriter writer, Lazy<T> value, JsonSerializationContext ctx, JsonSerializerParameters params) {
+        serializer.serialize(writer, value.get(), ctx, params);
+    }
+}
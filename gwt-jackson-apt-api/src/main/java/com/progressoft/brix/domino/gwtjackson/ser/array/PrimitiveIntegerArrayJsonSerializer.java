@@ -64,11 +64,7 @@ public class PrimitiveIntegerArrayJsonSerializer extends JsonSerializer<int[]> {
         if (ctx.isWriteSingleElemArraysUnwrapped() && values.length == 1) {
             writer.value(values[0]);
         } else {
-            writer.beginArray();
-            for (int value : values) {
-                writer.value(value);
-            }
-            writer.endArray();
+            writer.value(values, 0, values.length);
         }
     }
 }
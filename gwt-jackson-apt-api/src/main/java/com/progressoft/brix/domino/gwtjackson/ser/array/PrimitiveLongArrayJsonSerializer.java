@@ -64,11 +64,7 @@ public class PrimitiveLongArrayJsonSerializer extends JsonSerializer<long[]> {
         if (ctx.isWriteSingleElemArraysUnwrapped() && values.length == 1) {
             writer.value(values[0]);
         } else {
-            writer.beginArray();
-            for (long value : values) {
-                writer.value(value);
-            }
-            writer.endArray();
+            writer.value(values, 0, values.length);
         }
     }
 }
@@ -64,11 +64,7 @@ public class PrimitiveDoubleArray2dJsonSerializer extends JsonSerializer<double[
 
         writer.beginArray();
         for (double[] array : values) {
-            writer.beginArray();
-            for (double value : array) {
-                writer.value(value);
-            }
-            writer.endArray();
+            writer.value(array, 0, array.length);
         }
         writer.endArray();
     }
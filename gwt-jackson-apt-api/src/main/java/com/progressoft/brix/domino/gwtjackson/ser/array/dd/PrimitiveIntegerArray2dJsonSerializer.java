@@ -63,11 +63,7 @@ public class PrimitiveIntegerArray2dJsonSerializer extends JsonSerializer<int[][
 
         writer.beginArray();
         for (int[] array : values) {
-            writer.beginArray();
-            for (int value : array) {
-                writer.value(value);
-            }
-            writer.endArray();
+            writer.value(array, 0, array.length);
         }
         writer.endArray();
     }
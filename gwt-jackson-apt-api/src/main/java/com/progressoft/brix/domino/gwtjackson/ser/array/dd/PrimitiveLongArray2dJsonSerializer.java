@@ -63,11 +63,7 @@ public class PrimitiveLongArray2dJsonSerializer extends JsonSerializer<long[][]>
 
         writer.beginArray();
         for (long[] array : values) {
-            writer.beginArray();
-            for (long value : array) {
-                writer.value(value);
-            }
-            writer.endArray();
+            writer.value(array, 0, array.length);
         }
         writer.endArray();
     }
@@ -104,6 +104,36 @@ public abstract class AbstractBeanJsonSerializer<T> extends JsonSerializer<T> im
         return null;
     }
 
+    /**
+     * Serializes all the properties of the bean in a single generated method that writes primitive and {@link String}
+     * properties directly with the writer. Only called when no property has to be skipped, i.e. without identity info and
+     * ignored properties.
+     *
+     * @param writer writer
+     * @param value  bean to serialize
+     * @param ctx    context of the serialization process
+     * @return false if the bean has no such method and its properties have to be serialized with the {@link #serializers}
+     */
+    protected boolean serializePropertiesInline(JsonWriter writer, T value, JsonSerializationContext ctx) {
+        return false;
+    }
+
+    /**
+     * Serializes the name and the value of one property with its serializer, for the properties that
+     * {@link #serializePropertiesInline(JsonWriter, Object, JsonSerializationContext)} does not write directly.
+     *
+     * @param index  index of the property in {@link #serializers}
+     * @param writer writer
+     * @param bean   bean containing the property
+     * @param ctx    context of the serialization process
+     */
+    @SuppressWarnings("unchecked")
+    protected final void serializeProperty(int index, JsonWriter writer, T bean, JsonSerializationContext ctx) {
+        BeanPropertySerializer<T, ?> propertySerializer = serializers[index];
+        propertySerializer.serializePropertyName(writer, bean, ctx);
+        propertySerializer.serialize(writer, bean, ctx);
+    }
+
     /**
      * <p>getSerializedType</p>
      *
@@ -257,11 +287,13 @@ public abstract class AbstractBeanJsonSerializer<T> extends JsonSerializer<T> im
 
     private void serializeProperties(JsonWriter writer, T value, JsonSerializationContext ctx, Set<String> ignoredProperties,
                                      IdentitySerializationInfo identityInfo) {
-        for (BeanPropertySerializer<T, ?> propertySerializer : serializers) {
-            if ((null == identityInfo || !identityInfo.isProperty() || !identityInfo.getPropertyName().equals(propertySerializer
-                    .getPropertyName())) && !ignoredProperties.contains(propertySerializer.getPropertyName())) {
-                propertySerializer.serializePropertyName(writer, value, ctx);
-                propertySerializer.serialize(writer, value, ctx);
+        if (null != identityInfo || !ignoredProperties.isEmpty() || !serializePropertiesInline(writer, value, ctx)) {
+            for (BeanPropertySerializer<T, ?> propertySerializer : serializers) {
+                if ((null == identityInfo || !identityInfo.isProperty() || !identityInfo.getPropertyName().equals(propertySerializer
+                        .getPropertyName())) && !ignoredProperties.contains(propertySerializer.getPropertyName())) {
+                    propertySerializer.serializePropertyName(writer, value, ctx);
+                    propertySerializer.serialize(writer, value, ctx);
+                }
             }
         }
 
@@ -30,7 +30,12 @@ public abstract class BeanPropertySerializer<T, V> extends HasSerializer<V, Json
 
     protected final String propertyName;
 
-    private JsonSerializerParameters parameters;
+    /**
+     * The name quoted with its separators, written in a single append
+     */
+    private final String nameFragment;
+
+    private volatile JsonSerializerParameters parameters;
 
     /**
      * <p>Constructor for BeanPropertySerializer.</p>
@@ -39,6 +44,7 @@ public abstract class BeanPropertySerializer<T, V> extends HasSerializer<V, Json
      */
     protected BeanPropertySerializer(String propertyName) {
         this.propertyName = propertyName;
+        this.nameFragment = ",\"" + propertyName + "\":";
     }
 
     /**
@@ -47,10 +53,17 @@ public abstract class BeanPropertySerializer<T, V> extends HasSerializer<V, Json
      * @return a {@link JsonSerializerParameters} object.
      */
     protected JsonSerializerParameters getParameters() {
-        if (null == parameters) {
-            parameters = newParameters();
+        JsonSerializerParameters result = parameters;
+        if (null == result) {
+            synchronized (this) {
+                result = parameters;
+                if (null == result) {
+                    result = newParameters();
+                    parameters = result;
+                }
+            }
         }
-        return parameters;
+        return result;
     }
 
     /**
@@ -79,7 +92,7 @@ public abstract class BeanPropertySerializer<T, V> extends HasSerializer<V, Json
      * @param ctx    context of the serialization process
      */
     public void serializePropertyName(JsonWriter writer, T bean, JsonSerializationContext ctx) {
-        writer.unescapeName(propertyName);
+        writer.rawName(nameFragment);
     }
 
     /**
@@ -19,14 +19,15 @@ package com.progressoft.brix.domino.gwtjackson.ser.bean;
 import com.progressoft.brix.domino.gwtjackson.JsonSerializer;
 
 /**
- * Lazy initialize a {@link JsonSerializer}
+ * Lazy initialize a {@link JsonSerializer}. The instance is created once, under a lock only taken until it is published through
+ * a volatile field.
  *
  * @author Nicolas Morel
  * @version $Id: $
  */
 public abstract class HasSerializer<V, S extends JsonSerializer<V>> {
 
-    private S serializer;
+    private volatile S serializer;
 
     /**
      * <p>Getter for the field <code>serializer</code>.</p>
@@ -34,10 +35,17 @@ public abstract class HasSerializer<V, S extends JsonSerializer<V>> {
      * @return a S object.
      */
     protected S getSerializer() {
-        if (null == serializer) {
-            serializer = (S) newSerializer();
+        S result = serializer;
+        if (null == result) {
+            synchronized (this) {
+                result = serializer;
+                if (null == result) {
+                    result = (S) newSerializer();
+                    serializer = result;
+                }
+            }
         }
-        return serializer;
+        return result;
     }
 
     /**
@@ -0,0 +1,41 @@
+/*
+ * Copyright 2017 Ahmad Bawaneh
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.progressoft.brix.domino.gwtjackson.stream.impl;
+
+/**
+ * The characters of a JSON input, pulled by a {@link DefaultJsonReader} into its buffer each time the buffer needs to be
+ * refilled.
+ */
+public interface CharInput {
+
+    /**
+     * Reads characters into a portion of an array.
+     *
+     * @param buffer destination buffer
+     * @param offset offset at which to start writing characters
+     * @param length maximum number of characters to read
+     * @return the number of characters read, or -1 if the end of the input has been reached
+     * @throws com.progressoft.brix.domino.gwtjackson.exception.JsonDeserializationException if the input cannot be read
+     */
+    int read(char[] buffer, int offset, int length);
+
+    /**
+     * Releases the resources held by the input, called when the reader is closed.
+     *
+     * @throws com.progressoft.brix.domino.gwtjackson.exception.JsonDeserializationException if the input cannot be closed
+     */
+    void close();
+}
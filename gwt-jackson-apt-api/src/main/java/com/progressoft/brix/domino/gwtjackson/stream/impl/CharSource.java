@@ -0,0 +1,29 @@
+/*
+ * Copyright 2017 Ahmad Bawaneh
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.progressoft.brix.domino.gwtjackson.stream.impl;
+
+/**
+ * Random access to the input of a reader, whatever it is stored in, for the look-ahead of {@link JsonScanner} and the
+ * number parsing of {@link DecimalLiteral}.
+ */
+interface CharSource {
+
+    /**
+     * @param index index in the input
+     * @return the character at the given index
+     */
+    char charAt(int index);
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright 2017 Ahmad Bawaneh
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.progressoft.brix.domino.gwtjackson.stream.impl;
+
+import java.math.BigDecimal;
+
+/**
+ * A number literal of the input decomposed into a significand and a scale, its value is significand * 10^-scale. The
+ * readers decompose a peeked number with it to build a float or a {@link BigDecimal} without creating a {@link String}.
+ */
+final class DecimalLiteral {
+
+    /**
+     * Numbers with up to this many significant digits are decomposed, a bigger significand could overflow a long.
+     */
+    private static final int MAX_SIGNIFICANT_DIGITS = 18;
+
+    /**
+     * Biggest significand and power of ten that are exact as float, the quotient or product of two such floats is correctly
+     * rounded.
+     */
+    private static final long MAX_EXACT_FLOAT_SIGNIFICAND = 1L << 24;
+
+    private static final float[] FLOAT_POWERS_OF_TEN = {1e0f, 1e1f, 1e2f, 1e3f, 1e4f, 1e5f, 1e6f, 1e7f, 1e8f, 1e9f, 1e10f};
+
+    private long significand;
+
+    private int scale;
+
+    /**
+     * Decomposes a number literal already validated by the reader.
+     *
+     * @param in    the input
+     * @param start index of the first character of the literal
+     * @param end   index after the last character of the literal
+     * @return false if the number has more than {@link #MAX_SIGNIFICANT_DIGITS} significant digits or a too large exponent
+     */
+    boolean decompose(CharSource in, int start, int end) {
+        int i = start;
+        boolean negative = in.charAt(start) == '-';
+        if (negative) {
+            i++;
+        }
+
+        long significand = 0;
+        int digits = 0;
+        int scale = 0;
+        boolean fraction = false;
+        for (; i < end; i++) {
+            char c = in.charAt(i);
+            if (c >= '0' && c <= '9') {
+                if (significand != 0 || c != '0') {
+                    if (++digits > MAX_SIGNIFICANT_DIGITS) {
+                        return false;
+                    }
+                    significand = significand * 10 + (c - '0');
+                }
+                if (fraction) {
+                    scale++;
+                }
+            } else if (c == '.') {
+                fraction = true;
+            } else {
+                break;
+            }
+        }
+
+        if (i < end) {
+            // exponent
+            i++;
+            char sign = in.charAt(i);
+            boolean negativeExponent = sign == '-';
+            if (negativeExponent || sign == '+') {
+                i++;
+            }
+            int exponent = 0;
+            for (; i < end; i++) {
+                exponent = exponent * 10 + (in.charAt(i) - '0');
+                if (exponent > 9999) {
+                    return false;
+                }
+            }
+            scale = negativeExponent ? scale + exponent : scale - exponent;
+        }
+
+        this.significand = negative ? -significand : significand;
+        this.scale = scale;
+        return true;
+    }
+
+    /**
+     * @return true if {@link #floatValue()} is correctly rounded for the last decomposed literal
+     */
+    boolean isExactFloat() {
+        return significand != 0 && significand <= MAX_EXACT_FLOAT_SIGNIFICAND && significand >= -MAX_EXACT_FLOAT_SIGNIFICAND
+                && scale < FLOAT_POWERS_OF_TEN.length && scale > -FLOAT_POWERS_OF_TEN.length;
+    }
+
+    /**
+     * @return the last decomposed literal as float, only valid when {@link #isExactFloat()} is true
+     */
+    float floatValue() {
+        return scale >= 0 ? significand / FLOAT_POWERS_OF_TEN[scale] : significand * FLOAT_POWERS_OF_TEN[-scale];
+    }
+
+    /**
+     * @return the last decomposed literal as {@link BigDecimal}
+     */
+    BigDecimal bigDecimalValue() {
+        return BigDecimal.valueOf(significand, scale);
+    }
+}
@@ -17,16 +17,21 @@
 
 package com.progressoft.brix.domino.gwtjackson.stream.impl;
 
+import com.progressoft.brix.domino.gwtjackson.annotation.GwtIncompatible;
 import com.progressoft.brix.domino.gwtjackson.exception.JsonDeserializationException;
 import com.progressoft.brix.domino.gwtjackson.stream.JsonToken;
+import com.progressoft.brix.domino.gwtjackson.stream.PropertyNameTable;
 import com.progressoft.brix.domino.gwtjackson.stream.JsonWriter;
 
+import java.io.IOException;
+import java.io.Reader;
+import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.function.Supplier;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
-import static elemental2.core.Global.JSON;
-
 /**
  * Reads a JSON (<a href="http://www.ietf.org/rfc/rfc4627.txt">RFC 4627</a>)
  * encoded value as a stream of tokens. This stream includes both literal
@@ -187,6 +192,16 @@ import static elemental2.core.Global.JSON;
  * <p>
  * <p>Each {@code JsonReader} may be used to read a single JSON stream. Instances
  * of this class are not thread safe.
+ * <p>
+ * <h3>Input</h3>
+ * A reader created from a {@link CharInput}, e.g. a {@link StringReader} or a {@link Reader}, pulls the characters into a
+ * fixed-size buffer that is refilled as the parsing goes. The document is never held in memory as a whole, so documents
+ * bigger than the heap can be read token by token, but only the buffered part of the input can be looked ahead or read
+ * again.
+ * <p>
+ * A reader created from a {@link String} holds the whole document in its buffer instead. It can then give the length of
+ * arrays and objects and read a value again later, and it can be {@link #reset(String) reset} to read another document
+ * with the same buffer.
  *
  * @author Jesse Wilson
  * @version $Id: $
@@ -243,9 +258,14 @@ public class DefaultJsonReader implements com.progressoft.brix.domino.gwtjackson
     private static final int NUMBER_CHAR_EXP_DIGIT = 7;
 
     /**
-     * The input JSON.
+     * Default size of the buffer when reading from a {@link Reader}, in characters.
      */
-    private final StringReader in;
+    public static final int DEFAULT_BUFFER_SIZE = 8192;
+
+    /**
+     * The input JSON, or null when the whole input is in {@link #buffer}.
+     */
+    private CharInput in;
 
     /**
      * True to accept non-spec compliant JSON
@@ -258,7 +278,7 @@ public class DefaultJsonReader implements com.progressoft.brix.domino.gwtjackson
      * We decode literals directly out of this buffer, so it must be at least as
      * long as the longest token that can be reported as a number.
      */
-    private final char[] buffer = new char[1024];
+    private char[] buffer;
     private int pos = 0;
     private int limit = 0;
 
@@ -279,6 +299,16 @@ public class DefaultJsonReader implements com.progressoft.brix.domino.gwtjackson
      */
     private int peekedNumberLength;
 
+    /**
+     * The input as seen by the look-ahead and number parsing shared with the other readers.
+     */
+    private final CharSource source = i -> buffer[i];
+
+    /**
+     * The peeked number literal decomposed by {@link #nextFloat()} and {@link #nextBigDecimal()}.
+     */
+    private final DecimalLiteral number = new DecimalLiteral();
+
     /**
      * A peeked string that should be parsed on the next double, long or string.
      * This is populated before a numeric value is parsed and used if that parsing
@@ -289,11 +319,11 @@ public class DefaultJsonReader implements com.progressoft.brix.domino.gwtjackson
     /*
      * The nesting stack. Using a manual array rather than an ArrayList saves 20%.
      */
-    private IntegerStack stack = new IntegerStack();
+    private int[] stack = new int[32];
     private int stackSize = 0;
 
     {
-        stack.setAt(stackSize++, JsonScope.EMPTY_DOCUMENT);
+        stack[stackSize++] = JsonScope.EMPTY_DOCUMENT;
     }
 
     /**
@@ -302,10 +332,115 @@ public class DefaultJsonReader implements com.progressoft.brix.domino.gwtjackson
      * @param in a {@link com.progressoft.brix.domino.gwtjackson.stream.impl.StringReader} object.
      */
     public DefaultJsonReader(StringReader in) {
+        this(in, 1024);
+    }
+
+    /**
+     * Creates a new instance that reads a JSON-encoded stream from {@code in}.
+     *
+     * @param in         a {@link CharInput} object.
+     * @param bufferSize size of the buffer, in characters. It bounds the length of the numbers that can be read as a
+     *                   number, longer literals are still read as strings.
+     */
+    public DefaultJsonReader(CharInput in, int bufferSize) {
         if (in == null) {
             throw new NullPointerException("in == null");
         }
+        if (bufferSize < 32) {
+            throw new IllegalArgumentException("bufferSize must be at least 32 but was " + bufferSize);
+        }
         this.in = in;
+        this.buffer = new char[bufferSize];
+    }
+
+    /**
+     * Creates a new instance that reads a JSON-encoded stream from {@code in}.
+     *
+     * @param in a {@link Reader} object.
+     */
+    @GwtIncompatible
+    public DefaultJsonReader(Reader in) {
+        this(in, DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * Creates a new instance that reads a JSON-encoded stream from {@code in}.
+     *
+     * @param in         a {@link Reader} object.
+     * @param bufferSize size of the buffer, in characters, see {@link #DefaultJsonReader(CharInput, int)}.
+     */
+    @GwtIncompatible
+    public DefaultJsonReader(Reader in, int bufferSize) {
+        this(new ReaderInput(in), bufferSize);
+    }
+
+    /**
+     * Creates a new instance that reads a JSON-encoded stream from {@code in}, the whole input is copied to the buffer.
+     *
+     * @param in a {@link String} object.
+     */
+    public DefaultJsonReader(String in) {
+        if (in == null) {
+            throw new NullPointerException("in == null");
+        }
+        this.buffer = new char[in.length()];
+        init(in);
+    }
+
+    /**
+     * Creates a new instance that reads the first {@code length} characters of {@code buffer}, which holds the whole input.
+     * The array is used as the buffer, it is not copied.
+     *
+     * @param buffer the JSON-encoded input
+     * @param length number of characters of the input
+     */
+    DefaultJsonReader(char[] buffer, int length) {
+        this.buffer = buffer;
+        start(length);
+    }
+
+    /**
+     * Prepares this reader to read a new JSON-encoded stream from {@code in}, so the same instance can read many inputs. The
+     * buffer is reused when it is big enough. The lenient setting is kept.
+     *
+     * @param in a {@link String} object.
+     */
+    public void reset(String in) {
+        if (in == null) {
+            throw new NullPointerException("in == null");
+        }
+        if (buffer.length < in.length()) {
+            buffer = new char[in.length()];
+        }
+        init(in);
+        peeked = PEEKED_NONE;
+        peekedString = null;
+        lineNumber = 0;
+        stackSize = 0;
+        stack[stackSize++] = JsonScope.EMPTY_DOCUMENT;
+    }
+
+    private void init(String in) {
+        in.getChars(0, in.length(), buffer, 0);
+        start(in.length());
+    }
+
+    private void start(int length) {
+        this.in = null;
+        this.pos = 0;
+        this.lineStart = 0;
+        this.limit = length;
+        if (limit > 0 && buffer[0] == '\ufeff') {
+            pos++;
+            lineStart++;
+        }
+    }
+
+    /**
+     * @return the number of characters the buffer can hold
+     */
+    int capacity() {
+        return buffer.length;
     }
 
     /**
@@ -409,6 +544,25 @@ public class DefaultJsonReader implements com.progressoft.brix.domino.gwtjackson
         return p != PEEKED_END_OBJECT && p != PEEKED_END_ARRAY;
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Scans the buffered characters only. A whole input is always buffered, an input refilled from a {@link CharInput}
+     * gets a count when the end of the array or object is already in the buffer and -1 otherwise; the buffer is not refilled
+     * to look further.
+     */
+    @Override
+    public int peekLength() {
+        int p = peeked;
+        if (p == PEEKED_NONE) {
+            p = doPeek();
+        }
+        if (p != PEEKED_BEGIN_ARRAY && p != PEEKED_BEGIN_OBJECT) {
+            return -1;
+        }
+        return JsonScanner.countElements(source, pos, limit);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -454,9 +608,9 @@ public class DefaultJsonReader implements com.progressoft.brix.domino.gwtjackson
 
     private int doPeek() {
 
-        final int peekStack = stack.getAt(stackSize - 1);
+        final int peekStack = stack[stackSize - 1];
         if (peekStack == JsonScope.EMPTY_ARRAY) {
-            stack.setAt(stackSize - 1, JsonScope.NONEMPTY_ARRAY);
+            stack[stackSize - 1] = JsonScope.NONEMPTY_ARRAY;
         } else if (peekStack == JsonScope.NONEMPTY_ARRAY) {
             // Look for a comma before the next element.
             int c = nextNonWhitespace(true);
@@ -471,7 +625,7 @@ public class DefaultJsonReader implements com.progressoft.brix.domino.gwtjackson
                     throw syntaxError("Unterminated array");
             }
         } else if (peekStack == JsonScope.EMPTY_OBJECT || peekStack == JsonScope.NONEMPTY_OBJECT) {
-            stack.setAt(stackSize - 1, JsonScope.DANGLING_NAME);
+            stack[stackSize - 1] = JsonScope.DANGLING_NAME;
             // Look for a comma before the next element.
             if (peekStack == JsonScope.NONEMPTY_OBJECT) {
                 int c = nextNonWhitespace(true);
@@ -509,7 +663,7 @@ public class DefaultJsonReader implements com.progressoft.brix.domino.gwtjackson
                     }
             }
         } else if (peekStack == JsonScope.DANGLING_NAME) {
-            stack.setAt(stackSize - 1, JsonScope.NONEMPTY_OBJECT);
+            stack[stackSize - 1] = JsonScope.NONEMPTY_OBJECT;
             // Look for a colon before the value.
             int c = nextNonWhitespace(true);
             switch (c) {
@@ -528,7 +682,7 @@ public class DefaultJsonReader implements com.progressoft.brix.domino.gwtjackson
             if (lenient) {
                 consumeNonExecutePrefix();
             }
-            stack.setAt(stackSize - 1, JsonScope.NONEMPTY_DOCUMENT);
+            stack[stackSize - 1] = JsonScope.NONEMPTY_DOCUMENT;
         } else if (peekStack == JsonScope.NONEMPTY_DOCUMENT) {
             int c = nextNonWhitespace(false);
             if (c == -1) {
@@ -656,7 +810,7 @@ public class DefaultJsonReader implements com.progressoft.brix.domino.gwtjackson
         charactersOfNumber:
         for (; true; i++) {
             if (p + i == l) {
-                if (i == buffer.length) {
+                if (i == buffer.length && null != in) {
                     // Though this looks like a well-formed number, it's too long to continue reading. Give up
                     // and let the application handle this as an unquoted literal.
                     return PEEKED_NONE;
@@ -732,6 +886,7 @@ public class DefaultJsonReader implements com.progressoft.brix.domino.gwtjackson
         // We've read a complete number. Decide if it's a PEEKED_LONG or a PEEKED_NUMBER.
         if (last == NUMBER_CHAR_DIGIT && fitsInLong && (value != Long.MIN_VALUE || negative)) {
             peekedLong = negative ? value : -value;
+            peekedNumberLength = i;
             pos += i;
             return peeked = PEEKED_LONG;
         } else if (last == NUMBER_CHAR_DIGIT || last == NUMBER_CHAR_FRACTION_DIGIT
@@ -792,6 +947,58 @@ public class DefaultJsonReader implements com.progressoft.brix.domino.gwtjackson
         return result;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int nextNameIndex(PropertyNameTable table) {
+        int p = peeked;
+        if (p == PEEKED_NONE) {
+            p = doPeek();
+        }
+        if (p == PEEKED_UNQUOTED_NAME || p == PEEKED_SINGLE_QUOTED_NAME) {
+            return -1;
+        } else if (p != PEEKED_DOUBLE_QUOTED_NAME) {
+            throw new IllegalStateException("Expected a name but was " + peek()
+                    + " at line " + getLineNumber() + " column " + getColumnNumber());
+        }
+        return matchQuoted(table);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int nextStringIndex(PropertyNameTable table) {
+        int p = peeked;
+        if (p == PEEKED_NONE) {
+            p = doPeek();
+        }
+        if (p != PEEKED_DOUBLE_QUOTED) {
+            return -1;
+        }
+        return matchQuoted(table);
+    }
+
+    /**
+     * Looks for the double quoted name or string following {@link #pos} in the table, and consumes it if it is found.
+     *
+     * @param table the table to look into
+     * @return the index of the name or string in the table, or -1 if it is not found or contains an escape sequence
+     */
+    private int matchQuoted(PropertyNameTable table) {
+        int end = JsonScanner.closingQuote(source, pos, limit);
+        if (end < 0) {
+            return -1;
+        }
+        int index = table.indexOf(buffer, pos, end);
+        if (index >= 0) {
+            pos = end + 1;
+            peeked = PEEKED_NONE;
+        }
+        return index;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -898,6 +1105,72 @@ public class DefaultJsonReader implements com.progressoft.brix.domino.gwtjackson
         return result;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public float nextFloat() {
+        int p = peeked;
+        if (p == PEEKED_NONE) {
+            p = doPeek();
+        }
+
+        if (p == PEEKED_LONG) {
+            peeked = PEEKED_NONE;
+            return (float) peekedLong;
+        }
+
+        if (p == PEEKED_NUMBER && number.decompose(source, pos, pos + peekedNumberLength) && number.isExactFloat()) {
+            pos += peekedNumberLength;
+            peeked = PEEKED_NONE;
+            return number.floatValue();
+        }
+
+        return Float.parseFloat(nextString());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public BigDecimal nextBigDecimal() {
+        int p = peeked;
+        if (p == PEEKED_NONE) {
+            p = doPeek();
+        }
+
+        if (p == PEEKED_LONG) {
+            peeked = PEEKED_NONE;
+            return BigDecimal.valueOf(peekedLong);
+        }
+
+        if (p == PEEKED_NUMBER && number.decompose(source, pos, pos + peekedNumberLength)) {
+            pos += peekedNumberLength;
+            peeked = PEEKED_NONE;
+            return number.bigDecimalValue();
+        }
+
+        return new BigDecimal(nextString());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public BigInteger nextBigInteger() {
+        int p = peeked;
+        if (p == PEEKED_NONE) {
+            p = doPeek();
+        }
+
+        if (p == PEEKED_LONG) {
+            peeked = PEEKED_NONE;
+            return BigInteger.valueOf(peekedLong);
+        }
+
+        return new BigInteger(nextString());
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -1167,8 +1440,63 @@ public class DefaultJsonReader implements com.progressoft.brix.domino.gwtjackson
     @Override
     public void close() {
         peeked = PEEKED_NONE;
-        stack.setAt(0, JsonScope.CLOSED);
+        stack[0] = JsonScope.CLOSED;
         stackSize = 1;
+        if (null != in) {
+            in.close();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Returns null when the input is refilled from a {@link CharInput}: only a part of the input is buffered, so it cannot be
+     * read again later.
+     */
+    @Override
+    public Supplier<com.progressoft.brix.domino.gwtjackson.stream.JsonReader> nextValueReader() {
+        if (null != in) {
+            return null;
+        }
+        int p = peeked;
+        if (p == PEEKED_NONE) {
+            p = doPeek();
+        }
+        final int start = valueStart(p);
+        if (start < 0) {
+            return null;
+        }
+        // a strict reader only accepts an object or an array as top-level value, a scalar was already checked by this reader
+        final boolean lenient = this.lenient || (p != PEEKED_BEGIN_OBJECT && p != PEEKED_BEGIN_ARRAY);
+        skipValue();
+        // the buffer is reused by reset, the value is copied
+        final String value = new String(buffer, start, pos - start);
+        return () -> {
+            com.progressoft.brix.domino.gwtjackson.stream.JsonReader reader = new DefaultJsonReader(value);
+            reader.setLenient(lenient);
+            return reader;
+        };
+    }
+
+    /**
+     * @param p the peeked token
+     * @return the position of the first character of the peeked value in the input, or -1 if it cannot be found again
+     */
+    private int valueStart(int p) {
+        switch (p) {
+            case PEEKED_BEGIN_OBJECT:
+            case PEEKED_BEGIN_ARRAY:
+            case PEEKED_SINGLE_QUOTED:
+            case PEEKED_DOUBLE_QUOTED:
+                return pos - 1;
+            case PEEKED_UNQUOTED:
+            case PEEKED_NUMBER:
+                return pos;
+            case PEEKED_LONG:
+                return pos - peekedNumberLength;
+            default:
+                return -1;
+        }
     }
 
     /**
@@ -1209,7 +1537,10 @@ public class DefaultJsonReader implements com.progressoft.brix.domino.gwtjackson
     }
 
     private void push(int newTop) {
-        stack.setAt(stackSize++, newTop);
+        if (stackSize == stack.length) {
+            stack = Arrays.copyOf(stack, stackSize * 2);
+        }
+        stack[stackSize++] = newTop;
     }
 
     /**
@@ -1218,6 +1549,10 @@ public class DefaultJsonReader implements com.progressoft.brix.domino.gwtjackson
      * false.
      */
     private boolean fillBuffer(int minimum) {
+        if (null == in) {
+            // the whole input is already in the buffer
+            return limit - pos >= minimum;
+        }
         char[] buffer = this.buffer;
         lineStart -= pos;
         if (limit != pos) {
@@ -1515,7 +1850,10 @@ public class DefaultJsonReader implements com.progressoft.brix.domino.gwtjackson
      */
     @Override
     public String getInput() {
-        return in.getInput();
+        if (in instanceof StringReader) {
+            return ((StringReader) in).getInput();
+        }
+        return new String(buffer, 0, limit);
     }
 
     /**
@@ -1695,4 +2033,39 @@ public class DefaultJsonReader implements com.progressoft.brix.domino.gwtjackson
         peeked = PEEKED_NONE;
         return result;
     }
+
+    /**
+     * Pulls the characters of a {@link Reader}, the errors are reported as {@link JsonDeserializationException}.
+     */
+    @GwtIncompatible
+    private static final class ReaderInput implements CharInput {
+
+        private final Reader in;
+
+        private ReaderInput(Reader in) {
+            if (in == null) {
+                throw new NullPointerException("in == null");
+            }
+            this.in = in;
+        }
+
+        @Override
+        public int read(char[] buffer, int offset, int length) {
+            try {
+                return in.read(buffer, offset, length);
+            } catch (IOException e) {
+                logger.log(Level.SEVERE, "Cannot read the input", e);
+                throw new JsonDeserializationException("Cannot read the input", e);
+            }
+        }
+
+        @Override
+        public void close() {
+            try {
+                in.close();
+            } catch (IOException e) {
+                throw new JsonDeserializationException("Cannot close the input", e);
+            }
+        }
+    }
 }
@@ -17,14 +17,19 @@
 
 package com.progressoft.brix.domino.gwtjackson.stream.impl;
 
+import com.progressoft.brix.domino.gwtjackson.annotation.GwtIncompatible;
 import com.progressoft.brix.domino.gwtjackson.exception.JsonSerializationException;
 import com.progressoft.brix.domino.gwtjackson.stream.JsonWriter;
 
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
-import static elemental2.core.Global.JSON;
-
 /**
  * Writes a JSON (<a href="http://www.ietf.org/rfc/rfc4627.txt">RFC 4627</a>)
  * encoded value to a stream, one token at a time. The stream includes both
@@ -119,6 +124,11 @@ import static elemental2.core.Global.JSON;
  * <p>Each {@code JsonWriter} may be used to write a single JSON stream.
  * Instances of this class are not thread safe. Calls that would result in a
  * malformed JSON string will fail with an {@link IllegalStateException}.
+ * <p>
+ * A {@link StringBuilder} output is appended to directly. Any other {@link Appendable} output goes through a fixed-size
+ * buffer that is written to it each time it is full, so the document is never held in memory as a whole.
+ * {@link #flush()} and {@link #close()} write the buffered characters and flush the output when it is
+ * {@link Flushable}, they never close it.
  *
  * @author Jesse Wilson
  * @version $Id: $
@@ -128,6 +138,11 @@ public class DefaultJsonWriter implements JsonWriter {
 
     private static final Logger logger = Logger.getLogger("JsonWriter");
 
+    /**
+     * Default size of the buffer used when the output is not a {@link StringBuilder}, in characters.
+     */
+    public static final int DEFAULT_BUFFER_SIZE = 8192;
+
     /*
      * From RFC 4627, "All Unicode characters may be placed within the
      * quotation marks except for the characters that must be escaped:
@@ -161,12 +176,37 @@ public class DefaultJsonWriter implements JsonWriter {
         REPLACEMENT_CHARS['\f'] = "\\f";
     }
 
+    /**
+     * true for the ASCII characters having a replacement, so the scan of a string only needs a table lookup per character
+     */
+    private static final boolean[] ESCAPED_CHARS = new boolean[128];
+
+    static {
+        for (int i = 0; i < 128; i++) {
+            ESCAPED_CHARS[i] = REPLACEMENT_CHARS[i] != null;
+        }
+    }
+
     /**
      * The output data, containing at most one top-level array or object.
      */
-    private final StringBuilder out;
+    private final Appendable out;
+
+    /**
+     * Same as {@link #out} when it is a {@link StringBuilder}, the characters are then appended without buffering.
+     */
+    private final StringBuilder builder;
 
-    private IntegerStack stack = new IntegerStack();
+    /**
+     * Characters not yet written to {@link #out}, null when the output is a {@link StringBuilder}.
+     */
+    private final char[] buffer;
+    private int count = 0;
+
+    /*
+     * The nesting stack. Using a manual array rather than an ArrayList saves 20%.
+     */
+    private int[] stack = new int[32];
     private int stackSize = 0;
 
     {
@@ -190,6 +230,8 @@ public class DefaultJsonWriter implements JsonWriter {
 
     private String deferredName;
 
+    private String deferredRawName;
+
     private boolean serializeNulls = true;
 
     /**
@@ -198,10 +240,73 @@ public class DefaultJsonWriter implements JsonWriter {
      * @param out a {@link StringBuilder} object.
      */
     public DefaultJsonWriter(StringBuilder out) {
+        this((Appendable) out, DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * Creates a new instance that writes a JSON-encoded stream to {@code out}.
+     *
+     * @param out a {@link Appendable} object.
+     */
+    public DefaultJsonWriter(Appendable out) {
+        this(out, DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * Creates a new instance that writes a UTF-8 encoded JSON stream to {@code out}.
+     *
+     * @param out a {@link OutputStream} object.
+     */
+    @GwtIncompatible
+    public DefaultJsonWriter(OutputStream out) {
+        this(new OutputStreamWriter(checkNotNull(out), StandardCharsets.UTF_8), DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * Creates a new instance that writes a JSON-encoded stream to {@code out}.
+     *
+     * @param out        a {@link Appendable} object.
+     * @param bufferSize size of the buffer, in characters. It is not used when {@code out} is a {@link StringBuilder}.
+     */
+    public DefaultJsonWriter(Appendable out, int bufferSize) {
+        checkNotNull(out);
+        if (bufferSize < 1) {
+            throw new IllegalArgumentException("bufferSize must be positive but was " + bufferSize);
+        }
+        this.out = out;
+        this.builder = out instanceof StringBuilder ? (StringBuilder) out : null;
+        this.buffer = null == builder ? new char[bufferSize] : null;
+    }
+
+    private static <T> T checkNotNull(T out) {
         if (out == null) {
             throw new NullPointerException("out == null");
         }
-        this.out = out;
+        return out;
+    }
+
+    /**
+     * Clears the buffer and the state of this writer so the same instance can write a new document. When the output is a
+     * {@link StringBuilder} it is cleared too. The indent, lenient and serializeNulls settings are kept.
+     */
+    public void reset() {
+        if (null != builder) {
+            builder.setLength(0);
+        }
+        count = 0;
+        stackSize = 0;
+        push(JsonScope.EMPTY_DOCUMENT);
+        deferredName = null;
+        deferredUnescapeName = null;
+        deferredRawName = null;
+    }
+
+    /**
+     * @return the number of characters the output can hold without growing, or {@link Integer#MAX_VALUE} when the output is
+     * not a {@link StringBuilder}
+     */
+    int capacity() {
+        return null != builder ? builder.capacity() : Integer.MAX_VALUE;
     }
 
     /**
@@ -295,7 +400,7 @@ public class DefaultJsonWriter implements JsonWriter {
     private DefaultJsonWriter open(int empty, String openBracket) {
         beforeValue(true);
         push(empty);
-        out.append(openBracket);
+        write(openBracket);
         return this;
     }
 
@@ -308,20 +413,24 @@ public class DefaultJsonWriter implements JsonWriter {
         if (context != nonempty && context != empty) {
             throw new IllegalStateException("Nesting problem.");
         }
-        if (deferredUnescapeName != null || deferredName != null) {
-            throw new IllegalStateException("Dangling name: " + (deferredUnescapeName == null ? deferredName : deferredUnescapeName));
+        if (deferredUnescapeName != null || deferredName != null || deferredRawName != null) {
+            throw new IllegalStateException("Dangling name: " + (deferredUnescapeName != null ? deferredUnescapeName
+                    : deferredName != null ? deferredName : deferredRawName));
         }
 
         stackSize--;
         if (context == nonempty) {
             newline();
         }
-        out.append(closeBracket);
+        write(closeBracket);
         return this;
     }
 
     private void push(int newTop) {
-        stack.setAt(stackSize++, newTop);
+        if (stackSize == stack.length) {
+            stack = Arrays.copyOf(stack, stackSize * 2);
+        }
+        stack[stackSize++] = newTop;
     }
 
     /**
@@ -331,14 +440,14 @@ public class DefaultJsonWriter implements JsonWriter {
         if (stackSize == 0) {
             throw new IllegalStateException("JsonWriter is closed.");
         }
-        return stack.getAt(stackSize - 1);
+        return stack[stackSize - 1];
     }
 
     /**
      * Replace the value on the top of the stack with the given value.
      */
     private void replaceTop(int topOfStack) {
-        stack.setAt(stackSize - 1, topOfStack);
+        stack[stackSize - 1] = topOfStack;
     }
 
     /**
@@ -361,11 +470,21 @@ public class DefaultJsonWriter implements JsonWriter {
         return this;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public DefaultJsonWriter rawName(String fragment) {
+        checkName(fragment);
+        deferredRawName = fragment;
+        return this;
+    }
+
     private void checkName(String name) {
         if (name == null) {
             throw new NullPointerException("name == null");
         }
-        if (deferredUnescapeName != null || deferredName != null) {
+        if (deferredUnescapeName != null || deferredName != null || deferredRawName != null) {
             throw new IllegalStateException();
         }
         if (stackSize == 0) {
@@ -373,15 +492,36 @@ public class DefaultJsonWriter implements JsonWriter {
         }
     }
 
+    private void writeRawName(String fragment) {
+        int start = rawNameStart(peek());
+        if (indent == null) {
+            write(fragment, start, fragment.length());
+            replaceTop(JsonScope.SEPARATED_NAME);
+        } else {
+            // pretty printing puts whitespace around the name, only the quoted name of the fragment is used
+            if (start == 0) {
+                write(',');
+            }
+            newline();
+            write(fragment, 1, fragment.length() - 1);
+            replaceTop(JsonScope.DANGLING_NAME);
+        }
+    }
+
     private void writeDeferredName() {
         if (deferredUnescapeName != null) {
             beforeName();
-            out.append('\"').append(deferredUnescapeName).append('\"');
+            write('\"');
+            write(deferredUnescapeName);
+            write('\"');
             deferredUnescapeName = null;
         } else if (deferredName != null) {
             beforeName();
             string(deferredName);
             deferredName = null;
+        } else if (deferredRawName != null) {
+            writeRawName(deferredRawName);
+            deferredRawName = null;
         }
     }
 
@@ -409,7 +549,9 @@ public class DefaultJsonWriter implements JsonWriter {
         }
         writeDeferredName();
         beforeValue(false);
-        out.append('\"').append(value).append('\"');
+        write('\"');
+        write(value);
+        write('\"');
         return this;
     }
 
@@ -418,17 +560,18 @@ public class DefaultJsonWriter implements JsonWriter {
      */
     @Override
     public DefaultJsonWriter nullValue() {
-        if (deferredUnescapeName != null || deferredName != null) {
+        if (deferredUnescapeName != null || deferredName != null || deferredRawName != null) {
             if (serializeNulls) {
                 writeDeferredName();
             } else {
                 deferredUnescapeName = null;
                 deferredName = null;
+                deferredRawName = null;
                 return this; // skip the name and the value
             }
         }
         beforeValue(false);
-        out.append("null");
+        write("null");
         return this;
     }
 
@@ -441,6 +584,8 @@ public class DefaultJsonWriter implements JsonWriter {
             deferredUnescapeName = null;
         } else if (deferredName != null) {
             deferredName = null;
+        } else if (deferredRawName != null) {
+            deferredRawName = null;
         }
         return this;
     }
@@ -452,7 +597,7 @@ public class DefaultJsonWriter implements JsonWriter {
     public DefaultJsonWriter value(boolean value) {
         writeDeferredName();
         beforeValue(false);
-        out.append(value ? "true" : "false");
+        write(value ? "true" : "false");
         return this;
     }
 
@@ -466,7 +611,7 @@ public class DefaultJsonWriter implements JsonWriter {
         }
         writeDeferredName();
         beforeValue(false);
-        out.append(Double.toString(value));
+        write(Double.toString(value));
         return this;
     }
 
@@ -477,7 +622,7 @@ public class DefaultJsonWriter implements JsonWriter {
     public DefaultJsonWriter value(long value) {
         writeDeferredName();
         beforeValue(false);
-        out.append(Long.toString(value));
+        writeNumber(value);
         return this;
     }
 
@@ -497,10 +642,105 @@ public class DefaultJsonWriter implements JsonWriter {
             throw new IllegalArgumentException("Numeric values must be finite, but was " + value);
         }
         beforeValue(false);
-        out.append(string);
+        write(string);
+        return this;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public DefaultJsonWriter value(int[] values, int offset, int length) {
+        if (!beginValues(values.length, offset, length)) {
+            for (int i = offset, end = offset + length; i < end; i++) {
+                value(values[i]);
+            }
+            return endArray();
+        }
+        if (null != builder) {
+            appendValues(builder, values, offset, length);
+            return this;
+        }
+        for (int i = offset, end = offset + length; i < end; i++) {
+            if (i > offset) {
+                write(',');
+            }
+            writeNumber(values[i]);
+        }
+        write(']');
+        return this;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public DefaultJsonWriter value(long[] values, int offset, int length) {
+        if (!beginValues(values.length, offset, length)) {
+            for (int i = offset, end = offset + length; i < end; i++) {
+                value(values[i]);
+            }
+            return endArray();
+        }
+        if (null != builder) {
+            appendValues(builder, values, offset, length);
+            return this;
+        }
+        for (int i = offset, end = offset + length; i < end; i++) {
+            if (i > offset) {
+                write(',');
+            }
+            writeNumber(values[i]);
+        }
+        write(']');
         return this;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public DefaultJsonWriter value(double[] values, int offset, int length) {
+        checkFinite(values, offset, length);
+        if (!beginValues(values.length, offset, length)) {
+            for (int i = offset, end = offset + length; i < end; i++) {
+                value(values[i]);
+            }
+            return endArray();
+        }
+        if (null != builder) {
+            appendValues(builder, values, offset, length);
+            return this;
+        }
+        for (int i = offset, end = offset + length; i < end; i++) {
+            if (i > offset) {
+                write(',');
+            }
+            write(Double.toString(values[i]));
+        }
+        write(']');
+        return this;
+    }
+
+    /**
+     * Starts the array of a value(int[], int, int) method, once the range is checked. The values are written in a single
+     * loop when there is no indentation to handle.
+     *
+     * @return true if the array is opened for a single loop, false if it is opened with {@link #beginArray()} and each
+     * value must go through the regular value methods
+     */
+    private boolean beginValues(int arrayLength, int offset, int length) {
+        checkRange(arrayLength, offset, length);
+        if (null != indent) {
+            beginArray();
+            return false;
+        }
+        writeDeferredName();
+        beforeValue(true);
+        write('[');
+        return true;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -509,18 +749,14 @@ public class DefaultJsonWriter implements JsonWriter {
         if (value == null) {
             return nullValue();
         }
+        // encoded first so that nothing is written when the value cannot be encoded
+        String json = NativeJson.stringify(value);
         writeDeferredName();
         beforeValue(false);
-        out.append(stringify(value));
+        write(json);
         return this;
     }
 
-    private String stringify(Object jso) {
-        return JSON.stringify(jso);
-    }
-
-    ;
-
     /**
      * {@inheritDoc}
      */
@@ -531,7 +767,7 @@ public class DefaultJsonWriter implements JsonWriter {
         }
         writeDeferredName();
         beforeValue(false);
-        out.append(value.toString());
+        write(value.toString());
         return this;
     }
 
@@ -543,6 +779,7 @@ public class DefaultJsonWriter implements JsonWriter {
         if (stackSize == 0) {
             throw new IllegalStateException("JsonWriter is closed.");
         }
+        flushOutput();
     }
 
     /**
@@ -551,42 +788,145 @@ public class DefaultJsonWriter implements JsonWriter {
     @Override
     public void close() {
         int size = stackSize;
-        if (size > 1 || size == 1 && stack.getAt(size - 1) != JsonScope.NONEMPTY_DOCUMENT) {
+        if (size > 1 || size == 1 && stack[size - 1] != JsonScope.NONEMPTY_DOCUMENT) {
             logger.log(Level.SEVERE, "Incomplete document");
             throw new JsonSerializationException("Incomplete document");
         }
         stackSize = 0;
+        flushOutput();
+    }
+
+    private void flushOutput() {
+        if (null != builder) {
+            return;
+        }
+        flushBuffer();
+        if (out instanceof Flushable) {
+            try {
+                ((Flushable) out).flush();
+            } catch (IOException e) {
+                throw writeError(e);
+            }
+        }
+    }
+
+    private void flushBuffer() {
+        if (count == 0) {
+            return;
+        }
+        try {
+            out.append(new String(buffer, 0, count));
+        } catch (IOException e) {
+            throw writeError(e);
+        }
+        count = 0;
+    }
+
+    private JsonSerializationException writeError(IOException e) {
+        logger.log(Level.SEVERE, "Cannot write the output", e);
+        return new JsonSerializationException("Cannot write the output", e);
+    }
+
+    private void write(char c) {
+        if (null != builder) {
+            builder.append(c);
+            return;
+        }
+        if (count == buffer.length) {
+            flushBuffer();
+        }
+        buffer[count++] = c;
+    }
+
+    private void write(String value) {
+        write(value, 0, value.length());
+    }
+
+    private void write(String value, int start, int end) {
+        if (null != builder) {
+            builder.append(value, start, end);
+            return;
+        }
+        int length = end - start;
+        if (length > buffer.length - count) {
+            flushBuffer();
+            if (length > buffer.length) {
+                try {
+                    out.append(value, start, end);
+                } catch (IOException e) {
+                    throw writeError(e);
+                }
+                return;
+            }
+        }
+        value.getChars(start, end, buffer, count);
+        count += length;
+    }
+
+    /**
+     * Formats {@code value} straight into the buffer, without creating a {@link String}.
+     */
+    private void writeNumber(long value) {
+        if (null != builder) {
+            builder.append(value);
+            return;
+        }
+        // a long has at most 19 digits and a sign, a smaller buffer cannot hold all of them
+        if (value == Long.MIN_VALUE || buffer.length < 20) {
+            write(Long.toString(value));
+            return;
+        }
+        if (buffer.length - count < 20) {
+            flushBuffer();
+        }
+        char[] buffer = this.buffer;
+        if (value < 0) {
+            buffer[count++] = '-';
+            value = -value;
+        }
+        int start = count;
+        do {
+            buffer[count++] = (char) ('0' + (int) (value % 10));
+            value /= 10;
+        } while (value != 0);
+        for (int i = start, j = count - 1; i < j; i++, j--) {
+            char c = buffer[i];
+            buffer[i] = buffer[j];
+            buffer[j] = c;
+        }
     }
 
     private void string(String value) {
-        out.append("\"");
-        encodeString(value, out);
-        out.append("\"");
+        write('\"');
+        if (null != builder) {
+            encodeString(value, builder);
+        } else {
+            int last = 0;
+            int length = value.length();
+            int i;
+            while ((i = indexOfEscaped(value, last, length)) < length) {
+                if (last < i) {
+                    write(value, last, i);
+                }
+                write(replacement(value.charAt(i)));
+                last = i + 1;
+            }
+            if (last < length) {
+                write(value, last, length);
+            }
+        }
+        write('\"');
     }
 
     private static void encodeString(final String value, final StringBuilder out) {
-        String[] replacements = REPLACEMENT_CHARS;
         int last = 0;
         int length = value.length();
-        for (int i = 0; i < length; i++) {
-            char c = value.charAt(i);
-            String replacement;
-            if (c < 128) {
-                replacement = replacements[c];
-                if (replacement == null) {
-                    continue;
-                }
-            } else if (c == '\u2028') {
-                replacement = "\\u2028";
-            } else if (c == '\u2029') {
-                replacement = "\\u2029";
-            } else {
-                continue;
-            }
+        int i;
+        while ((i = indexOfEscaped(value, last, length)) < length) {
             if (last < i) {
                 out.append(value, last, i);
             }
-            out.append(replacement);
+            out.append(replacement(value.charAt(i)));
             last = i + 1;
         }
         if (last < length) {
@@ -594,6 +934,147 @@ public class DefaultJsonWriter implements JsonWriter {
         }
     }
 
+    private static boolean isEscaped(char c) {
+        // non short-circuit operators, the check has no branch
+        return (c < 128 & ESCAPED_CHARS[c & 0x7f]) | (c | 1) == '\u2029';
+    }
+
+    /**
+     * Returns the index of the first character of {@code value} between {@code start} and {@code end} that must be escaped.
+     * Long runs of characters that do not need escaping are scanned four characters per step, with one branch per step.
+     *
+     * @param value the string to scan
+     * @param start index of the first character to scan
+     * @param end   index after the last character to scan
+     * @return the index of the first character to escape, or {@code end} if there is none
+     */
+    static int indexOfEscaped(String value, int start, int end) {
+        int i = start;
+        for (int limit = end - 3; i < limit; i += 4) {
+            if (isEscaped(value.charAt(i)) | isEscaped(value.charAt(i + 1)) | isEscaped(value.charAt(i + 2))
+                    | isEscaped(value.charAt(i + 3))) {
+                break;
+            }
+        }
+        for (; i < end; i++) {
+            if (isEscaped(value.charAt(i))) {
+                return i;
+            }
+        }
+        return end;
+    }
+
+    /**
+     * @param c a character for which {@link #indexOfEscaped(String, int, int)} stopped
+     * @return the escape sequence of {@code c}
+     */
+    static String replacement(char c) {
+        if (c < 128) {
+            return REPLACEMENT_CHARS[c];
+        }
+        return c == '\u2028' ? "\\u2028" : "\\u2029";
+    }
+
+    /**
+     * Checks the range given to a value(int[], int, int) method, so that nothing is written when it is out of the array.
+     *
+     * @param arrayLength length of the array
+     * @param offset      index of the first value to write
+     * @param length      number of values to write
+     * @throws IndexOutOfBoundsException if the range is out of the array
+     */
+    static void checkRange(int arrayLength, int offset, int length) {
+        if (offset < 0 || length < 0 || offset > arrayLength - length) {
+            throw new IndexOutOfBoundsException("offset=" + offset + ", length=" + length + ", array length=" + arrayLength);
+        }
+    }
+
+    /**
+     * Checks the range and that the values to write are numbers, so that nothing is written when one of them is not.
+     *
+     * @param values the values
+     * @param offset index of the first value to check
+     * @param length number of values to check
+     * @throws IndexOutOfBoundsException if the range is out of the array
+     * @throws IllegalArgumentException  if one of the values is NaN or infinite
+     */
+    static void checkFinite(double[] values, int offset, int length) {
+        checkRange(values.length, offset, length);
+        for (int i = offset, end = offset + length; i < end; i++) {
+            if (Double.isNaN(values[i]) || Double.isInfinite(values[i])) {
+                throw new IllegalArgumentException("Numeric values must be finite, but was " + values[i]);
+            }
+        }
+    }
+
+    /**
+     * Checks that a raw name fragment is written inside an object.
+     *
+     * @param context the scope on top of the stack
+     * @return the index of the first character of the fragment to write, 1 skips the leading comma of the first name
+     * @throws IllegalStateException if the scope is not an object
+     */
+    static int rawNameStart(int context) {
+        if (context != JsonScope.NONEMPTY_OBJECT && context != JsonScope.EMPTY_OBJECT) {
+            throw new IllegalStateException("Nesting problem.");
+        }
+        return context == JsonScope.EMPTY_OBJECT ? 1 : 0;
+    }
+
+    /**
+     * Appends the values of an array already opened and checked, then closes it.
+     *
+     * @param out    the output
+     * @param values the values
+     * @param offset index of the first value to append
+     * @param length number of values to append
+     */
+    static void appendValues(StringBuilder out, int[] values, int offset, int length) {
+        for (int i = offset, end = offset + length; i < end; i++) {
+            if (i > offset) {
+                out.append(',');
+            }
+            out.append(values[i]);
+        }
+        out.append(']');
+    }
+
+    /**
+     * Appends the values of an array already opened and checked, then closes it.
+     *
+     * @param out    the output
+     * @param values the values
+     * @param offset index of the first value to append
+     * @param length number of values to append
+     */
+    static void appendValues(StringBuilder out, long[] values, int offset, int length) {
+        for (int i = offset, end = offset + length; i < end; i++) {
+            if (i > offset) {
+                out.append(',');
+            }
+            out.append(values[i]);
+        }
+        out.append(']');
+    }
+
+    /**
+     * Appends the values of an array already opened and checked, then closes it.
+     *
+     * @param out    the output
+     * @param values the values
+     * @param offset index of the first value to append
+     * @param length number of values to append
+     */
+    static void appendValues(StringBuilder out, double[] values, int offset, int length) {
+        for (int i = offset, end = offset + length; i < end; i++) {
+            if (i > offset) {
+                out.append(',');
+            }
+            out.append(values[i]);
+        }
+        out.append(']');
+    }
+
     /**
      * <p>encodeString</p>
      *
@@ -601,7 +1082,11 @@ public class DefaultJsonWriter implements JsonWriter {
      * @return a {@link String} object.
      */
     public static String encodeString(final String value) {
-        StringBuilder out = new StringBuilder();
+        int length = value.length();
+        if (indexOfEscaped(value, 0, length) == length) {
+            return value;
+        }
+        StringBuilder out = new StringBuilder(length + 16);
         encodeString(value, out);
         return out.toString();
     }
@@ -611,9 +1096,9 @@ public class DefaultJsonWriter implements JsonWriter {
             return;
         }
 
-        out.append("\n");
+        write('\n');
         for (int i = 1, size = stackSize; i < size; i++) {
-            out.append(indent);
+            write(indent);
         }
     }
 
@@ -624,7 +1109,7 @@ public class DefaultJsonWriter implements JsonWriter {
     private void beforeName() {
         int context = peek();
         if (context == JsonScope.NONEMPTY_OBJECT) { // first in object
-            out.append(',');
+            write(',');
         } else if (context != JsonScope.EMPTY_OBJECT) { // not in an object!
             throw new IllegalStateException("Nesting problem.");
         }
@@ -663,12 +1148,16 @@ public class DefaultJsonWriter implements JsonWriter {
                 break;
 
             case JsonScope.NONEMPTY_ARRAY: // another in array
-                out.append(',');
+                write(',');
                 newline();
                 break;
 
+            case JsonScope.SEPARATED_NAME: // value for a raw name, the separator is already written
+                replaceTop(JsonScope.NONEMPTY_OBJECT);
+                break;
+
             case JsonScope.DANGLING_NAME: // value for name
-                out.append(separator);
+                write(separator);
                 replaceTop(JsonScope.NONEMPTY_OBJECT);
                 break;
 
@@ -679,10 +1168,16 @@ public class DefaultJsonWriter implements JsonWriter {
 
     /**
      * {@inheritDoc}
+     * <p>
+     * When the output is a {@link StringBuilder} its whole content is returned, otherwise only the characters not written
+     * to the output yet are returned.
      */
     @Override
     public String getOutput() {
-        return out.toString();
+        if (null != builder) {
+            return builder.toString();
+        }
+        return new String(buffer, 0, count);
     }
 }
 //@formatter:on
@@ -18,14 +18,12 @@
 package com.progressoft.brix.domino.gwtjackson.stream.impl;
 
 import com.progressoft.brix.domino.gwtjackson.exception.JsonSerializationException;
-import com.progressoft.brix.domino.gwtjackson.stream.BufferStack;
 import com.progressoft.brix.domino.gwtjackson.stream.JsonWriter;
 
+import java.util.Arrays;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
-import static elemental2.core.Global.JSON;
-
 /**
  * @author nicolasmorel
  * @version $Id: $
@@ -39,8 +37,7 @@ public class FastJsonWriter implements JsonWriter {
      */
     private final StringBuilder out;
 
-    //Change by Ahmad Bawaneh, replace JSNI types with IsInterop types
-    private BufferStack<Integer> stack = new ElementalArrayBufferStack<Integer>();
+    private int[] stack = new int[32];
     private int stackSize = 0;
 
     {
@@ -64,6 +61,8 @@ public class FastJsonWriter implements JsonWriter {
 
     private String deferredName;
 
+    private String deferredRawName;
+
     private boolean serializeNulls = true;
 
     /**
@@ -78,6 +77,28 @@ public class FastJsonWriter implements JsonWriter {
         this.out = out;
     }
 
+    /**
+     * Clears the output and the state of this writer so the same instance can write a new document. The indent, lenient and
+     * serializeNulls settings are kept.
+     */
+    public void reset() {
+        out.setLength(0);
+        stackSize = 0;
+        push(JsonScope.EMPTY_DOCUMENT);
+        deferredName = null;
+        deferredUnescapeName = null;
+        deferredRawName = null;
+    }
+
+    /**
+     * @return the number of characters the output buffer can hold without growing, or the length of the output where the
+     * {@link StringBuilder} does not track its capacity (GWT), since it then only holds its content
+     */
+    int capacity() {
+        int capacity = out.capacity();
+        return capacity == Integer.MAX_VALUE ? out.length() : capacity;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -182,8 +203,9 @@ public class FastJsonWriter implements JsonWriter {
         if (context != nonempty && context != empty) {
             throw new IllegalStateException("Nesting problem.");
         }
-        if (deferredUnescapeName != null || deferredName != null) {
-            throw new IllegalStateException("Dangling name: " + (deferredUnescapeName == null ? deferredName : deferredUnescapeName));
+        if (deferredUnescapeName != null || deferredName != null || deferredRawName != null) {
+            throw new IllegalStateException("Dangling name: " + (deferredUnescapeName != null ? deferredUnescapeName
+                    : deferredName != null ? deferredName : deferredRawName));
         }
 
         stackSize--;
@@ -195,7 +217,10 @@ public class FastJsonWriter implements JsonWriter {
     }
 
     private void push(int newTop) {
-        stack.setAt(stackSize++, newTop);
+        if (stackSize == stack.length) {
+            stack = Arrays.copyOf(stack, stackSize * 2);
+        }
+        stack[stackSize++] = newTop;
     }
 
     /**
@@ -205,14 +230,14 @@ public class FastJsonWriter implements JsonWriter {
         if (stackSize == 0) {
             throw new IllegalStateException("JsonWriter is closed.");
         }
-        return stack.getAt(stackSize - 1);
+        return stack[stackSize - 1];
     }
 
     /**
      * Replace the value on the top of the stack with the given value.
      */
     private void replaceTop(int topOfStack) {
-        stack.setAt(stackSize - 1, topOfStack);
+        stack[stackSize - 1] = topOfStack;
     }
 
     /**
@@ -235,11 +260,21 @@ public class FastJsonWriter implements JsonWriter {
         return this;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public FastJsonWriter rawName(String fragment) {
+        checkName(fragment);
+        deferredRawName = fragment;
+        return this;
+    }
+
     private void checkName(String name) {
         if (name == null) {
             throw new NullPointerException("name == null");
         }
-        if (deferredUnescapeName != null || deferredName != null) {
+        if (deferredUnescapeName != null || deferredName != null || deferredRawName != null) {
             throw new IllegalStateException();
         }
         if (stackSize == 0) {
@@ -247,6 +282,22 @@ public class FastJsonWriter implements JsonWriter {
         }
     }
 
+    private void writeRawName(String fragment) {
+        int start = DefaultJsonWriter.rawNameStart(peek());
+        if (indent == null) {
+            out.append(fragment, start, fragment.length());
+            replaceTop(JsonScope.SEPARATED_NAME);
+        } else {
+            // pretty printing puts whitespace around the name, only the quoted name of the fragment is used
+            if (start == 0) {
+                out.append(',');
+            }
+            newline();
+            out.append(fragment, 1, fragment.length() - 1);
+            replaceTop(JsonScope.DANGLING_NAME);
+        }
+    }
+
     private void writeDeferredName() {
         if (deferredUnescapeName != null) {
             beforeName();
@@ -256,6 +307,9 @@ public class FastJsonWriter implements JsonWriter {
             beforeName();
             string(deferredName);
             deferredName = null;
+        } else if (deferredRawName != null) {
+            writeRawName(deferredRawName);
+            deferredRawName = null;
         }
     }
 
@@ -292,12 +346,13 @@ public class FastJsonWriter implements JsonWriter {
      */
     @Override
     public FastJsonWriter nullValue() {
-        if (deferredUnescapeName != null || deferredName != null) {
+        if (deferredUnescapeName != null || deferredName != null || deferredRawName != null) {
             if (serializeNulls) {
                 writeDeferredName();
             } else {
                 deferredUnescapeName = null;
                 deferredName = null;
+                deferredRawName = null;
                 return this; // skip the name and the value
             }
         }
@@ -315,6 +370,8 @@ public class FastJsonWriter implements JsonWriter {
             deferredUnescapeName = null;
         } else if (deferredName != null) {
             deferredName = null;
+        } else if (deferredRawName != null) {
+            deferredRawName = null;
         }
         return this;
     }
@@ -375,6 +432,71 @@ public class FastJsonWriter implements JsonWriter {
         return this;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public FastJsonWriter value(int[] values, int offset, int length) {
+        if (!beginValues(values.length, offset, length)) {
+            for (int i = offset, end = offset + length; i < end; i++) {
+                value(values[i]);
+            }
+            return endArray();
+        }
+        DefaultJsonWriter.appendValues(out, values, offset, length);
+        return this;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public FastJsonWriter value(long[] values, int offset, int length) {
+        if (!beginValues(values.length, offset, length)) {
+            for (int i = offset, end = offset + length; i < end; i++) {
+                value(values[i]);
+            }
+            return endArray();
+        }
+        DefaultJsonWriter.appendValues(out, values, offset, length);
+        return this;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public FastJsonWriter value(double[] values, int offset, int length) {
+        DefaultJsonWriter.checkFinite(values, offset, length);
+        if (!beginValues(values.length, offset, length)) {
+            for (int i = offset, end = offset + length; i < end; i++) {
+                value(values[i]);
+            }
+            return endArray();
+        }
+        DefaultJsonWriter.appendValues(out, values, offset, length);
+        return this;
+    }
+
+    /**
+     * Starts the array of a value(int[], int, int) method, once the range is checked. The values are written in a single
+     * loop when there is no indentation to handle.
+     *
+     * @return true if the array is opened for a single loop, false if it is opened with {@link #beginArray()} and each
+     * value must go through the regular value methods
+     */
+    private boolean beginValues(int arrayLength, int offset, int length) {
+        DefaultJsonWriter.checkRange(arrayLength, offset, length);
+        if (null != indent) {
+            beginArray();
+            return false;
+        }
+        writeDeferredName();
+        beforeValue(true);
+        out.append('[');
+        return true;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -383,18 +505,13 @@ public class FastJsonWriter implements JsonWriter {
         if (value == null) {
             return nullValue();
         }
+        String json = NativeJson.stringify(value);
         writeDeferredName();
         beforeValue(false);
-        out.append(stringify(value));
+        out.append(json);
         return this;
     }
 
-    private String stringify(Object jso) {
-        return JSON.stringify(jso);
-    }
-
-    ;
-
     /**
      * {@inheritDoc}
      */
@@ -425,7 +542,7 @@ public class FastJsonWriter implements JsonWriter {
     @Override
     public void close() {
         int size = stackSize;
-        if (size > 1 || size == 1 && stack.getAt(size - 1) != JsonScope.NONEMPTY_DOCUMENT) {
+        if (size > 1 || size == 1 && stack[size - 1] != JsonScope.NONEMPTY_DOCUMENT) {
             logger.log(Level.SEVERE, "Incomplete document");
             throw new JsonSerializationException("Incomplete document");
         }
@@ -433,7 +550,7 @@ public class FastJsonWriter implements JsonWriter {
     }
 
     private void string(String value) {
-        out.append(JSON.stringify(value));
+        out.append(NativeJson.stringify(value));
     }
 
     private void newline() {
@@ -497,6 +614,10 @@ public class FastJsonWriter implements JsonWriter {
                 newline();
                 break;
 
+            case JsonScope.SEPARATED_NAME: // value for a raw name, the separator is already written
+                replaceTop(JsonScope.NONEMPTY_OBJECT);
+                break;
+
             case JsonScope.DANGLING_NAME: // value for name
                 out.append(separator);
                 replaceTop(JsonScope.NONEMPTY_OBJECT);
@@ -0,0 +1,99 @@
+/*
+ * Copyright 2017 Ahmad Bawaneh
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.progressoft.brix.domino.gwtjackson.stream.impl;
+
+/**
+ * Look-ahead scans shared by the readers. They run over the part of the input that is already available and never
+ * consume it.
+ */
+final class JsonScanner {
+
+    private JsonScanner() {
+    }
+
+    /**
+     * Counts the elements of the array or object starting at the given position by counting the separators at its first
+     * level. The input has not been validated yet so the result is only a hint.
+     *
+     * @param in    the input
+     * @param start index after the opening bracket or brace
+     * @param limit index after the last available character
+     * @return the number of elements or -1 if the end of the array or object is not available
+     */
+    static int countElements(CharSource in, int start, int limit) {
+        int depth = 0;
+        int separators = 0;
+        boolean empty = true;
+        for (int i = start; i < limit; i++) {
+            char c = in.charAt(i);
+            switch (c) {
+                case '"':
+                case '\'':
+                    for (i++; i < limit && in.charAt(i) != c; i++) {
+                        if (in.charAt(i) == '\\') {
+                            i++;
+                        }
+                    }
+                    empty = false;
+                    break;
+                case '[':
+                case '{':
+                    depth++;
+                    empty = false;
+                    break;
+                case ']':
+                case '}':
+                    if (depth == 0) {
+                        return empty ? 0 : separators + 1;
+                    }
+                    depth--;
+                    break;
+                case ',':
+                    if (depth == 0) {
+                        separators++;
+                    }
+                    break;
+                case ' ':
+                case '\t':
+                case '\n':
+                case '\r':
+                    break;
+                default:
+                    empty = false;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * @param in    the input
+     * @param start index after the opening double quote
+     * @param limit index after the last available character
+     * @return the index of the closing double quote, or -1 if it is not available or the string contains an escape sequence
+     * that must be decoded first
+     */
+    static int closingQuote(CharSource in, int start, int limit) {
+        for (int i = start; i < limit; i++) {
+            char c = in.charAt(i);
+            if (c == '"') {
+                return i;
+            } else if (c == '\\') {
+                return -1;
+            }
+        }
+        return -1;
+    }
+}
@@ -68,4 +68,10 @@ final class JsonScope {
      * A document that's been closed and cannot be accessed.
      */
     static final int CLOSED = 8;
+
+    /**
+     * An object whose most recent element is a raw name, written with its
+     * separator. The next element must be a value.
+     */
+    static final int SEPARATED_NAME = 9;
 }
@@ -0,0 +1,117 @@
+/*
+ * Copyright 2017 Ahmad Bawaneh
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.progressoft.brix.domino.gwtjackson.stream.impl;
+
+import com.progressoft.brix.domino.gwtjackson.stream.JsonReader;
+import com.progressoft.brix.domino.gwtjackson.stream.JsonWriter;
+
+/**
+ * Keeps one {@link DefaultJsonReader} and one {@link DefaultJsonWriter} per thread so that reading from or writing to a
+ * {@link String} does not allocate a new reader or writer, and their buffers, each time. An instance that is obtained and
+ * not yet released is not handed out again, a nested call gets a new instance instead.
+ * <p>
+ * The GWT version of this class, in the super-source, keeps a single {@link NonBufferedJsonReader} and a single
+ * {@link FastJsonWriter}.
+ */
+public final class JsonStreamPool {
+
+    /**
+     * Readers and writers whose buffer grew bigger than this number of characters are not kept.
+     */
+    private static final int MAX_POOLED_CAPACITY = 64 * 1024;
+
+    private static final ThreadLocal<JsonStreamPool> POOLS = ThreadLocal.withInitial(JsonStreamPool::new);
+
+    /**
+     * @return the pool of the current thread
+     */
+    public static JsonStreamPool get() {
+        return POOLS.get();
+    }
+
+    /**
+     * @param input the JSON input
+     * @return a new reader, not taken from the pool, reading {@code input}
+     */
+    public static JsonReader newReader(String input) {
+        return new DefaultJsonReader(input);
+    }
+
+    /**
+     * @return a new writer, not taken from the pool, writing to a {@link StringBuilder}
+     */
+    public static JsonWriter newWriter() {
+        return new DefaultJsonWriter(new StringBuilder());
+    }
+
+    private DefaultJsonReader reader;
+
+    private DefaultJsonWriter writer;
+
+    private JsonStreamPool() {
+    }
+
+    /**
+     * @param input the JSON input
+     * @return the pooled reader reset to read {@code input}, or a new reader if it is in use
+     */
+    public JsonReader obtainReader(String input) {
+        DefaultJsonReader result = reader;
+        if (null == result) {
+            return new DefaultJsonReader(input);
+        }
+        reader = null;
+        result.reset(input);
+        return result;
+    }
+
+    /**
+     * Gives back a reader obtained with {@link #obtainReader(String)}. It must not be used after.
+     *
+     * @param reader the reader
+     */
+    public void releaseReader(JsonReader reader) {
+        if (reader instanceof DefaultJsonReader && ((DefaultJsonReader) reader).capacity() <= MAX_POOLED_CAPACITY) {
+            // do not keep the state of the last input
+            ((DefaultJsonReader) reader).reset("");
+            this.reader = (DefaultJsonReader) reader;
+        }
+    }
+
+    /**
+     * @return the pooled writer with an empty output, or a new writer if it is in use
+     */
+    public JsonWriter obtainWriter() {
+        DefaultJsonWriter result = writer;
+        if (null == result) {
+            return new DefaultJsonWriter(new StringBuilder());
+        }
+        writer = null;
+        result.reset();
+        return result;
+    }
+
+    /**
+     * Gives back a writer obtained with {@link #obtainWriter()}. It must not be used after.
+     *
+     * @param writer the writer
+     */
+    public void releaseWriter(JsonWriter writer) {
+        if (writer instanceof DefaultJsonWriter && ((DefaultJsonWriter) writer).capacity() <= MAX_POOLED_CAPACITY) {
+            this.writer = (DefaultJsonWriter) writer;
+        }
+    }
+}
@@ -0,0 +1,42 @@
+/*
+ * Copyright 2017 Ahmad Bawaneh
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.progressoft.brix.domino.gwtjackson.stream.impl;
+
+/**
+ * Encodes the values given to {@link DefaultJsonWriter#value(Object)} and the strings written by {@link FastJsonWriter}. In
+ * the browser they are encoded by {@code JSON.stringify}, see the super source. On the JVM there is no native encoder, only
+ * numbers, booleans and strings are supported.
+ */
+final class NativeJson {
+
+    private NativeJson() {
+    }
+
+    /**
+     * @param value the value to encode
+     * @return the JSON encoded value
+     * @throws IllegalArgumentException if the value is not a number, a boolean or a string
+     */
+    static String stringify(Object value) {
+        if (value instanceof Number || value instanceof Boolean) {
+            return value.toString();
+        }
+        if (value instanceof CharSequence) {
+            return "\"" + DefaultJsonWriter.encodeString(value.toString()) + "\"";
+        }
+        throw new IllegalArgumentException("Cannot encode a native value of type " + value.getClass().getName() + " outside of the browser");
+    }
+}
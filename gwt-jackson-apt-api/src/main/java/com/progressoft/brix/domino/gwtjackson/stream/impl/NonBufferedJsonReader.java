@@ -18,17 +18,18 @@
 package com.progressoft.brix.domino.gwtjackson.stream.impl;
 
 import com.progressoft.brix.domino.gwtjackson.exception.JsonDeserializationException;
-import com.progressoft.brix.domino.gwtjackson.stream.BufferStack;
 import com.progressoft.brix.domino.gwtjackson.stream.JsonReader;
 import com.progressoft.brix.domino.gwtjackson.stream.JsonToken;
+import com.progressoft.brix.domino.gwtjackson.stream.PropertyNameTable;
 import com.progressoft.brix.domino.gwtjackson.stream.JsonWriter;
 
+import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.function.Supplier;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
-import static elemental2.core.Global.JSON;
-
 
 /**
  * Reads a JSON (<a href="http://www.ietf.org/rfc/rfc4627.txt">RFC 4627</a>)
@@ -248,15 +249,20 @@ public class NonBufferedJsonReader implements JsonReader {
     /**
      * The input JSON.
      */
-    private final String in;
+    private String in;
 
     /**
      * True to accept non-spec compliant JSON
      */
     private boolean lenient = false;
 
+    /**
+     * Index of the first character to read in {@link #in}.
+     */
+    private int offset;
+
     private int pos = 0;
-    private final int limit;
+    private int limit;
 
     private int lineNumber = 0;
     private int lineStart = 0;
@@ -275,6 +281,16 @@ public class NonBufferedJsonReader implements JsonReader {
      */
     private int peekedNumberLength;
 
+    /**
+     * The input as seen by the look-ahead and number parsing shared with the other readers.
+     */
+    private final CharSource source = i -> in.charAt(i);
+
+    /**
+     * The peeked number literal decomposed by {@link #nextFloat()} and {@link #nextBigDecimal()}.
+     */
+    private final DecimalLiteral number = new DecimalLiteral();
+
     /**
      * A peeked string that should be parsed on the next double, long or string.
      * This is populated before a numeric value is parsed and used if that parsing
@@ -285,12 +301,11 @@ public class NonBufferedJsonReader implements JsonReader {
     /*
      * The nesting stack. Using a manual array rather than an ArrayList saves 20%.
      */
-    //Change by Ahmad Bawaneh, replace JSNI types with IsInterop types
-    private BufferStack<Integer> stack = new ElementalArrayBufferStack<Integer>();
+    private int[] stack = new int[32];
     private int stackSize = 0;
 
     {
-        stack.setAt(stackSize++, JsonScope.EMPTY_DOCUMENT);
+        stack[stackSize++] = JsonScope.EMPTY_DOCUMENT;
     }
 
     /**
@@ -299,12 +314,49 @@ public class NonBufferedJsonReader implements JsonReader {
      * @param in a {@link String} object.
      */
     public NonBufferedJsonReader(String in) {
+        this(in, 0, null == in ? 0 : in.length());
+    }
+
+    /**
+     * Creates a new instance that reads the JSON-encoded characters of {@code in} between {@code start} and {@code end}, without
+     * copying them.
+     *
+     * @param in    a {@link String} object.
+     * @param start index of the first character to read
+     * @param end   index after the last character to read
+     */
+    public NonBufferedJsonReader(String in, int start, int end) {
+        init(in, start, end);
+    }
+
+    /**
+     * Prepares this reader to read a new JSON-encoded stream from {@code in}, so the same instance can read many inputs. The
+     * lenient setting is kept.
+     *
+     * @param in a {@link String} object.
+     */
+    public void reset(String in) {
+        init(in, 0, null == in ? 0 : in.length());
+        peeked = PEEKED_NONE;
+        peekedString = null;
+        lineNumber = 0;
+        stackSize = 0;
+        stack[stackSize++] = JsonScope.EMPTY_DOCUMENT;
+    }
+
+    private void init(String in, int start, int end) {
         if (in == null) {
             throw new NullPointerException("in == null");
         }
+        if (start < 0 || end < start || end > in.length()) {
+            throw new IndexOutOfBoundsException("start=" + start + ", end=" + end + ", in.length=" + in.length());
+        }
         this.in = in;
-        this.limit = in.length();
-        if (limit > 0 && in.charAt(0) == '\ufeff') {
+        this.offset = start;
+        this.pos = start;
+        this.lineStart = start;
+        this.limit = end;
+        if (limit > pos && in.charAt(pos) == '\ufeff') {
             pos++;
             lineStart++;
         }
@@ -438,6 +490,21 @@ public class NonBufferedJsonReader implements JsonReader {
         return p != PEEKED_END_OBJECT && p != PEEKED_END_ARRAY;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int peekLength() {
+        int p = peeked;
+        if (p == PEEKED_NONE) {
+            p = doPeek();
+        }
+        if (p != PEEKED_BEGIN_ARRAY && p != PEEKED_BEGIN_OBJECT) {
+            return -1;
+        }
+        return JsonScanner.countElements(source, pos, limit);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -482,9 +549,9 @@ public class NonBufferedJsonReader implements JsonReader {
     }
 
     private int doPeek() {
-        int peekStack = stack.getAt(stackSize - 1);
+        int peekStack = stack[stackSize - 1];
         if (peekStack == JsonScope.EMPTY_ARRAY) {
-            stack.setAt(stackSize - 1, JsonScope.NONEMPTY_ARRAY);
+            stack[stackSize - 1] = JsonScope.NONEMPTY_ARRAY;
         } else if (peekStack == JsonScope.NONEMPTY_ARRAY) {
             // Look for a comma before the next element.
             int c = nextNonWhitespace(true);
@@ -499,7 +566,7 @@ public class NonBufferedJsonReader implements JsonReader {
                     throw syntaxError("Unterminated array");
             }
         } else if (peekStack == JsonScope.EMPTY_OBJECT || peekStack == JsonScope.NONEMPTY_OBJECT) {
-            stack.setAt(stackSize - 1, JsonScope.DANGLING_NAME);
+            stack[stackSize - 1] = JsonScope.DANGLING_NAME;
             // Look for a comma before the next element.
             if (peekStack == JsonScope.NONEMPTY_OBJECT) {
                 int c = nextNonWhitespace(true);
@@ -537,7 +604,7 @@ public class NonBufferedJsonReader implements JsonReader {
                     }
             }
         } else if (peekStack == JsonScope.DANGLING_NAME) {
-            stack.setAt(stackSize - 1, JsonScope.NONEMPTY_OBJECT);
+            stack[stackSize - 1] = JsonScope.NONEMPTY_OBJECT;
             // Look for a colon before the value.
             int c = nextNonWhitespace(true);
             switch (c) {
@@ -556,7 +623,7 @@ public class NonBufferedJsonReader implements JsonReader {
             if (lenient) {
                 consumeNonExecutePrefix();
             }
-            stack.setAt(stackSize - 1, JsonScope.NONEMPTY_DOCUMENT);
+            stack[stackSize - 1] = JsonScope.NONEMPTY_DOCUMENT;
         } else if (peekStack == JsonScope.NONEMPTY_DOCUMENT) {
             int c = nextNonWhitespace(false);
             if (c == -1) {
@@ -745,6 +812,7 @@ public class NonBufferedJsonReader implements JsonReader {
         // We've read a complete number. Decide if it's a PEEKED_LONG or a PEEKED_NUMBER.
         if (last == NUMBER_CHAR_DIGIT && fitsInLong && (value != Long.MIN_VALUE || negative)) {
             peekedLong = negative ? value : -value;
+            peekedNumberLength = i;
             pos += i;
             return peeked = PEEKED_LONG;
         } else if (last == NUMBER_CHAR_DIGIT || last == NUMBER_CHAR_FRACTION_DIGIT
@@ -805,6 +873,58 @@ public class NonBufferedJsonReader implements JsonReader {
         return result;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int nextNameIndex(PropertyNameTable table) {
+        int p = peeked;
+        if (p == PEEKED_NONE) {
+            p = doPeek();
+        }
+        if (p == PEEKED_UNQUOTED_NAME || p == PEEKED_SINGLE_QUOTED_NAME) {
+            return -1;
+        } else if (p != PEEKED_DOUBLE_QUOTED_NAME) {
+            throw new IllegalStateException("Expected a name but was " + peek()
+                    + " at line " + getLineNumber() + " column " + getColumnNumber());
+        }
+        return matchQuoted(table);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int nextStringIndex(PropertyNameTable table) {
+        int p = peeked;
+        if (p == PEEKED_NONE) {
+            p = doPeek();
+        }
+        if (p != PEEKED_DOUBLE_QUOTED) {
+            return -1;
+        }
+        return matchQuoted(table);
+    }
+
+    /**
+     * Looks for the double quoted name or string following {@link #pos} in the table, and consumes it if it is found.
+     *
+     * @param table the table to look into
+     * @return the index of the name or string in the table, or -1 if it is not found or contains an escape sequence
+     */
+    private int matchQuoted(PropertyNameTable table) {
+        int end = JsonScanner.closingQuote(source, pos, limit);
+        if (end < 0) {
+            return -1;
+        }
+        int index = table.indexOf(in, pos, end);
+        if (index >= 0) {
+            pos = end + 1;
+            peeked = PEEKED_NONE;
+        }
+        return index;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -911,6 +1031,72 @@ public class NonBufferedJsonReader implements JsonReader {
         return result;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public float nextFloat() {
+        int p = peeked;
+        if (p == PEEKED_NONE) {
+            p = doPeek();
+        }
+
+        if (p == PEEKED_LONG) {
+            peeked = PEEKED_NONE;
+            return (float) peekedLong;
+        }
+
+        if (p == PEEKED_NUMBER && number.decompose(source, pos, pos + peekedNumberLength) && number.isExactFloat()) {
+            pos += peekedNumberLength;
+            peeked = PEEKED_NONE;
+            return number.floatValue();
+        }
+
+        return Float.parseFloat(nextString());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public BigDecimal nextBigDecimal() {
+        int p = peeked;
+        if (p == PEEKED_NONE) {
+            p = doPeek();
+        }
+
+        if (p == PEEKED_LONG) {
+            peeked = PEEKED_NONE;
+            return BigDecimal.valueOf(peekedLong);
+        }
+
+        if (p == PEEKED_NUMBER && number.decompose(source, pos, pos + peekedNumberLength)) {
+            pos += peekedNumberLength;
+            peeked = PEEKED_NONE;
+            return number.bigDecimalValue();
+        }
+
+        return new BigDecimal(nextString());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public BigInteger nextBigInteger() {
+        int p = peeked;
+        if (p == PEEKED_NONE) {
+            p = doPeek();
+        }
+
+        if (p == PEEKED_LONG) {
+            peeked = PEEKED_NONE;
+            return BigInteger.valueOf(peekedLong);
+        }
+
+        return new BigInteger(nextString());
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -1135,10 +1321,56 @@ public class NonBufferedJsonReader implements JsonReader {
     @Override
     public void close() {
         peeked = PEEKED_NONE;
-        stack.setAt(0, JsonScope.CLOSED);
+        stack[0] = JsonScope.CLOSED;
         stackSize = 1;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Supplier<JsonReader> nextValueReader() {
+        int p = peeked;
+        if (p == PEEKED_NONE) {
+            p = doPeek();
+        }
+        final int start = valueStart(p);
+        if (start < 0) {
+            return null;
+        }
+        final String in = this.in;
+        // a strict reader only accepts an object or an array as top-level value, a scalar was already checked by this reader
+        final boolean lenient = this.lenient || (p != PEEKED_BEGIN_OBJECT && p != PEEKED_BEGIN_ARRAY);
+        skipValue();
+        final int end = pos;
+        return () -> {
+            JsonReader reader = new NonBufferedJsonReader(in, start, end);
+            reader.setLenient(lenient);
+            return reader;
+        };
+    }
+
+    /**
+     * @param p the peeked token
+     * @return the position of the first character of the peeked value in the input, or -1 if it cannot be found again
+     */
+    private int valueStart(int p) {
+        switch (p) {
+            case PEEKED_BEGIN_OBJECT:
+            case PEEKED_BEGIN_ARRAY:
+            case PEEKED_SINGLE_QUOTED:
+            case PEEKED_DOUBLE_QUOTED:
+                return pos - 1;
+            case PEEKED_UNQUOTED:
+            case PEEKED_NUMBER:
+                return pos;
+            case PEEKED_LONG:
+                return pos - peekedNumberLength;
+            default:
+                return -1;
+        }
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -1177,7 +1409,10 @@ public class NonBufferedJsonReader implements JsonReader {
     }
 
     private void push(int newTop) {
-        stack.setAt(stackSize++, newTop);
+        if (stackSize == stack.length) {
+            stack = Arrays.copyOf(stack, stackSize * 2);
+        }
+        stack[stackSize++] = newTop;
     }
 
     /**
@@ -1435,7 +1670,7 @@ public class NonBufferedJsonReader implements JsonReader {
      */
     @Override
     public String getInput() {
-        return in;
+        return offset == 0 && limit == in.length() ? in : in.substring(offset, limit);
     }
 
     /**
@@ -22,7 +22,7 @@ package com.progressoft.brix.domino.gwtjackson.stream.impl;
  * @author Nicolas Morel
  * @version $Id: $
  */
-public class StringReader {
+public class StringReader implements CharInput {
 
     private final String in;
 
@@ -62,6 +62,7 @@ public class StringReader {
      * @return The number of characters read, or -1 if the end of the
      * stream has been reached
      */
+    @Override
     public int read(char cbuf[], int off, int len) {
         if ((off < 0) || (off > cbuf.length) || (len < 0) ||
                 ((off + len) > cbuf.length) || ((off + len) < 0)) {
@@ -77,4 +78,11 @@ public class StringReader {
         next += n;
         return n;
     }
+
+    /**
+     * Nothing to release, the string is kept.
+     */
+    @Override
+    public void close() {
+    }
 }
@@ -0,0 +1,107 @@
+//@formatter:off
+/*
+ * Copyright (C) 2010 Google Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.progressoft.brix.domino.gwtjackson.stream.impl;
+
+import com.progressoft.brix.domino.gwtjackson.annotation.GwtIncompatible;
+
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * A {@link DefaultJsonReader} reading UTF-8 encoded JSON from a {@code byte[]} or a {@link ByteBuffer}, without creating a
+ * {@link String} of the whole input first.
+ * <p>
+ * The bytes are decoded once, straight into the buffer of the reader, which then holds the whole input as a reader
+ * created from a {@link String} does. Malformed byte sequences are replaced by {@code U+FFFD}. The input is not used after
+ * the construction, so the caller can reuse its array.
+ * <p>
+ * This reader relies on JVM only classes and is not available on the client side.
+ */
+@GwtIncompatible
+public class Utf8JsonReader extends DefaultJsonReader {
+
+    /**
+     * Creates a new instance that reads a UTF-8 encoded JSON from {@code in}.
+     *
+     * @param in the UTF-8 encoded JSON
+     */
+    public Utf8JsonReader(byte[] in) {
+        this(in, 0, null == in ? 0 : in.length);
+    }
+
+    /**
+     * Creates a new instance that reads a UTF-8 encoded JSON from the {@code length} bytes of {@code in} starting at
+     * {@code offset}.
+     *
+     * @param in     the UTF-8 encoded JSON
+     * @param offset index of the first byte to read
+     * @param length number of bytes to read
+     */
+    public Utf8JsonReader(byte[] in, int offset, int length) {
+        this(decode(wrap(in, offset, length)));
+    }
+
+    /**
+     * Creates a new instance that reads a UTF-8 encoded JSON from the remaining bytes of {@code in}. The position of the
+     * buffer is left untouched.
+     *
+     * @param in the UTF-8 encoded JSON
+     */
+    public Utf8JsonReader(ByteBuffer in) {
+        this(decode(checkNotNull(in).duplicate()));
+    }
+
+    private Utf8JsonReader(CharBuffer decoded) {
+        super(decoded.array(), decoded.position());
+    }
+
+    private static <T> T checkNotNull(T in) {
+        if (in == null) {
+            throw new NullPointerException("in == null");
+        }
+        return in;
+    }
+
+    private static ByteBuffer wrap(byte[] in, int offset, int length) {
+        checkNotNull(in);
+        if (offset < 0 || length < 0 || offset > in.length - length) {
+            throw new IndexOutOfBoundsException("offset=" + offset + ", length=" + length + ", in.length=" + in.length);
+        }
+        return ByteBuffer.wrap(in, offset, length);
+    }
+
+    /**
+     * Decodes the remaining bytes of {@code in}. UTF-8 never needs more characters than bytes, so an array of the length of
+     * the input always holds the result.
+     *
+     * @param in the UTF-8 encoded JSON
+     * @return the decoded characters, from the start of the array to the position of the buffer
+     */
+    private static CharBuffer decode(ByteBuffer in) {
+        CharBuffer out = CharBuffer.allocate(in.remaining());
+        CharsetDecoder decoder = StandardCharsets.UTF_8.newDecoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        decoder.decode(in, out, true);
+        decoder.flush(out);
+        return out;
+    }
+}
@@ -21,8 +21,6 @@ import com.google.gwt.i18n.client.TimeZone;
 import com.progressoft.brix.domino.gwtjackson.JsonSerializerParameters;
 
 import java.util.Date;
-import java.util.HashMap;
-import java.util.Map;
 
 /**
  * <p>DateFormat class.</p>
@@ -62,7 +60,7 @@ public final class DateFormat {
      * to ISO-8601 date formatting standard, when it includes basic undecorated
      * timezone definition
      */
-    public static final DateTimeFormat DATE_FORMAT_STR_ISO8601 = DateTimeFormat.getFormat("yyyy-MM-dd'T'HH:mm:ss.SSSZ");
+    public static final DateTimeFormat DATE_FORMAT_STR_ISO8601 = DateTimeFormat.getFormat(Iso8601Format.ISO8601_PATTERN);
 
     /**
      * Same as 'regular' 8601, but handles 'Z' as an alias for "+0000"
@@ -73,7 +71,7 @@ public final class DateFormat {
     /**
      * ISO-8601 with just the Date part, no time
      */
-    public final static DateTimeFormat DATE_FORMAT_STR_PLAIN = DateTimeFormat.getFormat("yyyy-MM-dd");
+    public final static DateTimeFormat DATE_FORMAT_STR_PLAIN = DateTimeFormat.getFormat(Iso8601Format.PLAIN_PATTERN);
 
     /**
      * This constant defines the date format specified by
@@ -86,7 +84,14 @@ public final class DateFormat {
      */
     public static final TimeZone UTC_TIMEZONE = TimeZone.createTimeZone(0);
 
-    private static final Map<String, DateParser> CACHE_PARSERS = new HashMap<String, DateParser>();
+    /**
+     * Maximum number of patterns kept by each cache, the patterns normally come from annotations so they are few
+     */
+    private static final int MAX_CACHED_PATTERNS = 256;
+
+    private static final PatternCache<DateParser> CACHE_PARSERS = new PatternCache<DateParser>(MAX_CACHED_PATTERNS);
+
+    private static final PatternCache<DateTimeFormat> CACHE_FORMATS = new PatternCache<DateTimeFormat>(MAX_CACHED_PATTERNS);
 
     /**
      * Format a date using {@link #DATE_FORMAT_STR_ISO8601} and {@link #UTC_TIMEZONE}
@@ -110,7 +115,7 @@ public final class DateFormat {
         if (null == params.getPattern()) {
             format = DateFormat.DATE_FORMAT_STR_ISO8601;
         } else {
-            format = DateTimeFormat.getFormat(params.getPattern());
+            format = getFormat(params.getPattern());
         }
 
         TimeZone timeZone;
@@ -155,9 +160,46 @@ public final class DateFormat {
      * @return the formatted date
      */
     public static String format(DateTimeFormat format, TimeZone timeZone, Date date) {
+        if (format == DATE_FORMAT_STR_ISO8601 && timeZone == UTC_TIMEZONE) {
+            String result = Iso8601Format.formatUtc(date.getTime());
+            if (null != result) {
+                return result;
+            }
+        }
         return format.format(date, timeZone);
     }
 
+    /**
+     * Returns the {@link DateTimeFormat} of a pattern from a cache shared by all the date serializers. A {@link DateTimeFormat}
+     * does not depend on the timezone, it is given to each call of {@link #format(DateTimeFormat, TimeZone, Date)}, so the
+     * pattern alone is the key.
+     *
+     * @param pattern the pattern
+     * @return the format
+     */
+    public static DateTimeFormat getFormat(String pattern) {
+        DateTimeFormat format = CACHE_FORMATS.get(pattern);
+        if (null == format) {
+            format = DateTimeFormat.getFormat(pattern);
+            format = CACHE_FORMATS.put(pattern, format);
+        }
+        return format;
+    }
+
+    /**
+     * @return the number of {@link #getFormat(String)} calls answered by the cache
+     */
+    public static long getFormatCacheHits() {
+        return CACHE_FORMATS.getHits();
+    }
+
+    /**
+     * @return the number of {@link #getFormat(String)} calls that created a new format
+     */
+    public static long getFormatCacheMisses() {
+        return CACHE_FORMATS.getMisses();
+    }
+
     /**
      * Parse a date using {@link #DATE_FORMAT_STR_ISO8601} and the browser timezone.
      *
@@ -178,9 +220,16 @@ public final class DateFormat {
      * @return the parsed date
      */
     public static Date parse(boolean useBrowserTimezone, String pattern, Boolean hasTz, String date) {
-        if (null == pattern) {
+        if (null == pattern || Iso8601Format.ISO8601_PATTERN.equals(pattern)) {
             return parse(DateFormat.DATE_FORMAT_STR_ISO8601, date);
         } else {
+            if (!useBrowserTimezone && Iso8601Format.PLAIN_PATTERN.equals(pattern)) {
+                long millis = Iso8601Format.parseDateUtc(date);
+                if (millis != Iso8601Format.INVALID) {
+                    return new Date(millis);
+                }
+            }
+
             String patternCacheKey = pattern + useBrowserTimezone;
             DateParser parser = CACHE_PARSERS.get(patternCacheKey);
             if (null == parser) {
@@ -191,7 +240,7 @@ public final class DateFormat {
                     // the pattern does not have a timezone, we use the UTC timezone as reference
                     parser = new DateParserNoTz(pattern);
                 }
-                CACHE_PARSERS.put(patternCacheKey, parser);
+                parser = CACHE_PARSERS.put(patternCacheKey, parser);
             }
             return parser.parse(date);
         }
@@ -249,6 +298,12 @@ public final class DateFormat {
      * @return the parsed date
      */
     public static Date parse(DateTimeFormat format, String date) {
+        if (format == DATE_FORMAT_STR_ISO8601) {
+            long millis = Iso8601Format.parseUtc(date);
+            if (millis != Iso8601Format.INVALID) {
+                return new Date(millis);
+            }
+        }
         return format.parseStrict(date);
     }
 
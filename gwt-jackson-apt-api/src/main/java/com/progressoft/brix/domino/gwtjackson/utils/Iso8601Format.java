@@ -0,0 +1,236 @@
+/*
+ * Copyright 2017 Ahmad Bawaneh
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.progressoft.brix.domino.gwtjackson.utils;
+
+/**
+ * Fixed layout ISO-8601 formatting and parsing, written by hand for the default date formats so the most common dates do not
+ * go through the general purpose {@link com.google.gwt.i18n.client.DateTimeFormat}. The calendar fields are converted from and
+ * to the epoch milliseconds with integer arithmetic only, in the proleptic Gregorian calendar.
+ */
+public final class Iso8601Format {
+
+    private static final long MILLIS_PER_DAY = 24L * 60 * 60 * 1000;
+
+    /**
+     * -62135596800000 is 0001-01-01T00:00:00.000Z, years before are formatted differently by DateTimeFormat (eras)
+     */
+    private static final long MIN_MILLIS = -62135596800000L;
+
+    /**
+     * 253402300800000 is 10000-01-01T00:00:00.000Z, years after do not fit the 4 digits layout
+     */
+    private static final long MAX_MILLIS = 253402300800000L;
+
+    /**
+     * Pattern of {@link #formatUtc(long)} and {@link #parseUtc(String)}
+     */
+    public static final String ISO8601_PATTERN = "yyyy-MM-dd'T'HH:mm:ss.SSSZ";
+
+    /**
+     * Pattern of {@link #parseDateUtc(String)}
+     */
+    public static final String PLAIN_PATTERN = "yyyy-MM-dd";
+
+    /**
+     * Returned by the parse methods when the text does not have the expected layout
+     */
+    public static final long INVALID = Long.MIN_VALUE;
+
+    /**
+     * Formats a date with the pattern {@code yyyy-MM-dd'T'HH:mm:ss.SSSZ} in UTC, e.g. {@code 2012-08-18T15:45:56.543+0000}.
+     *
+     * @param millis milliseconds since the epoch
+     * @return the formatted date, or null if its year is not between 1 and 9999
+     */
+    public static String formatUtc(long millis) {
+        if (millis < MIN_MILLIS || millis >= MAX_MILLIS) {
+            return null;
+        }
+
+        long days = millis / MILLIS_PER_DAY;
+        int millisOfDay = (int) (millis - days * MILLIS_PER_DAY);
+        if (millisOfDay < 0) {
+            days--;
+            millisOfDay += MILLIS_PER_DAY;
+        }
+
+        // days to civil date, shifting the year to start in March so the leap day is the last day of the year
+        int z = (int) days + 719468;
+        int era = (z >= 0 ? z : z - 146096) / 146097;
+        int dayOfEra = z - era * 146097;
+        int yearOfEra = (dayOfEra - dayOfEra / 1460 + dayOfEra / 36524 - dayOfEra / 146096) / 365;
+        int dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+        int shiftedMonth = (5 * dayOfYear + 2) / 153;
+        int day = dayOfYear - (153 * shiftedMonth + 2) / 5 + 1;
+        int month = shiftedMonth < 10 ? shiftedMonth + 3 : shiftedMonth - 9;
+        int year = yearOfEra + era * 400 + (month <= 2 ? 1 : 0);
+
+        char[] out = new char[28];
+        write4(out, 0, year);
+        out[4] = '-';
+        write2(out, 5, month);
+        out[7] = '-';
+        write2(out, 8, day);
+        out[10] = 'T';
+        write2(out, 11, millisOfDay / 3600000);
+        out[13] = ':';
+        write2(out, 14, millisOfDay / 60000 % 60);
+        out[16] = ':';
+        write2(out, 17, millisOfDay / 1000 % 60);
+        out[19] = '.';
+        int millisOfSecond = millisOfDay % 1000;
+        out[20] = (char) ('0' + millisOfSecond / 100);
+        write2(out, 21, millisOfSecond % 100);
+        out[23] = '+';
+        out[24] = '0';
+        out[25] = '0';
+        out[26] = '0';
+        out[27] = '0';
+        return new String(out);
+    }
+
+    /**
+     * Parses a date with the layout {@code yyyy-MM-dd'T'HH:mm:ss.SSS} followed by {@code Z}, {@code +hh:mm} or {@code +hhmm},
+     * e.g. {@code 2012-08-18T17:45:56.543+02:00}. No intermediate object is created. Any other text, including a valid
+     * ISO-8601 date with another layout, is left to {@link com.google.gwt.i18n.client.DateTimeFormat}.
+     *
+     * @param date the text to parse
+     * @return milliseconds since the epoch, or {@link #INVALID} if the text does not have the layout or has an out of range field
+     */
+    public static long parseUtc(String date) {
+        int length = date.length();
+        if (length < 24 || date.charAt(10) != 'T' || date.charAt(13) != ':' || date.charAt(16) != ':'
+                || date.charAt(19) != '.') {
+            return INVALID;
+        }
+        long days = readDays(date);
+        int hours = read2(date, 11);
+        int minutes = read2(date, 14);
+        int seconds = read2(date, 17);
+        int millis = read3(date, 20);
+        if (days == INVALID || hours > 23 || minutes > 59 || seconds > 59 || (hours | minutes | seconds | millis) < 0) {
+            return INVALID;
+        }
+
+        int offsetMinutes;
+        char sign = date.charAt(23);
+        if (sign == 'Z' && length == 24) {
+            offsetMinutes = 0;
+        } else if ((sign == '+' || sign == '-') && (length == 29 && date.charAt(26) == ':' || length == 28)) {
+            int offsetHours = read2(date, 24);
+            int offsetRest = read2(date, length - 2);
+            if (offsetHours > 23 || offsetRest > 59 || (offsetHours | offsetRest) < 0) {
+                return INVALID;
+            }
+            offsetMinutes = offsetHours * 60 + offsetRest;
+            if (sign == '-') {
+                offsetMinutes = -offsetMinutes;
+            }
+        } else {
+            return INVALID;
+        }
+
+        return days * MILLIS_PER_DAY + ((hours * 60 + minutes - offsetMinutes) * 60 + seconds) * 1000L + millis;
+    }
+
+    /**
+     * Parses a date with the layout {@code yyyy-MM-dd} as midnight UTC. No intermediate object is created.
+     *
+     * @param date the text to parse
+     * @return milliseconds since the epoch, or {@link #INVALID} if the text does not have the layout or has an out of range field
+     */
+    public static long parseDateUtc(String date) {
+        if (date.length() != 10) {
+            return INVALID;
+        }
+        long days = readDays(date);
+        return days == INVALID ? INVALID : days * MILLIS_PER_DAY;
+    }
+
+    /**
+     * Reads the {@code yyyy-MM-dd} prefix of a date.
+     *
+     * @return the number of days since the epoch, or {@link #INVALID}
+     */
+    private static long readDays(String date) {
+        if (date.charAt(4) != '-' || date.charAt(7) != '-') {
+            return INVALID;
+        }
+        int year = read4(date, 0);
+        int month = read2(date, 5);
+        int day = read2(date, 8);
+        if (year < 1 || month < 1 || month > 12 || day < 1 || day > daysInMonth(year, month)) {
+            return INVALID;
+        }
+
+        // civil date to days, shifting the year to start in March as in formatUtc
+        int yearOfMarch = month <= 2 ? year - 1 : year;
+        int era = yearOfMarch / 400;
+        int yearOfEra = yearOfMarch - era * 400;
+        int dayOfYear = (153 * (month > 2 ? month - 3 : month + 9) + 2) / 5 + day - 1;
+        int dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+        return era * 146097L + dayOfEra - 719468;
+    }
+
+    private static int daysInMonth(int year, int month) {
+        if (month == 2) {
+            return (year % 4 == 0 && (year % 100 != 0 || year % 400 == 0)) ? 29 : 28;
+        }
+        return month == 4 || month == 6 || month == 9 || month == 11 ? 30 : 31;
+    }
+
+    /**
+     * @return the value of the digit at {@code offset}, or a negative number if it is not a digit
+     */
+    private static int digit(String date, int offset) {
+        int value = date.charAt(offset) - '0';
+        return value <= 9 ? value : -1;
+    }
+
+    /**
+     * @return the value of the two digits at {@code offset}, or a negative number if one is not a digit
+     */
+    private static int read2(String date, int offset) {
+        int high = digit(date, offset);
+        int low = digit(date, offset + 1);
+        return (high | low) < 0 ? -1 : high * 10 + low;
+    }
+
+    private static int read3(String date, int offset) {
+        int high = digit(date, offset);
+        int low = read2(date, offset + 1);
+        return (high | low) < 0 ? -1 : high * 100 + low;
+    }
+
+    private static int read4(String date, int offset) {
+        int high = read2(date, offset);
+        int low = read2(date, offset + 2);
+        return (high | low) < 0 ? -1 : high * 100 + low;
+    }
+
+    private static void write2(char[] out, int offset, int value) {
+        out[offset] = (char) ('0' + value / 10);
+        out[offset + 1] = (char) ('0' + value % 10);
+    }
+
+    private static void write4(char[] out, int offset, int value) {
+        write2(out, offset, value / 100);
+        write2(out, offset + 2, value % 100);
+    }
+
+    private Iso8601Format() {
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright 2017 Ahmad Bawaneh
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.progressoft.brix.domino.gwtjackson.utils;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bounded cache of the objects built from a date pattern, safe to share between threads. Once {@code maxSize} patterns are
+ * cached, the objects of new patterns are still built but no longer kept, so an unbounded set of patterns cannot fill the
+ * memory.
+ *
+ * @param <V> type of the cached objects
+ */
+final class PatternCache<V> {
+
+    private final Map<String, V> values = new ConcurrentHashMap<String, V>();
+
+    private final int maxSize;
+
+    private final AtomicLong hits = new AtomicLong();
+
+    private final AtomicLong misses = new AtomicLong();
+
+    PatternCache(int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * @param key the key of the object
+     * @return the cached object or null if it must be built and given to {@link #put(String, Object)}
+     */
+    V get(String key) {
+        V value = values.get(key);
+        if (null == value) {
+            misses.incrementAndGet();
+        } else {
+            hits.incrementAndGet();
+        }
+        return value;
+    }
+
+    /**
+     * Caches {@code value} unless the cache is full. Threads racing on the same key may each build an object, only the first
+     * one is kept and returned to all of them.
+     *
+     * @param key   the key of the object
+     * @param value the object built for the key
+     * @return the object to use for the key
+     */
+    V put(String key, V value) {
+        // a thread racing on the key that filled the cache must still get the object kept for it
+        V previous = values.size() < maxSize ? values.putIfAbsent(key, value) : values.get(key);
+        return null == previous ? value : previous;
+    }
+
+    int size() {
+        return values.size();
+    }
+
+    long getHits() {
+        return hits.get();
+    }
+
+    long getMisses() {
+        return misses.get();
+    }
+}
@@ -0,0 +1,24 @@
+package com.progressoft.brix.domino.gwtjackson.deser.bean;
+
+import elemental2.core.JsObject;
+import jsinterop.base.Js;
+import jsinterop.base.JsPropertyMap;
+
+/**
+ * Super source for {@link com.progressoft.brix.domino.gwtjackson.deser.bean.JsMapLike} backed by a native object without
+ * prototype.
+ */
+public class JsMapLike<T> implements MapLike<T> {
+
+    private JsPropertyMap<T> map = (JsPropertyMap<T>) Js.asAny(JsObject.create(null)).asPropertyMap();
+
+    @Override
+    public T get(String key) {
+        return map.get(key);
+    }
+
+    @Override
+    public void put(String key, T value) {
+        map.set(key, value);
+    }
+}
@@ -0,0 +1,100 @@
+package com.progressoft.brix.domino.gwtjackson.stream.impl;
+
+import com.progressoft.brix.domino.gwtjackson.stream.JsonReader;
+import com.progressoft.brix.domino.gwtjackson.stream.JsonWriter;
+
+/**
+ * Super source for {@link com.progressoft.brix.domino.gwtjackson.stream.impl.JsonStreamPool} keeping a single reader and writer,
+ * there is only one thread in the browser.
+ */
+public final class JsonStreamPool {
+
+    /**
+     * Writers whose output grew bigger than this number of characters are not kept.
+     */
+    private static final int MAX_POOLED_CAPACITY = 64 * 1024;
+
+    private static final JsonStreamPool INSTANCE = new JsonStreamPool();
+
+    /**
+     * @return the pool
+     */
+    public static JsonStreamPool get() {
+        return INSTANCE;
+    }
+
+    /**
+     * @param input the JSON input
+     * @return a new reader, not taken from the pool, reading {@code input}
+     */
+    public static JsonReader newReader(String input) {
+        return new NonBufferedJsonReader(input);
+    }
+
+    /**
+     * @return a new writer, not taken from the pool, writing to a {@link StringBuilder}
+     */
+    public static JsonWriter newWriter() {
+        return new FastJsonWriter(new StringBuilder());
+    }
+
+    private NonBufferedJsonReader reader;
+
+    private FastJsonWriter writer;
+
+    private JsonStreamPool() {
+    }
+
+    /**
+     * @param input the JSON input
+     * @return the pooled reader reset to read {@code input}, or a new reader if it is in use
+     */
+    public JsonReader obtainReader(String input) {
+        NonBufferedJsonReader result = reader;
+        if (null == result) {
+            return new NonBufferedJsonReader(input);
+        }
+        reader = null;
+        result.reset(input);
+        return result;
+    }
+
+    /**
+     * Gives back a reader obtained with {@link #obtainReader(String)}. It must not be used after.
+     *
+     * @param reader the reader
+     */
+    public void releaseReader(JsonReader reader) {
+        if (reader instanceof NonBufferedJsonReader) {
+            // do not keep the last input
+            ((NonBufferedJsonReader) reader).reset("");
+            this.reader = (NonBufferedJsonReader) reader;
+        }
+    }
+
+    /**
+     * @return the pooled writer with an empty output, or a new writer if it is in use
+     */
+    public JsonWriter obtainWriter() {
+        FastJsonWriter result = writer;
+        if (null == result) {
+            return new FastJsonWriter(new StringBuilder());
+        }
+        writer = null;
+        result.reset();
+        return result;
+    }
+
+    /**
+     * Gives back a writer obtained with {@link #obtainWriter()}. It must not be used after.
+     *
+     * @param writer the writer
+     */
+    public void releaseWriter(JsonWriter writer) {
+        if (writer instanceof FastJsonWriter && ((FastJsonWriter) writer).capacity() <= MAX_POOLED_CAPACITY) {
+            // do not keep the last output
+            ((FastJsonWriter) writer).reset();
+            this.writer = (FastJsonWriter) writer;
+        }
+    }
+}
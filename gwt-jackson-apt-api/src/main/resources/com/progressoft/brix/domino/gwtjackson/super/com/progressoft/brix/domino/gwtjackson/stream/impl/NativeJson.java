@@ -0,0 +1,17 @@
+package com.progressoft.brix.domino.gwtjackson.stream.impl;
+
+import static elemental2.core.Global.JSON;
+
+/**
+ * Super source for {@link com.progressoft.brix.domino.gwtjackson.stream.impl.NativeJson} encoding the native values with
+ * {@code JSON.stringify}.
+ */
+final class NativeJson {
+
+    private NativeJson() {
+    }
+
+    static String stringify(Object value) {
+        return JSON.stringify(value);
+    }
+}
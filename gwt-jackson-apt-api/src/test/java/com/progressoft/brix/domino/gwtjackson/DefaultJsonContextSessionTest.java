@@ -0,0 +1,57 @@
+/*
+ * Copyright 2017 Ahmad Bawaneh
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.progressoft.brix.domino.gwtjackson;
+
+import com.fasterxml.jackson.annotation.ObjectIdGenerator.IdKey;
+import com.fasterxml.jackson.annotation.ObjectIdGenerators;
+
+public class DefaultJsonContextSessionTest extends JacksonTestCase {
+
+    public void testDeserializationSession() {
+        JsonDeserializationContext configuration = DefaultJsonDeserializationContext.builder()
+                .failOnUnknownProperties(false)
+                .unwrapRootValue(true)
+                .build();
+        JsonDeserializationContext session = configuration.newSession();
+        assertNotSame(configuration, session);
+        assertFalse(session.isFailOnUnknownProperties());
+        assertTrue(session.isUnwrapRootValue());
+
+        IdKey id = new IdKey(Object.class, Object.class, 1);
+        Object instance = new Object();
+        session.addObjectId(id, instance);
+        assertSame(instance, session.getObjectWithId(id));
+        assertNull(configuration.getObjectWithId(id));
+        assertNull(configuration.newSession().getObjectWithId(id));
+    }
+
+    public void testSerializationSession() {
+        JsonSerializationContext configuration = DefaultJsonSerializationContext.builder()
+                .serializeNulls(false)
+                .wrapRootValue(true)
+                .build();
+        JsonSerializationContext session = configuration.newSession();
+        assertNotSame(configuration, session);
+        assertFalse(session.isSerializeNulls());
+        assertTrue(session.isWrapRootValue());
+
+        ObjectIdGenerators.IntSequenceGenerator generator = new ObjectIdGenerators.IntSequenceGenerator();
+        session.addGenerator(generator);
+        assertSame(generator, session.findObjectIdGenerator(generator));
+        assertNull(configuration.findObjectIdGenerator(generator));
+        assertNull(configuration.newSession().findObjectIdGenerator(generator));
+    }
+}
@@ -20,6 +20,8 @@ import com.progressoft.brix.domino.gwtjackson.deser.*;
 import com.progressoft.brix.domino.gwtjackson.deser.array.ArrayJsonDeserializerTest;
 import com.progressoft.brix.domino.gwtjackson.deser.array.ByteArray2dJsonDeserializerTest;
 import com.progressoft.brix.domino.gwtjackson.deser.array.ByteArrayJsonDeserializerTest;
+import com.progressoft.brix.domino.gwtjackson.deser.array.IntegerArray2dJsonDeserializerTest;
+import com.progressoft.brix.domino.gwtjackson.deser.array.IntegerArrayJsonDeserializerTest;
 import com.progressoft.brix.domino.gwtjackson.deser.collection.CollectionJsonDeserializerTest;
 import com.progressoft.brix.domino.gwtjackson.deser.collection.IterableJsonDeserializerTest;
 import com.progressoft.brix.domino.gwtjackson.deser.collection.ListJsonDeserializerTest;
@@ -55,6 +57,9 @@ public class GwtJacksonAptSuite extends GWTTestSuite {
     public static Test suite() {
         TestSuite suite = new TestSuite("Tests for gwt-jackson-apt");
 
+        // Contexts
+        suite.addTestSuite(DefaultJsonContextSessionTest.class);
+
         // Stream - tests from gson
         suite.addTestSuite(DefaultJsonReaderTest.class);
         suite.addTestSuite(NonBufferedJsonReaderTest.class);
@@ -111,6 +116,8 @@ public class GwtJacksonAptSuite extends GWTTestSuite {
         suite.addTestSuite(ArrayJsonDeserializerTest.class);
         suite.addTestSuite(ByteArrayJsonDeserializerTest.class);
         suite.addTestSuite(ByteArray2dJsonDeserializerTest.class);
+        suite.addTestSuite(IntegerArrayJsonDeserializerTest.class);
+        suite.addTestSuite(IntegerArray2dJsonDeserializerTest.class);
         suite.addTestSuite(BigDecimalJsonDeserializerTest.class);
         suite.addTestSuite(BigIntegerJsonDeserializerTest.class);
         suite.addTestSuite(BooleanJsonDeserializerTest.class);
@@ -123,6 +130,7 @@ public class GwtJacksonAptSuite extends GWTTestSuite {
         suite.addTestSuite(FloatJsonDeserializerTest.class);
         suite.addTestSuite(IntegerJsonDeserializerTest.class);
         suite.addTestSuite(IterableJsonDeserializerTest.class);
+        suite.addTestSuite(LazyJsonDeserializerTest.class);
         suite.addTestSuite(ListJsonDeserializerTest.class);
         suite.addTestSuite(LongJsonDeserializerTest.class);
         suite.addTestSuite(SetJsonDeserializerTest.class);
@@ -0,0 +1,82 @@
+/*
+ * Copyright 2017 Ahmad Bawaneh
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.progressoft.brix.domino.gwtjackson;
+
+import com.fasterxml.jackson.annotation.ObjectIdGenerator.IdKey;
+import com.fasterxml.jackson.annotation.ObjectIdGenerators.IntSequenceGenerator;
+import com.fasterxml.jackson.annotation.ObjectIdGenerators.PropertyGenerator;
+import com.progressoft.brix.domino.gwtjackson.annotation.GwtIncompatible;
+import junit.framework.TestCase;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+@GwtIncompatible
+public class ObjectIdTableTest extends TestCase {
+
+    public void testTableMatchesHashMap() {
+        Random random = new Random(42);
+        ObjectIdTable table = new ObjectIdTable(0);
+        Map<Long, Object> expected = new HashMap<Long, Object>();
+        for (int i = 0; i < 100000; i++) {
+            // sequential ids, colliding high and low halves and random ids
+            long id = i % 3 == 0 ? i : i % 3 == 1 ? ((long) i << 32) | i : random.nextLong();
+            Object instance = new Object();
+            table.put(id, instance);
+            expected.put(id, instance);
+        }
+        table.put(0, "replaced");
+        expected.put(0L, "replaced");
+
+        assertEquals(expected.size(), table.size());
+        for (Map.Entry<Long, Object> entry : expected.entrySet()) {
+            assertSame(entry.getValue(), table.get(entry.getKey()));
+        }
+        assertNull(table.get(-1));
+        assertNull(table.get(Long.MIN_VALUE));
+    }
+
+    public void testPresizedTable() {
+        ObjectIdTable table = new ObjectIdTable(1000);
+        for (int i = 0; i < 1000; i++) {
+            table.put(i, i);
+        }
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(i, table.get(i));
+        }
+        assertNull(table.get(1000));
+    }
+
+    public void testContextIds() {
+        JsonDeserializationContext ctx = DefaultJsonDeserializationContext.builder().expectedObjectIds(10).build();
+        ctx.addObjectId(IntSequenceGenerator.class, String.class, 1, "int");
+        ctx.addObjectId(IntSequenceGenerator.class, String.class, 1L, "long");
+        ctx.addObjectId(IntSequenceGenerator.class, Integer.class, 1, "other scope");
+        ctx.addObjectId(PropertyGenerator.class, String.class, "1", "string");
+
+        assertEquals("int", ctx.getObjectWithId(IntSequenceGenerator.class, String.class, 1));
+        assertEquals("long", ctx.getObjectWithId(IntSequenceGenerator.class, String.class, 1L));
+        assertEquals("other scope", ctx.getObjectWithId(IntSequenceGenerator.class, Integer.class, 1));
+        assertEquals("string", ctx.getObjectWithId(PropertyGenerator.class, String.class, "1"));
+        assertNull(ctx.getObjectWithId(IntSequenceGenerator.class, null, 1));
+        assertNull(ctx.getObjectWithId(PropertyGenerator.class, String.class, 1));
+
+        assertEquals("int", ctx.getObjectWithId(new IdKey(IntSequenceGenerator.class, String.class, 1)));
+        ctx.addObjectId(new IdKey(IntSequenceGenerator.class, null, 2), "key");
+        assertEquals("key", ctx.getObjectWithId(IntSequenceGenerator.class, null, 2));
+    }
+}
@@ -0,0 +1,419 @@
+/*
+ * Copyright 2017 Ahmad Bawaneh
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.progressoft.brix.domino.gwtjackson;
+
+import com.progressoft.brix.domino.gwtjackson.annotation.GwtIncompatible;
+import com.progressoft.brix.domino.gwtjackson.deser.BaseNumberJsonDeserializer.IntegerJsonDeserializer;
+import com.progressoft.brix.domino.gwtjackson.deser.StringJsonDeserializer;
+import com.progressoft.brix.domino.gwtjackson.deser.bean.AbstractObjectBeanJsonDeserializer;
+import com.progressoft.brix.domino.gwtjackson.deser.bean.BackReferenceProperty;
+import com.progressoft.brix.domino.gwtjackson.deser.bean.BeanPropertyDeserializer;
+import com.progressoft.brix.domino.gwtjackson.deser.bean.HasDeserializerAndParameters;
+import com.progressoft.brix.domino.gwtjackson.deser.bean.MapLike;
+import com.progressoft.brix.domino.gwtjackson.deser.collection.ArrayListJsonDeserializer;
+import com.progressoft.brix.domino.gwtjackson.deser.map.LinkedHashMapJsonDeserializer;
+import com.progressoft.brix.domino.gwtjackson.deser.map.key.KeyDeserializer;
+import com.progressoft.brix.domino.gwtjackson.deser.map.key.StringKeyDeserializer;
+import com.progressoft.brix.domino.gwtjackson.ser.BaseNumberJsonSerializer.IntegerJsonSerializer;
+import com.progressoft.brix.domino.gwtjackson.ser.IterableJsonSerializer;
+import com.progressoft.brix.domino.gwtjackson.ser.StringJsonSerializer;
+import com.progressoft.brix.domino.gwtjackson.ser.bean.BeanPropertySerializer;
+import com.progressoft.brix.domino.gwtjackson.ser.map.MapJsonSerializer;
+import com.progressoft.brix.domino.gwtjackson.ser.map.key.KeySerializer;
+import com.progressoft.brix.domino.gwtjackson.ser.map.key.ToStringKeySerializer;
+import com.progressoft.brix.domino.gwtjackson.stream.JsonWriter;
+import com.progressoft.brix.domino.gwtjackson.stream.impl.DefaultJsonWriter;
+import com.progressoft.brix.domino.gwtjackson.stream.impl.Utf8JsonReader;
+import junit.framework.TestCase;
+
+import java.lang.reflect.Field;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Shares mappers, property (de)serializers and lazy values between threads. Every shared instance is fresh, so all the threads
+ * race on its lazy initialization, and each lazily created instance must be created once and seen by all the threads.
+ * <p>
+ * The pattern caches of {@link com.progressoft.brix.domino.gwtjackson.utils.DateFormat} are covered by
+ * {@link com.progressoft.brix.domino.gwtjackson.utils.PatternCacheTest}, DateFormat itself cannot be loaded on the JVM without
+ * the GWT i18n classes.
+ */
+@GwtIncompatible
+public class ObjectMapperConcurrencyTest extends TestCase {
+
+    private static final int THREADS = 8;
+
+    private static final int ROUNDS = 500;
+
+    private interface Task {
+
+        void run(int thread, int round) throws Exception;
+    }
+
+    private static class DataMapper extends AbstractObjectMapper<Map<String, List<Integer>>> {
+
+        private final AtomicInteger deserializers = new AtomicInteger();
+
+        private final AtomicInteger serializers = new AtomicInteger();
+
+        DataMapper() {
+            super("Data");
+        }
+
+        @Override
+        protected JsonDeserializer<Map<String, List<Integer>>> newDeserializer() {
+            deserializers.incrementAndGet();
+            slowly();
+            return (JsonDeserializer) LinkedHashMapJsonDeserializer.newInstance(StringKeyDeserializer.getInstance(),
+                    ArrayListJsonDeserializer.newInstance(IntegerJsonDeserializer.getInstance()));
+        }
+
+        @Override
+        protected JsonSerializer<?> newSerializer() {
+            serializers.incrementAndGet();
+            slowly();
+            return MapJsonSerializer.newInstance(ToStringKeySerializer.getInstance(),
+                    IterableJsonSerializer.newInstance(IntegerJsonSerializer.getInstance()));
+        }
+    }
+
+    /**
+     * {@link com.progressoft.brix.domino.gwtjackson.deser.bean.JsMapLike} needs a javascript runtime
+     */
+    private static class HashMapLike<T> implements MapLike<T> {
+
+        private final Map<String, T> map = new HashMap<String, T>();
+
+        @Override
+        public T get(String key) {
+            return map.get(key);
+        }
+
+        @Override
+        public void put(String key, T value) {
+            map.put(key, value);
+        }
+    }
+
+    private static class ObjectDeserializer extends AbstractObjectBeanJsonDeserializer {
+
+        @Override
+        public Class getDeserializedType() {
+            return Object.class;
+        }
+
+        @Override
+        protected MapLike<BeanPropertyDeserializer<Object, ?>> initDeserializers() {
+            return new HashMapLike<BeanPropertyDeserializer<Object, ?>>();
+        }
+
+        @Override
+        protected MapLike<BackReferenceProperty<Object, ?>> initBackReferenceDeserializers() {
+            return new HashMapLike<BackReferenceProperty<Object, ?>>();
+        }
+    }
+
+    /**
+     * Runs {@code task} for every round in all the threads, the threads start each round together so they hit its fresh
+     * instance at the same time.
+     */
+    private static void runConcurrently(Task task) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CyclicBarrier barrier = new CyclicBarrier(THREADS);
+        List<Future<?>> futures = new ArrayList<Future<?>>();
+        for (int i = 0; i < THREADS; i++) {
+            final int thread = i;
+            futures.add(executor.submit(() -> {
+                for (int round = 0; round < ROUNDS; round++) {
+                    barrier.await(60, TimeUnit.SECONDS);
+                    task.run(thread, round);
+                }
+                return null;
+            }));
+        }
+        try {
+            for (Future<?> future : futures) {
+                future.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Slows down a factory so the other threads reach the lazy initialization before it returns, even on a single processor
+     */
+    private static void slowly() {
+        try {
+            Thread.sleep(1);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Checks that all the threads observe the same instance at {@code index}, the first thread records it.
+     */
+    private static void assertSameInstance(AtomicReferenceArray<Object> observed, int index, Object instance) {
+        assertNotNull(instance);
+        observed.compareAndSet(index, null, instance);
+        assertSame(observed.get(index), instance);
+    }
+
+    private static void assertCreatedOnce(AtomicIntegerArray created) {
+        for (int i = 0; i < created.length(); i++) {
+            assertEquals(1, created.get(i));
+        }
+    }
+
+    private static Object fieldValue(Object instance, Class<?> declaringClass, String name) throws Exception {
+        Field field = declaringClass.getDeclaredField(name);
+        field.setAccessible(true);
+        return field.get(instance);
+    }
+
+    private static Map<String, List<Integer>> data(int thread, int round) {
+        Map<String, List<Integer>> data = new LinkedHashMap<String, List<Integer>>();
+        data.put("thread", Arrays.asList(thread));
+        data.put("round", Arrays.asList(round, -round));
+        return data;
+    }
+
+    public void testSharedMappers() throws Exception {
+        DataMapper[] mappers = new DataMapper[ROUNDS];
+        for (int i = 0; i < ROUNDS; i++) {
+            mappers[i] = new DataMapper();
+        }
+        AtomicReferenceArray<Object> deserializers = new AtomicReferenceArray<Object>(ROUNDS);
+        AtomicReferenceArray<Object> serializers = new AtomicReferenceArray<Object>(ROUNDS);
+
+        runConcurrently((thread, round) -> {
+            DataMapper mapper = mappers[round];
+            Map<String, List<Integer>> expected = data(thread, round);
+            String json = "{\"thread\":[" + thread + "],\"round\":[" + round + "," + -round + "]}";
+
+            if (thread % 2 == 0) {
+                assertEquals(json, mapper.write(expected));
+                assertEquals(expected, mapper.read(json));
+            } else {
+                Map<String, List<Integer>> read = mapper.read(json.getBytes(StandardCharsets.UTF_8));
+                assertEquals(expected, read);
+                StringBuilder out = new StringBuilder();
+                mapper.write(read, out);
+                assertEquals(json, out.toString());
+            }
+            assertSameInstance(deserializers, round, mapper.getDeserializer());
+            assertSameInstance(serializers, round, mapper.getSerializer());
+        });
+
+        for (DataMapper mapper : mappers) {
+            assertEquals(1, mapper.deserializers.get());
+            assertEquals(1, mapper.serializers.get());
+        }
+    }
+
+    public void testSharedPropertySerializers() throws Exception {
+        AtomicIntegerArray createdSerializers = new AtomicIntegerArray(ROUNDS);
+        AtomicIntegerArray createdParameters = new AtomicIntegerArray(ROUNDS);
+        List<BeanPropertySerializer<List<Integer>, List<Integer>>> serializers =
+                new ArrayList<BeanPropertySerializer<List<Integer>, List<Integer>>>();
+        for (int i = 0; i < ROUNDS; i++) {
+            final int index = i;
+            serializers.add(new BeanPropertySerializer<List<Integer>, List<Integer>>("values") {
+                @Override
+                protected JsonSerializer<?> newSerializer() {
+                    createdSerializers.incrementAndGet(index);
+                    slowly();
+                    return IterableJsonSerializer.newInstance(IntegerJsonSerializer.getInstance());
+                }
+
+                @Override
+                protected JsonSerializerParameters newParameters() {
+                    createdParameters.incrementAndGet(index);
+                    slowly();
+                    return super.newParameters();
+                }
+
+                @Override
+                public List<Integer> getValue(List<Integer> bean, JsonSerializationContext ctx) {
+                    return bean;
+                }
+            });
+        }
+
+        runConcurrently((thread, round) -> {
+            JsonSerializationContext ctx = DefaultJsonSerializationContext.builder().build();
+            BeanPropertySerializer<List<Integer>, List<Integer>> serializer = serializers.get(round);
+
+            StringBuilder out = new StringBuilder();
+            JsonWriter writer = new DefaultJsonWriter(out);
+            writer.beginObject();
+            serializer.serializePropertyName(writer, null, ctx);
+            serializer.serialize(writer, Arrays.asList(thread, round), ctx);
+            writer.endObject();
+            writer.flush();
+            assertEquals("{\"values\":[" + thread + "," + round + "]}", out.toString());
+        });
+
+        assertCreatedOnce(createdSerializers);
+        assertCreatedOnce(createdParameters);
+    }
+
+    public void testSharedPropertyDeserializers() throws Exception {
+        AtomicIntegerArray createdDeserializers = new AtomicIntegerArray(ROUNDS);
+        AtomicIntegerArray createdParameters = new AtomicIntegerArray(ROUNDS);
+        List<HasDeserializerAndParameters<List<Integer>, JsonDeserializer<List<Integer>>>> deserializers =
+                new ArrayList<HasDeserializerAndParameters<List<Integer>, JsonDeserializer<List<Integer>>>>();
+        for (int i = 0; i < ROUNDS; i++) {
+            final int index = i;
+            deserializers.add(new HasDeserializerAndParameters<List<Integer>, JsonDeserializer<List<Integer>>>() {
+                @Override
+                protected JsonDeserializer<?> newDeserializer() {
+                    createdDeserializers.incrementAndGet(index);
+                    slowly();
+                    return ArrayListJsonDeserializer.newInstance(IntegerJsonDeserializer.getInstance());
+                }
+
+                @Override
+                protected JsonDeserializerParameters newParameters() {
+                    createdParameters.incrementAndGet(index);
+                    slowly();
+                    return super.newParameters();
+                }
+            });
+        }
+        AtomicReferenceArray<Object> observed = new AtomicReferenceArray<Object>(ROUNDS);
+
+        runConcurrently((thread, round) -> {
+            JsonDeserializationContext ctx = DefaultJsonDeserializationContext.builder().build();
+            HasDeserializerAndParameters<List<Integer>, JsonDeserializer<List<Integer>>> deserializer = deserializers.get(round);
+            List<Integer> values = deserializer
+                    .deserialize(new Utf8JsonReader(("[" + thread + "," + round + "]").getBytes(StandardCharsets.UTF_8)), ctx);
+            assertEquals(Arrays.asList(thread, round), values);
+            assertSameInstance(observed, round, deserializer.getDeserializer());
+        });
+
+        assertCreatedOnce(createdDeserializers);
+        assertCreatedOnce(createdParameters);
+    }
+
+    public void testSharedKeyAndJsonWrappers() throws Exception {
+        AtomicIntegerArray created = new AtomicIntegerArray(ROUNDS);
+        List<Serializer<String>> serializers = new ArrayList<Serializer<String>>();
+        List<Deserializer<String>> deserializers = new ArrayList<Deserializer<String>>();
+        for (int i = 0; i < ROUNDS; i++) {
+            final int index = i;
+            serializers.add(new Serializer<String>() {
+                @Override
+                protected KeySerializer<String> createKeySerializer() {
+                    created.incrementAndGet(index);
+                    slowly();
+                    return (KeySerializer) ToStringKeySerializer.getInstance();
+                }
+
+                @Override
+                protected JsonSerializer<String> createJsonSerializer() {
+                    created.incrementAndGet(index);
+                    slowly();
+                    return StringJsonSerializer.getInstance();
+                }
+            });
+            deserializers.add(new Deserializer<String>() {
+                @Override
+                protected KeyDeserializer<String> createKeyDeserializer() {
+                    created.incrementAndGet(index);
+                    slowly();
+                    return StringKeyDeserializer.getInstance();
+                }
+
+                @Override
+                protected JsonDeserializer<String> createJsonDeserializer() {
+                    created.incrementAndGet(index);
+                    slowly();
+                    return StringJsonDeserializer.getInstance();
+                }
+            });
+        }
+
+        runConcurrently((thread, round) -> {
+            assertNotNull(serializers.get(round).key());
+            assertNotNull(serializers.get(round).json());
+            assertNotNull(deserializers.get(round).key());
+            assertNotNull(deserializers.get(round).json());
+        });
+
+        for (int i = 0; i < ROUNDS; i++) {
+            assertEquals(4, created.get(i));
+        }
+    }
+
+    public void testSharedObjectDeserializers() throws Exception {
+        List<ObjectDeserializer> deserializers = new ArrayList<ObjectDeserializer>();
+        for (int i = 0; i < ROUNDS; i++) {
+            deserializers.add(new ObjectDeserializer());
+        }
+        AtomicReferenceArray<Object> lists = new AtomicReferenceArray<Object>(ROUNDS);
+        AtomicReferenceArray<Object> maps = new AtomicReferenceArray<Object>(ROUNDS);
+
+        runConcurrently((thread, round) -> {
+            JsonDeserializationContext ctx = DefaultJsonDeserializationContext.builder().build();
+            ObjectDeserializer deserializer = deserializers.get(round);
+            Object value = deserializer.deserialize(new Utf8JsonReader(("[\"" + thread + "\",{\"round\":\"" + round + "\"}]")
+                    .getBytes(StandardCharsets.UTF_8)), ctx);
+            assertEquals(Arrays.asList(String.valueOf(thread), Collections.singletonMap("round", String.valueOf(round))), value);
+
+            assertSameInstance(lists, round, fieldValue(deserializer, AbstractObjectBeanJsonDeserializer.class, "listJsonDeserializer"));
+            assertSameInstance(maps, round, fieldValue(deserializer, AbstractObjectBeanJsonDeserializer.class, "mapJsonDeserializer"));
+        });
+    }
+
+    public void testSharedLazyValues() throws Exception {
+        AtomicIntegerArray computed = new AtomicIntegerArray(ROUNDS);
+        List<Lazy<List<Integer>>> values = new ArrayList<Lazy<List<Integer>>>();
+        for (int i = 0; i < ROUNDS; i++) {
+            final int round = i;
+            values.add(Lazy.of(() -> {
+                computed.incrementAndGet(round);
+                slowly();
+                return Arrays.asList(round, -round);
+            }));
+        }
+        AtomicReferenceArray<Object> observed = new AtomicReferenceArray<Object>(ROUNDS);
+
+        runConcurrently((thread, round) -> {
+            Lazy<List<Integer>> value = values.get(round);
+            assertEquals(Arrays.asList(round, -round), value.get());
+            assertTrue(value.isLoaded());
+            assertSameInstance(observed, round, value.get());
+        });
+
+        assertCreatedOnce(computed);
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ * Copyright 2017 Ahmad Bawaneh
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.progressoft.brix.domino.gwtjackson;
+
+import com.progressoft.brix.domino.gwtjackson.annotation.GwtIncompatible;
+import com.progressoft.brix.domino.gwtjackson.deser.BaseNumberJsonDeserializer.IntegerJsonDeserializer;
+import com.progressoft.brix.domino.gwtjackson.deser.collection.ListJsonDeserializer;
+import com.progressoft.brix.domino.gwtjackson.deser.map.LinkedHashMapJsonDeserializer;
+import com.progressoft.brix.domino.gwtjackson.deser.map.key.StringKeyDeserializer;
+import com.progressoft.brix.domino.gwtjackson.exception.JsonDeserializationException;
+import junit.framework.TestCase;
+
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+@GwtIncompatible
+public class ObjectReaderBatchTest extends TestCase {
+
+    private static class MapReader extends AbstractObjectReader<Map<String, Integer>> {
+
+        MapReader() {
+            super("Data");
+        }
+
+        @Override
+        protected JsonDeserializer<Map<String, Integer>> newDeserializer() {
+            return (JsonDeserializer) LinkedHashMapJsonDeserializer.newInstance(StringKeyDeserializer.getInstance(),
+                    IntegerJsonDeserializer.getInstance());
+        }
+    }
+
+    private static class IntegerReader extends AbstractObjectReader<Integer> {
+
+        IntegerReader() {
+            super("Data");
+        }
+
+        @Override
+        protected JsonDeserializer<Integer> newDeserializer() {
+            return IntegerJsonDeserializer.getInstance();
+        }
+    }
+
+    private static class ListReader extends AbstractObjectReader<List<Integer>> {
+
+        ListReader() {
+            super("Data");
+        }
+
+        @Override
+        protected JsonDeserializer<List<Integer>> newDeserializer() {
+            return ListJsonDeserializer.newInstance(IntegerJsonDeserializer.getInstance());
+        }
+    }
+
+    private static <T> List<T> readEach(ObjectReader<T> reader, String input) {
+        List<T> result = new ArrayList<T>();
+        reader.readEach(new StringReader(input), result::add);
+        return result;
+    }
+
+    public void testArray() {
+        assertEquals(Arrays.asList(Collections.singletonMap("a", 1), Collections.singletonMap("b", 2)),
+                readEach(new MapReader(), "[{\"a\":1}, {\"b\":2}]"));
+        assertEquals(Collections.emptyList(), readEach(new MapReader(), "[]"));
+    }
+
+    public void testNewlineDelimited() {
+        assertEquals(Arrays.asList(Collections.singletonMap("a", 1), Collections.singletonMap("b", 2)),
+                readEach(new MapReader(), "{\"a\":1}\n{\"b\":2}\n"));
+        assertEquals(Arrays.asList(1, 2, 3), readEach(new IntegerReader(), "1\n2\r\n3"));
+    }
+
+    public void testUnwrapRootValue() {
+        JsonDeserializationContext ctx = DefaultJsonDeserializationContext.builder().unwrapRootValue(true).build();
+        List<Map<String, Integer>> result = new ArrayList<Map<String, Integer>>();
+        new MapReader().readEach(new StringReader("{\"Data\":{\"a\":1}}\n{\"Data\":{\"b\":2}}"), ctx, result::add);
+        assertEquals(Arrays.asList(Collections.singletonMap("a", 1), Collections.singletonMap("b", 2)), result);
+    }
+
+    public void testValuesAreGivenAsSoonAsRead() {
+        List<Integer> result = new ArrayList<Integer>();
+        try {
+            new IntegerReader().readEach(new StringReader("[1, 2, \"x\"]"), result::add);
+            fail();
+        } catch (JsonDeserializationException e) {
+            assertEquals(Arrays.asList(1, 2), result);
+        }
+    }
+
+    public void testReadArray() {
+        JsonDeserializationContext presized = DefaultJsonDeserializationContext.builder().presizeCollections(true).build();
+        StringBuilder input = new StringBuilder("[0");
+        Integer[] expected = new Integer[25];
+        expected[0] = 0;
+        for (int i = 1; i < expected.length; i++) {
+            input.append(',').append(i);
+            expected[i] = i;
+        }
+        input.append(']');
+
+        assertTrue(Arrays.equals(expected, new IntegerReader().readArray(input.toString(), Integer[]::new)));
+        assertTrue(Arrays.equals(expected, new IntegerReader().readArray(input.toString(), presized, Integer[]::new)));
+        assertTrue(Arrays.equals(new Integer[]{1, 2, 3}, new IntegerReader().readArray("1\n2\n3", Integer[]::new)));
+        assertEquals(0, new IntegerReader().readArray("[]", Integer[]::new).length);
+        assertEquals(0, new IntegerReader().readArray("[]", presized, Integer[]::new).length);
+    }
+
+    public void testArraysOfArrays() {
+        assertEquals(Arrays.asList(Arrays.asList(1, 2), Collections.singletonList(3)),
+                readEach(new ListReader(), "[[1, 2], [3]]"));
+        try {
+            // a leading array is the batch, so newline-delimited arrays are read as the elements of the first one
+            readEach(new ListReader(), "[1, 2]\n[3]");
+            fail();
+        } catch (JsonDeserializationException e) {
+            // expected
+        }
+    }
+}
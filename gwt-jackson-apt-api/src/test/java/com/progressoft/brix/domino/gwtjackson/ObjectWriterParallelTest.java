@@ -0,0 +1,173 @@
+/*
+ * Copyright 2017 Ahmad Bawaneh
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.progressoft.brix.domino.gwtjackson;
+
+import com.fasterxml.jackson.annotation.ObjectIdGenerators.IntSequenceGenerator;
+import com.progressoft.brix.domino.gwtjackson.annotation.GwtIncompatible;
+import com.progressoft.brix.domino.gwtjackson.exception.JsonSerializationException;
+import com.progressoft.brix.domino.gwtjackson.ser.BaseNumberJsonSerializer.IntegerJsonSerializer;
+import com.progressoft.brix.domino.gwtjackson.ser.IterableJsonSerializer;
+import com.progressoft.brix.domino.gwtjackson.ser.map.MapJsonSerializer;
+import com.progressoft.brix.domino.gwtjackson.ser.map.key.ToStringKeySerializer;
+import com.progressoft.brix.domino.gwtjackson.stream.JsonWriter;
+import junit.framework.TestCase;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+@GwtIncompatible
+public class ObjectWriterParallelTest extends TestCase {
+
+    private static class MapWriter extends AbstractObjectWriter<Map<String, Integer>> {
+
+        MapWriter() {
+            super("Data");
+        }
+
+        @Override
+        protected JsonSerializer<?> newSerializer() {
+            return MapJsonSerializer.newInstance(ToStringKeySerializer.getInstance(), IntegerJsonSerializer.getInstance());
+        }
+    }
+
+    private static class ListWriter extends AbstractObjectWriter<List<Map<String, Integer>>> {
+
+        ListWriter() {
+            super("Data");
+        }
+
+        @Override
+        protected JsonSerializer<?> newSerializer() {
+            return IterableJsonSerializer.newInstance(MapJsonSerializer.newInstance(ToStringKeySerializer.getInstance(),
+                    IntegerJsonSerializer.getInstance()));
+        }
+    }
+
+    private static List<Map<String, Integer>> values(int size) {
+        List<Map<String, Integer>> values = new ArrayList<Map<String, Integer>>();
+        for (int i = 0; i < size; i++) {
+            Map<String, Integer> value = new LinkedHashMap<String, Integer>();
+            value.put("index", i);
+            value.put("square", i * i);
+            values.add(value);
+        }
+        return values;
+    }
+
+    private static <T> String write(ObjectWriter<T> writer, T value, JsonSerializationContext ctx) {
+        StringBuilder out = new StringBuilder();
+        writer.write(value, out, ctx);
+        assertEquals(writer.write(value, ctx), out.toString());
+        return out.toString();
+    }
+
+    private static String writeParallel(Collection<Map<String, Integer>> values, JsonSerializationContext ctx) {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            StringBuilder out = new StringBuilder();
+            new MapWriter().writeParallel(values, out, ctx, executor);
+            return out.toString();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    public void testSameOutputAsSequential() {
+        for (int size : new int[]{0, 1, 255, 256, 257, 10000}) {
+            List<Map<String, Integer>> values = values(size);
+            String expected = write(new ListWriter(), values, DefaultJsonSerializationContext.builder().build());
+
+            StringBuilder out = new StringBuilder();
+            new MapWriter().writeParallel(values, out);
+            assertEquals(expected, out.toString());
+
+            assertEquals(expected, writeParallel(values, DefaultJsonSerializationContext.builder().build()));
+        }
+    }
+
+    public void testIndent() {
+        JsonSerializationContext ctx = DefaultJsonSerializationContext.builder().indent(true).build();
+        for (int size : new int[]{0, 1, 1000}) {
+            List<Map<String, Integer>> values = values(size);
+            assertEquals(write(new ListWriter(), values, ctx), writeParallel(values, ctx));
+        }
+    }
+
+    public void testWrapRootValueWrapsEachValue() {
+        JsonSerializationContext ctx = DefaultJsonSerializationContext.builder().wrapRootValue(true).build();
+        List<Map<String, Integer>> values = values(300);
+        StringBuilder expected = new StringBuilder("[");
+        for (Map<String, Integer> value : values) {
+            expected.append(expected.length() > 1 ? "," : "").append(write(new MapWriter(), value, ctx));
+        }
+        assertEquals(expected.append(']').toString(), writeParallel(values, ctx));
+    }
+
+    public void testObjectIdentityIsRejected() {
+        AbstractObjectWriter<Integer> writer = new AbstractObjectWriter<Integer>("Data") {
+            @Override
+            protected JsonSerializer<?> newSerializer() {
+                return new JsonSerializer<Integer>() {
+                    @Override
+                    protected void doSerialize(JsonWriter writer, Integer value, JsonSerializationContext ctx,
+                                               JsonSerializerParameters params) {
+                        ctx.addObjectId(value, null);
+                        writer.value(value);
+                    }
+                };
+            }
+        };
+
+        List<Integer> values = new ArrayList<Integer>();
+        for (int i = 0; i < 1000; i++) {
+            values.add(i);
+        }
+        StringBuilder out = new StringBuilder();
+        try {
+            writer.writeParallel(values, out);
+            fail();
+        } catch (JsonSerializationException e) {
+            assertEquals("", out.toString());
+        }
+    }
+
+    public void testSessionWithoutObjectIds() {
+        JsonSerializationContext configuration = DefaultJsonSerializationContext.builder().build();
+        JsonSerializationContext ctx = configuration.newSessionWithoutObjectIds();
+        try {
+            ctx.addObjectId("value", null);
+            fail();
+        } catch (JsonSerializationException e) {
+            assertNull(ctx.getObjectId("value"));
+        }
+        try {
+            ctx.addGenerator(new IntSequenceGenerator());
+            fail();
+        } catch (JsonSerializationException e) {
+            assertNull(ctx.findObjectIdGenerator(new IntSequenceGenerator()));
+        }
+
+        // the other sessions are not affected
+        ctx = configuration.newSession();
+        ctx.addGenerator(new IntSequenceGenerator());
+        assertNotNull(ctx.findObjectIdGenerator(new IntSequenceGenerator()));
+    }
+}
@@ -41,6 +41,7 @@ public class EnumJsonDeserializerTest extends AbstractJsonDeserializerTest<EnumT
         assertDeserialization(EnumTest.TWO, "\"TWO\"");
         assertDeserialization(EnumTest.THREE, "\"THREE\"");
         assertDeserialization(EnumTest.FOUR, "\"FOUR\"");
+        assertDeserialization(EnumTest.ONE, "\"\\u004fNE\"");
         try {
             assertDeserialization(null, "\"UNKNOWN\"");
             fail("IllegalArgumentException should be thrown!");
@@ -0,0 +1,59 @@
+/*
+ * Copyright 2017 Ahmad Bawaneh
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.progressoft.brix.domino.gwtjackson.deser;
+
+import com.progressoft.brix.domino.gwtjackson.DefaultJsonDeserializationContext;
+import com.progressoft.brix.domino.gwtjackson.JsonDeserializationContext;
+import com.progressoft.brix.domino.gwtjackson.JsonDeserializer;
+import com.progressoft.brix.domino.gwtjackson.Lazy;
+import com.progressoft.brix.domino.gwtjackson.deser.collection.ListJsonDeserializer;
+import com.progressoft.brix.domino.gwtjackson.stream.JsonReader;
+
+import java.util.Arrays;
+import java.util.List;
+
+public class LazyJsonDeserializerTest extends AbstractJsonDeserializerTest<Lazy<List<String>>> {
+
+    @Override
+    protected JsonDeserializer<Lazy<List<String>>> createDeserializer() {
+        return LazyJsonDeserializer.newInstance(ListJsonDeserializer.newInstance(StringJsonDeserializer.getInstance()));
+    }
+
+    @Override
+    public void testDeserializeValue() {
+        Lazy<List<String>> value = deserialize("[\"Hello\", \"World\"]");
+        assertFalse(value.isLoaded());
+        assertEquals(Arrays.asList("Hello", "World"), value.get());
+        assertTrue(value.isLoaded());
+        assertSame(value.get(), value.get());
+    }
+
+    public void testValueIsSkipped() {
+        JsonDeserializationContext ctx = DefaultJsonDeserializationContext.builder().build();
+        JsonReader reader = ctx.newJsonReader("[[\"a\", [\"b\"]], 1]");
+        reader.beginArray();
+        Lazy<List<String>> value = createDeserializer().deserialize(reader, ctx);
+        assertEquals(1, reader.nextInt());
+        reader.endArray();
+        assertFalse(value.isLoaded());
+        try {
+            value.get();
+            fail();
+        } catch (Exception e) {
+            // the error is only reported on first access
+        }
+    }
+}
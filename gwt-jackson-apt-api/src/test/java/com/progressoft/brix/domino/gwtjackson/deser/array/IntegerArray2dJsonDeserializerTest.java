@@ -0,0 +1,67 @@
+/*
+ * Copyright 2014 Nicolas Morel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.progressoft.brix.domino.gwtjackson.deser.array;
+
+import com.progressoft.brix.domino.gwtjackson.JsonDeserializer;
+import com.progressoft.brix.domino.gwtjackson.deser.AbstractJsonDeserializerTest;
+import com.progressoft.brix.domino.gwtjackson.deser.array.dd.PrimitiveIntegerArray2dJsonDeserializer;
+import com.progressoft.brix.domino.gwtjackson.exception.JsonDeserializationException;
+
+import java.util.Arrays;
+
+/**
+ * Test 2D int array deserialization.
+ */
+public class IntegerArray2dJsonDeserializerTest extends AbstractJsonDeserializerTest<int[][]> {
+
+    @Override
+    protected JsonDeserializer<int[][]> createDeserializer() {
+        return PrimitiveIntegerArray2dJsonDeserializer.getInstance();
+    }
+
+    @Override
+    public void testDeserializeValue() {
+        assertDeserialization(new int[][]{{1, 2, 3}, {4, 5, 6}}, "[[1,2,3],[4,5,6]]");
+        assertDeserialization(new int[][]{{1, 2, 3}, {4, 0, 0}}, "[[1,2,3],[4,null]]");
+        assertDeserialization(new int[][]{{}, {}}, "[[],[]]");
+        assertDeserialization(new int[0][0], "[]");
+    }
+
+    public void testDeserializeInvalidRows() {
+        // rows are created like new int[rows][columns], the first row gives the length of all the rows
+        assertDeserializationFails("[[1,2],null]");
+        assertDeserializationFails("[null,[1,2]]");
+        assertDeserializationFails("[[1,2],[3,4,5]]");
+        assertDeserializationFails("[[],[1]]");
+    }
+
+    private void assertDeserializationFails(String value) {
+        try {
+            deserialize(value);
+            fail("expected an exception for " + value);
+        } catch (JsonDeserializationException e) {
+            // expected
+        }
+    }
+
+    protected void assertDeserialization(int[][] expected, String value) {
+        int[][] deserialized = deserialize(value);
+        // GwtTestCase has not assert method for arrays of arrays
+        if (!Arrays.deepEquals(expected, deserialized)) {
+            fail("expected: " + Arrays.deepToString(expected) + ", actual: " + Arrays.deepToString(deserialized));
+        }
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright 2014 Nicolas Morel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.progressoft.brix.domino.gwtjackson.deser.array;
+
+import com.progressoft.brix.domino.gwtjackson.JsonDeserializer;
+import com.progressoft.brix.domino.gwtjackson.deser.AbstractJsonDeserializerTest;
+
+import java.util.Arrays;
+
+/**
+ * Test int array deserialization.
+ */
+public class IntegerArrayJsonDeserializerTest extends AbstractJsonDeserializerTest<int[]> {
+
+    @Override
+    protected JsonDeserializer<int[]> createDeserializer() {
+        return PrimitiveIntegerArrayJsonDeserializer.getInstance();
+    }
+
+    @Override
+    public void testDeserializeValue() {
+        assertDeserialization(new int[]{0, 11, -22, Integer.MAX_VALUE, Integer.MIN_VALUE}, "[0,11,-22,2147483647,-2147483648]");
+        assertDeserialization(new int[]{1, 0, 3}, "[1,null,\"3\"]");
+        assertDeserialization(new int[0], "[]");
+    }
+
+    public void testDeserializeLargeArray() {
+        int[] expected = new int[1000];
+        StringBuilder json = new StringBuilder("[");
+        for (int i = 0; i < expected.length; i++) {
+            expected[i] = i * 3;
+            json.append(i > 0 ? "," : "").append(i * 3);
+        }
+        json.append("]");
+        assertDeserialization(expected, json.toString());
+    }
+
+    protected void assertDeserialization(int[] expected, String value) {
+        int[] deserialized = deserialize(value);
+        // GwtTestCase has not assert method for arrays
+        if (!Arrays.equals(expected, deserialized)) {
+            fail("expected: " + Arrays.toString(expected) + ", actual: " + Arrays.toString(deserialized));
+        }
+    }
+}
@@ -0,0 +1,206 @@
+/*
+ * Copyright 2017 Ahmad Bawaneh
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.progressoft.brix.domino.gwtjackson.deser.bean;
+
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.progressoft.brix.domino.gwtjackson.DefaultJsonDeserializationContext;
+import com.progressoft.brix.domino.gwtjackson.JsonDeserializationContext;
+import com.progressoft.brix.domino.gwtjackson.JsonDeserializer;
+import com.progressoft.brix.domino.gwtjackson.JsonDeserializerParameters;
+import com.progressoft.brix.domino.gwtjackson.annotation.GwtIncompatible;
+import com.progressoft.brix.domino.gwtjackson.deser.BaseNumberJsonDeserializer.IntegerJsonDeserializer;
+import com.progressoft.brix.domino.gwtjackson.deser.StringJsonDeserializer;
+import com.progressoft.brix.domino.gwtjackson.deser.collection.ListJsonDeserializer;
+import com.progressoft.brix.domino.gwtjackson.exception.JsonDeserializationException;
+import com.progressoft.brix.domino.gwtjackson.stream.JsonReader;
+import junit.framework.TestCase;
+
+import java.io.StringReader;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.function.Supplier;
+
+/**
+ * Reads a bean whose type info property comes after its other properties, with a deserializer shaped like the ones
+ * generated by the processor. The properties read before the type info are buffered and handed to
+ * {@link InstanceBuilder#newInstance(JsonReader, JsonDeserializationContext, JsonDeserializerParameters, Map, Map)}.
+ */
+@GwtIncompatible
+public class BufferedPropertiesDeserializerTest extends TestCase {
+
+    private static class Bean {
+
+        int id;
+
+        String name;
+
+        List<String> tags;
+    }
+
+    /**
+     * {@link JsMapLike} needs a javascript runtime
+     */
+    private static class HashMapLike<T> implements MapLike<T> {
+
+        private final Map<String, T> map = new HashMap<String, T>();
+
+        @Override
+        public T get(String key) {
+            return map.get(key);
+        }
+
+        @Override
+        public void put(String key, T value) {
+            map.put(key, value);
+        }
+    }
+
+    private static class BeanDeserializer extends AbstractBeanJsonDeserializer<Bean> {
+
+        private Set<String> bufferedNames;
+
+        @Override
+        public Class getDeserializedType() {
+            return Bean.class;
+        }
+
+        @Override
+        protected TypeDeserializationInfo<Bean> initTypeInfo() {
+            return new TypeDeserializationInfo<Bean>(JsonTypeInfo.As.PROPERTY, "@type").addTypeInfo(Bean.class, "bean");
+        }
+
+        @Override
+        protected InstanceBuilder<Bean> initInstanceBuilder() {
+            final MapLike<HasDeserializerAndParameters> deserializers = null;
+            return new InstanceBuilder<Bean>() {
+                @Override
+                public Instance<Bean> newInstance(JsonReader reader, JsonDeserializationContext ctx, JsonDeserializerParameters params,
+                                                  Map<String, Supplier<JsonReader>> bufferedProperties,
+                                                  Map<String, Object> bufferedPropertiesValues) {
+                    bufferedNames = null == bufferedProperties ? Collections.<String>emptySet()
+                            : new TreeSet<String>(bufferedProperties.keySet());
+                    return new Instance<Bean>(create(), bufferedProperties);
+                }
+
+                @Override
+                public MapLike<HasDeserializerAndParameters> getParametersDeserializer() {
+                    return deserializers;
+                }
+
+                private Bean create() {
+                    return new Bean();
+                }
+            };
+        }
+
+        @Override
+        protected MapLike<BackReferenceProperty<Bean, ?>> initBackReferenceDeserializers() {
+            return new HashMapLike<>();
+        }
+
+        @Override
+        protected MapLike<BeanPropertyDeserializer<Bean, ?>> initDeserializers() {
+            MapLike<BeanPropertyDeserializer<Bean, ?>> map = new HashMapLike<>();
+            map.put("id", new BeanPropertyDeserializer<Bean, Integer>() {
+                @Override
+                protected JsonDeserializer<?> newDeserializer() {
+                    return IntegerJsonDeserializer.getInstance();
+                }
+
+                @Override
+                public void setValue(Bean bean, Integer value, JsonDeserializationContext ctx) {
+                    bean.id = value;
+                }
+            });
+            map.put("name", new BeanPropertyDeserializer<Bean, String>() {
+                @Override
+                protected JsonDeserializer<?> newDeserializer() {
+                    return StringJsonDeserializer.getInstance();
+                }
+
+                @Override
+                public void setValue(Bean bean, String value, JsonDeserializationContext ctx) {
+                    bean.name = value;
+                }
+            });
+            map.put("tags", new BeanPropertyDeserializer<Bean, List<String>>() {
+                @Override
+                protected JsonDeserializer<?> newDeserializer() {
+                    return ListJsonDeserializer.newInstance(StringJsonDeserializer.getInstance());
+                }
+
+                @Override
+                public void setValue(Bean bean, List<String> value, JsonDeserializationContext ctx) {
+                    bean.tags = value;
+                }
+            });
+            return map;
+        }
+    }
+
+    private static final String INPUT = "{ \"id\" : 1, \"name\" : \"a \\\"name\\\"\", \"tags\" : [ \"x\", \"y\" ], \"@type\" : \"bean\" }";
+
+    private static List<JsonReader> readers(JsonDeserializationContext ctx, String input) {
+        byte[] bytes = input.getBytes(StandardCharsets.UTF_8);
+        return Arrays.asList(ctx.newJsonReader(input), ctx.newJsonReader(bytes), ctx.newJsonReader(ByteBuffer.wrap(bytes)),
+                ctx.newJsonReader(new StringReader(input)));
+    }
+
+    public void testPropertiesBeforeTypeInfoAreBuffered() {
+        JsonDeserializationContext ctx = DefaultJsonDeserializationContext.builder().build();
+        for (JsonReader reader : readers(ctx, INPUT)) {
+            BeanDeserializer deserializer = new BeanDeserializer();
+            Bean bean = deserializer.deserialize(reader, ctx);
+
+            assertEquals(new TreeSet<String>(Arrays.asList("id", "name", "tags")), deserializer.bufferedNames);
+            assertEquals(1, bean.id);
+            assertEquals("a \"name\"", bean.name);
+            assertEquals(Arrays.asList("x", "y"), bean.tags);
+        }
+    }
+
+    public void testPropertiesAfterTypeInfoAreNotBuffered() {
+        JsonDeserializationContext ctx = DefaultJsonDeserializationContext.builder().build();
+        for (JsonReader reader : readers(ctx, "{\"@type\":\"bean\",\"id\":1,\"name\":\"n\",\"tags\":[]}")) {
+            BeanDeserializer deserializer = new BeanDeserializer();
+            Bean bean = deserializer.deserialize(reader, ctx);
+
+            assertEquals(Collections.<String>emptySet(), deserializer.bufferedNames);
+            assertEquals(1, bean.id);
+            assertEquals("n", bean.name);
+            assertEquals(Collections.<String>emptyList(), bean.tags);
+        }
+    }
+
+    public void testUnknownBufferedProperty() {
+        String input = "{\"unknown\":{\"a\":[1,2]},\"id\":1,\"@type\":\"bean\"}";
+        JsonDeserializationContext ignoring = DefaultJsonDeserializationContext.builder().failOnUnknownProperties(false).build();
+        for (JsonReader reader : readers(ignoring, input)) {
+            assertEquals(1, new BeanDeserializer().deserialize(reader, ignoring).id);
+        }
+
+        JsonDeserializationContext failing = DefaultJsonDeserializationContext.builder().build();
+        for (JsonReader reader : readers(failing, input)) {
+            try {
+                new BeanDeserializer().deserialize(reader, failing);
+                fail();
+            } catch (JsonDeserializationException e) {
+                // unknown property
+            }
+        }
+    }
+}
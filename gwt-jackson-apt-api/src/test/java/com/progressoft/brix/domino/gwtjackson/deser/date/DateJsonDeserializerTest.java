@@ -35,5 +35,7 @@ public class DateJsonDeserializerTest extends AbstractJsonDeserializerTest<Date>
     public void testDeserializeValue() {
         assertDeserialization(new Date(1377543971773l), "1377543971773");
         assertEquals(getUTCDate(2012, 8, 18, 15, 45, 56, 543), deserialize("\"2012-08-18T17:45:56.543+02:00\""));
+        assertEquals(getUTCDate(2012, 8, 18, 15, 45, 56, 543), deserialize("\"2012-08-18T15:45:56.543Z\""));
+        assertEquals(getUTCDate(2012, 8, 18, 15, 45, 56, 543), deserialize("\"2012-08-18T12:15:56.543-0330\""));
     }
 }
@@ -0,0 +1,168 @@
+/*
+ * Copyright 2017 Ahmad Bawaneh
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.progressoft.brix.domino.gwtjackson.ser.bean;
+
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.progressoft.brix.domino.gwtjackson.DefaultJsonSerializationContext;
+import com.progressoft.brix.domino.gwtjackson.JsonSerializationContext;
+import com.progressoft.brix.domino.gwtjackson.JsonSerializer;
+import com.progressoft.brix.domino.gwtjackson.annotation.GwtIncompatible;
+import com.progressoft.brix.domino.gwtjackson.ser.BaseNumberJsonSerializer.IntegerJsonSerializer;
+import com.progressoft.brix.domino.gwtjackson.ser.StringJsonSerializer;
+import com.progressoft.brix.domino.gwtjackson.stream.JsonWriter;
+import junit.framework.TestCase;
+
+/**
+ * Compares a bean serializer shaped like the ones generated by the processor, with a serializePropertiesInline method, to
+ * the same serializer going through its property serializers.
+ */
+@GwtIncompatible
+public class InlinePropertiesSerializerTest extends TestCase {
+
+    private static class Bean {
+
+        int id;
+
+        String name;
+
+        Integer count;
+
+        Bean(int id, String name, Integer count) {
+            this.id = id;
+            this.name = name;
+            this.count = count;
+        }
+    }
+
+    private static class PropertiesSerializer extends AbstractBeanJsonSerializer<Bean> {
+
+        @Override
+        public Class getSerializedType() {
+            return Bean.class;
+        }
+
+        @Override
+        protected BeanPropertySerializer[] initSerializers() {
+            BeanPropertySerializer[] result = new BeanPropertySerializer[3];
+            result[0] = new BeanPropertySerializer<Bean, Integer>("id") {
+                @Override
+                protected JsonSerializer<?> newSerializer() {
+                    return IntegerJsonSerializer.getInstance();
+                }
+
+                @Override
+                public Integer getValue(Bean bean, JsonSerializationContext ctx) {
+                    return bean.id;
+                }
+            };
+            result[1] = new BeanPropertySerializer<Bean, String>("name") {
+                @Override
+                protected JsonSerializer<?> newSerializer() {
+                    return StringJsonSerializer.getInstance();
+                }
+
+                @Override
+                public String getValue(Bean bean, JsonSerializationContext ctx) {
+                    return bean.name;
+                }
+            };
+            result[2] = new BeanPropertySerializer<Bean, Integer>("count") {
+                @Override
+                protected JsonSerializer<?> newSerializer() {
+                    return IntegerJsonSerializer.getInstance();
+                }
+
+                @Override
+                public Integer getValue(Bean bean, JsonSerializationContext ctx) {
+                    return bean.count;
+                }
+            };
+            return result;
+        }
+    }
+
+    /**
+     * Same code as the one generated for the bean
+     */
+    private static class InlineSerializer extends PropertiesSerializer {
+
+        @Override
+        protected boolean serializePropertiesInline(JsonWriter writer, Bean bean, JsonSerializationContext ctx) {
+            writer.rawName(",\"id\":");
+            writer.value(bean.id);
+            String value1 = bean.name;
+            if (null != value1) {
+                writer.rawName(",\"name\":");
+                writer.value(value1);
+            } else if (ctx.isSerializeNulls()) {
+                writer.rawName(",\"name\":");
+                writer.nullValue();
+            }
+            serializeProperty(2, writer, bean, ctx);
+            return true;
+        }
+    }
+
+    private static class TypedInlineSerializer extends InlineSerializer {
+
+        @Override
+        protected TypeSerializationInfo<Bean> initTypeInfo() {
+            return new TypeSerializationInfo<Bean>(JsonTypeInfo.As.PROPERTY, "@type").addTypeInfo(Bean.class, "bean");
+        }
+    }
+
+    private static String serialize(AbstractBeanJsonSerializer<Bean> serializer, Bean bean, JsonSerializationContext ctx) {
+        JsonWriter writer = ctx.newJsonWriter();
+        serializer.serialize(writer, bean, ctx);
+        return writer.getOutput();
+    }
+
+    private static void assertSameOutput(String expected, Bean bean, JsonSerializationContext ctx) {
+        assertEquals(expected, serialize(new PropertiesSerializer(), bean, ctx));
+        assertEquals(expected, serialize(new InlineSerializer(), bean, ctx));
+    }
+
+    public void testValues() {
+        JsonSerializationContext ctx = DefaultJsonSerializationContext.builder().build();
+        assertSameOutput("{\"id\":1,\"name\":\"a \\\"name\\\"\",\"count\":2}", new Bean(1, "a \"name\"", 2), ctx);
+    }
+
+    public void testNulls() {
+        JsonSerializationContext ctx = DefaultJsonSerializationContext.builder().build();
+        assertSameOutput("{\"id\":1,\"name\":null,\"count\":null}", new Bean(1, null, null), ctx);
+    }
+
+    public void testNullsNotSerialized() {
+        JsonSerializationContext ctx = DefaultJsonSerializationContext.builder().serializeNulls(false).build();
+        assertSameOutput("{\"id\":1}", new Bean(1, null, null), ctx);
+        assertSameOutput("{\"id\":1,\"count\":3}", new Bean(1, null, 3), ctx);
+    }
+
+    public void testIndent() {
+        JsonSerializationContext ctx = DefaultJsonSerializationContext.builder().indent(true).build();
+        assertSameOutput("{\n  \"id\": 1,\n  \"name\": \"name\",\n  \"count\": 2\n}", new Bean(1, "name", 2), ctx);
+        assertSameOutput("{\n  \"id\": 1,\n  \"name\": null,\n  \"count\": null\n}", new Bean(1, null, null), ctx);
+    }
+
+    public void testTypeInfoBeforeProperties() {
+        JsonSerializationContext ctx = DefaultJsonSerializationContext.builder().build();
+        assertEquals("{\"@type\":\"bean\",\"id\":1,\"name\":\"name\",\"count\":2}",
+                serialize(new TypedInlineSerializer(), new Bean(1, "name", 2), ctx));
+
+        ctx = DefaultJsonSerializationContext.builder().serializeNulls(false).build();
+        assertEquals("{\"@type\":\"bean\",\"id\":1}", serialize(new TypedInlineSerializer(), new Bean(1, null, null), ctx));
+    }
+}
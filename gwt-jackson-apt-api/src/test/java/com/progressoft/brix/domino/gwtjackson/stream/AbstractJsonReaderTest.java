@@ -21,6 +21,7 @@ import com.progressoft.brix.domino.gwtjackson.exception.JsonDeserializationExcep
 import com.progressoft.brix.domino.gwtjackson.stream.impl.MalformedJsonException;
 import com.progressoft.brix.domino.gwtjackson.stream.impl.StringReader;
 
+import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.util.Arrays;
 import java.util.logging.Logger;
@@ -1638,6 +1639,124 @@ public abstract class AbstractJsonReaderTest extends JacksonTestCase {
         reader.endObject();
     }
 
+    public void testNextNameIndex() {
+        PropertyNameTable table = new PropertyNameTable("id", "name", "caf\u00e9");
+        JsonReader reader = newJsonReader("{\"name\":\"a\",\"other\":1,\"id\":2,\"n\\u0061me\":\"b\",\"caf\u00e9\":3}");
+        reader.beginObject();
+        assertEquals(1, reader.nextNameIndex(table));
+        assertEquals("a", reader.nextString());
+        assertEquals(-1, reader.nextNameIndex(table));
+        assertEquals("other", reader.nextName());
+        assertEquals(1, reader.nextInt());
+        assertEquals(0, reader.nextNameIndex(table));
+        assertEquals(2, reader.nextInt());
+        assertEquals(-1, reader.nextNameIndex(table));
+        assertEquals("name", reader.nextName());
+        assertEquals("b", reader.nextString());
+        int index = reader.nextNameIndex(table);
+        if (index < 0) {
+            assertEquals("caf\u00e9", reader.nextName());
+        } else {
+            assertEquals(2, index);
+        }
+        assertEquals(3, reader.nextInt());
+        reader.endObject();
+        assertEquals(JsonToken.END_DOCUMENT, reader.peek());
+    }
+
+    public void testNextNameIndexLenient() {
+        PropertyNameTable table = new PropertyNameTable("a", "b");
+        JsonReader reader = newJsonReader("{a:1,'b':2}");
+        reader.setLenient(true);
+        reader.beginObject();
+        assertEquals(-1, reader.nextNameIndex(table));
+        assertEquals("a", reader.nextName());
+        assertEquals(1, reader.nextInt());
+        assertEquals(-1, reader.nextNameIndex(table));
+        assertEquals("b", reader.nextName());
+        assertEquals(2, reader.nextInt());
+        reader.endObject();
+    }
+
+    public void testNextNameIndexNotAName() {
+        JsonReader reader = newJsonReader("[1]");
+        reader.beginArray();
+        try {
+            reader.nextNameIndex(new PropertyNameTable("a"));
+            fail();
+        } catch (IllegalStateException expected) {
+        }
+    }
+
+    public void testNextStringIndex() {
+        PropertyNameTable table = new PropertyNameTable("ONE", "TWO");
+        JsonReader reader = newJsonReader("[\"TWO\",\"THREE\",\"\\u004fNE\",1,null,\"ONE\"]");
+        reader.beginArray();
+        assertEquals(1, reader.nextStringIndex(table));
+        assertEquals(-1, reader.nextStringIndex(table));
+        assertEquals("THREE", reader.nextString());
+        assertEquals(-1, reader.nextStringIndex(table));
+        assertEquals("ONE", reader.nextString());
+        assertEquals(-1, reader.nextStringIndex(table));
+        assertEquals(1, reader.nextInt());
+        assertEquals(-1, reader.nextStringIndex(table));
+        reader.nextNull();
+        assertEquals(0, reader.nextStringIndex(table));
+        reader.endArray();
+        assertEquals(JsonToken.END_DOCUMENT, reader.peek());
+    }
+
+    public void testNextFloat() {
+        String[] values = {"0", "-0.0", "1", "1.5", "-2.25", "0.1", "3.4028235E38", "1.4E-45", "16777217", "0.30000001",
+                "1234.5678", "1e10", "1E-10", "2.5e+3", "123456789012345678901234567890", "0.000001", "9999999.0"};
+        StringBuilder json = new StringBuilder("[");
+        for (String value : values) {
+            json.append(value).append(',');
+        }
+        json.append("\"2.5\"]");
+        JsonReader reader = newJsonReader(json.toString());
+        reader.beginArray();
+        for (String value : values) {
+            assertEquals(value, Float.floatToIntBits(Float.parseFloat(value)), Float.floatToIntBits(reader.nextFloat()));
+        }
+        assertEquals(2.5f, reader.nextFloat());
+        reader.endArray();
+        assertEquals(JsonToken.END_DOCUMENT, reader.peek());
+    }
+
+    public void testNextBigDecimal() {
+        String[] values = {"0", "-0", "0.00", "-0.0", "1", "-15", "1.50", "0.0012", "-123.456e-7", "1E+3", "2e3",
+                "999999999999999999", "9999999999999999999", "123456789.123456789012", "1e99999"};
+        StringBuilder json = new StringBuilder("[");
+        for (String value : values) {
+            json.append(value).append(',');
+        }
+        json.append("\"1.25\"]");
+        JsonReader reader = newJsonReader(json.toString());
+        reader.beginArray();
+        for (String value : values) {
+            assertEquals(value, new BigDecimal(value), reader.nextBigDecimal());
+        }
+        assertEquals(new BigDecimal("1.25"), reader.nextBigDecimal());
+        reader.endArray();
+        assertEquals(JsonToken.END_DOCUMENT, reader.peek());
+    }
+
+    public void testNextBigInteger() {
+        JsonReader reader = newJsonReader("[0,-42," + Long.MIN_VALUE + ",123456789012345678901234567890,\"7\",1.5]");
+        reader.beginArray();
+        assertEquals(BigInteger.ZERO, reader.nextBigInteger());
+        assertEquals(BigInteger.valueOf(-42), reader.nextBigInteger());
+        assertEquals(BigInteger.valueOf(Long.MIN_VALUE), reader.nextBigInteger());
+        assertEquals(new BigInteger("123456789012345678901234567890"), reader.nextBigInteger());
+        assertEquals(BigInteger.valueOf(7), reader.nextBigInteger());
+        try {
+            reader.nextBigInteger();
+            fail();
+        } catch (NumberFormatException expected) {
+        }
+    }
+
     public void testNextNumber() {
         JsonReader reader = newJsonReader("[" +
                 "123," +
@@ -372,6 +372,60 @@ public abstract class AbstractJsonWriterTest extends JacksonTestCase {
         assertEquals(expected, jsonWriter.getOutput());
     }
 
+    public void testRawName() {
+        JsonWriter jsonWriter = newJsonWriter();
+        jsonWriter.beginObject();
+        jsonWriter.rawName(",\"a\":").value(1);
+        jsonWriter.unescapeName("b").value("x");
+        jsonWriter.rawName(",\"c\":").beginArray().endArray();
+        jsonWriter.rawName(",\"d\":").nullValue();
+        jsonWriter.endObject();
+        assertEquals("{\"a\":1,\"b\":\"x\",\"c\":[],\"d\":null}", jsonWriter.getOutput());
+    }
+
+    public void testPrettyPrintRawName() {
+        JsonWriter jsonWriter = newJsonWriter();
+        jsonWriter.setIndent("   ");
+        jsonWriter.beginObject();
+        jsonWriter.rawName(",\"a\":").value(1);
+        jsonWriter.rawName(",\"b\":").value(true);
+        jsonWriter.endObject();
+        assertEquals("{\n   \"a\": 1,\n   \"b\": true\n}", jsonWriter.getOutput());
+    }
+
+    public void testRawNameOutsideObject() {
+        JsonWriter jsonWriter = newJsonWriter();
+        jsonWriter.beginArray();
+        try {
+            jsonWriter.rawName(",\"a\":").value(1);
+            fail();
+        } catch (IllegalStateException expected) {
+        }
+    }
+
+    public void testCancelRawName() {
+        JsonWriter jsonWriter = newJsonWriter();
+        jsonWriter.beginObject();
+        jsonWriter.rawName(",\"a\":").cancelName();
+        jsonWriter.rawName(",\"b\":").value(1);
+        jsonWriter.rawName(",\"c\":").cancelName();
+        jsonWriter.setSerializeNulls(false);
+        jsonWriter.rawName(",\"d\":").nullValue();
+        jsonWriter.endObject();
+        assertEquals("{\"b\":1}", jsonWriter.getOutput());
+    }
+
+    public void testRawNameWithoutValue() {
+        JsonWriter jsonWriter = newJsonWriter();
+        jsonWriter.beginObject();
+        jsonWriter.rawName(",\"a\":");
+        try {
+            jsonWriter.endObject();
+            fail();
+        } catch (IllegalStateException expected) {
+        }
+    }
+
     public void testPrettyPrintArray() {
         JsonWriter jsonWriter = newJsonWriter();
         jsonWriter.setIndent("   ");
@@ -510,4 +564,74 @@ public abstract class AbstractJsonWriterTest extends JacksonTestCase {
 
         assertEquals("{\"\"json\"\":\"{\"key\":\"value\"}\"}", jsonWriter.getOutput());
     }
+
+    public void testPrimitiveArrays() {
+        JsonWriter jsonWriter = newJsonWriter();
+        jsonWriter.beginObject();
+        jsonWriter.name("i").value(new int[]{1, -2, Integer.MIN_VALUE}, 0, 3);
+        jsonWriter.name("l").value(new long[]{0, Long.MAX_VALUE, Long.MIN_VALUE, 9}, 1, 2);
+        jsonWriter.name("d").value(new double[]{0.5, -1.25}, 0, 2);
+        jsonWriter.name("e").value(new int[0], 0, 0);
+        jsonWriter.endObject();
+        assertEquals("{\"i\":[1,-2,-2147483648],\"l\":[9223372036854775807,-9223372036854775808],\"d\":[0.5,-1.25],\"e\":[]}",
+                jsonWriter.getOutput());
+    }
+
+    public void testPrimitiveArraysWithIndent() {
+        JsonWriter bulkWriter = newJsonWriter();
+        bulkWriter.setIndent("  ");
+        bulkWriter.beginObject();
+        bulkWriter.name("a").value(new int[]{1, 2, 3}, 0, 3);
+        bulkWriter.endObject();
+
+        JsonWriter jsonWriter = newJsonWriter();
+        jsonWriter.setIndent("  ");
+        jsonWriter.beginObject();
+        jsonWriter.name("a").beginArray().value(1).value(2).value(3).endArray();
+        jsonWriter.endObject();
+
+        assertEquals(jsonWriter.getOutput(), bulkWriter.getOutput());
+    }
+
+    public void testNonFiniteDoubleArray() {
+        JsonWriter jsonWriter = newJsonWriter();
+        jsonWriter.beginArray();
+        try {
+            jsonWriter.value(new double[]{1, Double.NaN}, 0, 2);
+            fail();
+        } catch (IllegalArgumentException expected) {
+        }
+        // nothing is written when a value is rejected
+        jsonWriter.value(2).endArray();
+        assertEquals("[2]", jsonWriter.getOutput());
+    }
+
+    public void testPrimitiveArraysOutOfRange() {
+        JsonWriter jsonWriter = newJsonWriter();
+        jsonWriter.beginObject();
+        int[][] ranges = {{-1, 1}, {0, -1}, {2, 2}, {4, 0}, {1, Integer.MAX_VALUE}};
+        for (int[] range : ranges) {
+            try {
+                jsonWriter.name("i").value(new int[3], range[0], range[1]);
+                fail();
+            } catch (IndexOutOfBoundsException expected) {
+                jsonWriter.cancelName();
+            }
+            try {
+                jsonWriter.name("l").value(new long[3], range[0], range[1]);
+                fail();
+            } catch (IndexOutOfBoundsException expected) {
+                jsonWriter.cancelName();
+            }
+            try {
+                jsonWriter.name("d").value(new double[3], range[0], range[1]);
+                fail();
+            } catch (IndexOutOfBoundsException expected) {
+                jsonWriter.cancelName();
+            }
+        }
+        jsonWriter.name("a").value(new int[3], 3, 0);
+        jsonWriter.endObject();
+        assertEquals("{\"a\":[]}", jsonWriter.getOutput());
+    }
 }
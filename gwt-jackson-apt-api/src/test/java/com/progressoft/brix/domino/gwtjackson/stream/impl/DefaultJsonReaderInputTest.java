@@ -0,0 +1,193 @@
+/*
+ * Copyright 2017 Ahmad Bawaneh
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.progressoft.brix.domino.gwtjackson.stream.impl;
+
+import com.progressoft.brix.domino.gwtjackson.annotation.GwtIncompatible;
+import com.progressoft.brix.domino.gwtjackson.exception.JsonDeserializationException;
+import com.progressoft.brix.domino.gwtjackson.stream.JsonReader;
+import com.progressoft.brix.domino.gwtjackson.stream.JsonToken;
+import junit.framework.TestCase;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.function.Supplier;
+
+@GwtIncompatible
+public class DefaultJsonReaderInputTest extends TestCase {
+
+    /**
+     * Generates an array of {@code count} objects on the fly, without ever holding the whole document.
+     */
+    private static class GeneratedArrayReader extends Reader {
+
+        private final int count;
+        private int index = -1;
+        private String chunk = "[";
+        private int chunkPos;
+        private boolean closed;
+
+        GeneratedArrayReader(int count) {
+            this.count = count;
+        }
+
+        @Override
+        public int read(char[] cbuf, int off, int len) {
+            if (chunkPos == chunk.length()) {
+                index++;
+                if (index > count) {
+                    return -1;
+                } else if (index == count) {
+                    chunk = "]";
+                } else {
+                    chunk = (index > 0 ? "," : "") + "{\"id\":" + index + ",\"name\":\"item-" + index + "\"}";
+                }
+                chunkPos = 0;
+            }
+            int n = Math.min(len, chunk.length() - chunkPos);
+            chunk.getChars(chunkPos, chunkPos + n, cbuf, off);
+            chunkPos += n;
+            return n;
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+        }
+    }
+
+    public void testReadGeneratedDocument() {
+        GeneratedArrayReader in = new GeneratedArrayReader(100000);
+        JsonReader reader = new DefaultJsonReader(in, 64);
+        reader.beginArray();
+        int count = 0;
+        while (reader.hasNext()) {
+            reader.beginObject();
+            assertEquals("id", reader.nextName());
+            assertEquals(count, reader.nextInt());
+            assertEquals("name", reader.nextName());
+            assertEquals("item-" + count, reader.nextString());
+            reader.endObject();
+            count++;
+        }
+        reader.endArray();
+        assertEquals(100000, count);
+        assertEquals(JsonToken.END_DOCUMENT, reader.peek());
+        assertTrue(reader.getInput().length() <= 64);
+
+        reader.close();
+        assertTrue(in.closed);
+    }
+
+    public void testStringLongerThanBuffer() {
+        StringBuilder value = new StringBuilder();
+        for (int i = 0; i < 1000; i++) {
+            value.append("abcé\\n");
+        }
+        JsonReader reader = new DefaultJsonReader(new java.io.StringReader("[\"" + value + "\"]"), 32);
+        reader.beginArray();
+        assertEquals(value.toString().replace("\\n", "\n"), reader.nextString());
+        reader.endArray();
+    }
+
+    public void testNextValue() {
+        JsonReader reader = new DefaultJsonReader(new java.io.StringReader("{\"a\":{\"b\" : [1, 'x\"', {}, true, null]},\"c\":12}"), 32);
+        reader.setLenient(true);
+        reader.beginObject();
+        assertEquals("a", reader.nextName());
+        assertEquals("{\"b\":[1,\"x\\\"\",{},true,null]}", reader.nextValue());
+        assertEquals("c", reader.nextName());
+        assertEquals("12", reader.nextValue());
+        reader.endObject();
+    }
+
+    public void testReadFailure() {
+        JsonReader reader = new DefaultJsonReader(new Reader() {
+            @Override
+            public int read(char[] cbuf, int off, int len) throws IOException {
+                throw new IOException("broken");
+            }
+
+            @Override
+            public void close() {
+            }
+        });
+        try {
+            reader.peek();
+            fail();
+        } catch (JsonDeserializationException e) {
+            assertEquals("broken", e.getCause().getMessage());
+        }
+    }
+
+    public void testStringInput() {
+        DefaultJsonReader reader = new DefaultJsonReader("\ufeff[123, {\"a\":[1, [2, 3], \"x,]\"]}]");
+        assertEquals(2, reader.peekLength());
+        reader.beginArray();
+        assertEquals(JsonToken.NUMBER, reader.peek());
+        assertEquals(123, reader.nextInt());
+        reader.beginObject();
+        assertEquals("a", reader.nextName());
+        assertEquals(3, reader.peekLength());
+        Supplier<JsonReader> value = reader.nextValueReader();
+        reader.endObject();
+        reader.endArray();
+
+        // the value is still readable once the buffer is reused for another input
+        reader.reset("{\"b\":[true]}");
+        reader.beginObject();
+        assertEquals("b", reader.nextName());
+        assertEquals("[true]", reader.nextValue());
+        reader.endObject();
+        assertEquals(JsonToken.END_DOCUMENT, reader.peek());
+
+        JsonReader valueReader = value.get();
+        assertEquals("[1,[2,3],\"x,]\"]", valueReader.nextValue());
+        assertEquals(JsonToken.END_DOCUMENT, valueReader.peek());
+    }
+
+    public void testTopLevelNumberString() {
+        JsonReader reader = new DefaultJsonReader("-123456789012");
+        reader.setLenient(true);
+        assertEquals(JsonToken.NUMBER, reader.peek());
+        assertEquals(-123456789012L, reader.nextLong());
+        assertEquals(JsonToken.END_DOCUMENT, reader.peek());
+    }
+
+    public void testPooledReader() {
+        JsonStreamPool pool = JsonStreamPool.get();
+        JsonReader reader = pool.obtainReader("[1]");
+        JsonReader nested = pool.obtainReader("2");
+        assertNotSame(reader, nested);
+        assertTrue(reader instanceof DefaultJsonReader);
+        pool.releaseReader(nested);
+        pool.releaseReader(reader);
+        assertSame(reader, pool.obtainReader("[3]"));
+        reader.beginArray();
+        assertEquals(3, reader.nextInt());
+        reader.endArray();
+        pool.releaseReader(reader);
+
+        // a reader holding a big input is not kept
+        StringBuilder big = new StringBuilder("[");
+        for (int i = 0; i < 100000; i++) {
+            big.append(i % 10).append(',');
+        }
+        JsonReader bigReader = pool.obtainReader(big.append("0]").toString());
+        assertSame(reader, bigReader);
+        pool.releaseReader(bigReader);
+        assertNotSame(bigReader, pool.obtainReader("[]"));
+    }
+}
@@ -0,0 +1,258 @@
+/*
+ * Copyright 2017 Ahmad Bawaneh
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.progressoft.brix.domino.gwtjackson.stream.impl;
+
+import com.progressoft.brix.domino.gwtjackson.annotation.GwtIncompatible;
+import com.progressoft.brix.domino.gwtjackson.exception.JsonSerializationException;
+import com.progressoft.brix.domino.gwtjackson.stream.JsonWriter;
+import junit.framework.TestCase;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+@GwtIncompatible
+public class DefaultJsonWriterOutputTest extends TestCase {
+
+    private static class TrackingWriter extends StringWriter {
+
+        private int flushes;
+        private boolean closed;
+
+        @Override
+        public void flush() {
+            flushes++;
+            super.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            closed = true;
+            super.close();
+        }
+    }
+
+    public void testSmallBufferFlushesToSink() {
+        StringWriter out = new StringWriter();
+        JsonWriter writer = new DefaultJsonWriter(out, 32);
+        writer.beginArray();
+        StringBuilder expected = new StringBuilder("[");
+        for (int i = 0; i < 1000; i++) {
+            writer.beginObject().name("id").value(i).name("name").value("item-" + i).endObject();
+            if (i > 0) {
+                expected.append(',');
+            }
+            expected.append("{\"id\":").append(i).append(",\"name\":\"item-").append(i).append("\"}");
+        }
+        writer.endArray();
+        expected.append(']');
+
+        assertTrue(out.getBuffer().length() > 0);
+        writer.flush();
+        assertEquals(expected.toString(), out.toString());
+        assertEquals("", writer.getOutput());
+    }
+
+    public void testStringLongerThanBuffer() {
+        StringBuilder value = new StringBuilder();
+        for (int i = 0; i < 200; i++) {
+            value.append(i % 10);
+        }
+        value.append("\"\n");
+
+        StringWriter out = new StringWriter();
+        JsonWriter writer = new DefaultJsonWriter(out, 32);
+        writer.beginArray().value(value.toString()).value("\u2028").endArray();
+        writer.flush();
+        assertEquals("[\"" + value.substring(0, 200) + "\\\"\\n\",\"\\u2028\"]", out.toString());
+    }
+
+    public void testUtf8OutputStream() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        JsonWriter writer = new DefaultJsonWriter(out);
+        writer.beginObject().name("name").value("h\u00e9llo \u20ac").endObject();
+        writer.flush();
+        assertEquals("{\"name\":\"h\u00e9llo \u20ac\"}", new String(out.toByteArray(), StandardCharsets.UTF_8));
+    }
+
+    public void testAppendableSink() {
+        StringBuilder out = new StringBuilder();
+        JsonWriter writer = new DefaultJsonWriter(out, 32);
+        writer.setIndent("  ");
+        writer.beginObject().name("a").value(true).name("b").nullValue().endObject();
+        writer.flush();
+        assertEquals("{\n  \"a\": true,\n  \"b\": null\n}", out.toString());
+    }
+
+    public void testFlushAndCloseDoNotCloseSink() {
+        TrackingWriter out = new TrackingWriter();
+        JsonWriter writer = new DefaultJsonWriter(out);
+        writer.beginArray().value(1).endArray();
+        assertEquals("", out.toString());
+        writer.flush();
+        assertEquals("[1]", out.toString());
+        assertEquals(1, out.flushes);
+        writer.close();
+        assertFalse(out.closed);
+    }
+
+    public void testIOExceptionIsWrapped() {
+        Writer out = new Writer() {
+            @Override
+            public void write(char[] cbuf, int off, int len) throws IOException {
+                throw new IOException("disk full");
+            }
+
+            @Override
+            public void flush() {
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+        JsonWriter writer = new DefaultJsonWriter(out, 32);
+        writer.beginArray().value("x").endArray();
+        try {
+            writer.flush();
+            fail();
+        } catch (JsonSerializationException e) {
+            assertTrue(e.getCause() instanceof IOException);
+        }
+    }
+
+    public void testNumbersAcrossBufferBoundary() {
+        StringWriter out = new StringWriter();
+        JsonWriter writer = new DefaultJsonWriter(out, 32);
+        long[] values = {Long.MIN_VALUE, Long.MAX_VALUE, -1, 0, 1234567890123L, Long.MIN_VALUE};
+        StringBuilder expected = new StringBuilder("[");
+        writer.beginArray();
+        for (int i = 0; i < 50; i++) {
+            writer.value(values, 0, values.length);
+            writer.value(values[i % values.length]);
+            expected.append(i > 0 ? "," : "").append(Arrays.toString(values).replace(" ", "")).append(',').append(values[i % values.length]);
+        }
+        writer.endArray();
+        writer.flush();
+        assertEquals(expected.append(']').toString(), out.toString());
+    }
+
+    private static String escape(String value) {
+        StringBuilder expected = new StringBuilder();
+        for (char c : value.toCharArray()) {
+            if (c == '"' || c == '\\') {
+                expected.append('\\').append(c);
+            } else if (c == '\n') {
+                expected.append("\\n");
+            } else if (c < 0x20 || c == '\u2028' || c == '\u2029') {
+                expected.append(String.format("\\u%04x", (int) c));
+            } else {
+                expected.append(c);
+            }
+        }
+        return expected.toString();
+    }
+
+    public void testEscapeAtEveryPosition() {
+        char[] special = {'"', '\\', '\n', '\u0000', '\u001f', '\u2028', '\u2029'};
+        char[] plain = {'a', ' ', '\u007f', '\u0080', '\u00e9', '\u2027', '\u202a', '\uffff'};
+        for (int length = 0; length < 12; length++) {
+            for (int position = 0; position < length; position++) {
+                for (char c : special) {
+                    for (char p : plain) {
+                        StringBuilder value = new StringBuilder();
+                        for (int i = 0; i < length; i++) {
+                            value.append(i == position ? c : p);
+                        }
+                        value.append(p);
+
+                        StringWriter out = new StringWriter();
+                        JsonWriter writer = new DefaultJsonWriter(out, 32);
+                        writer.beginArray().value(value.toString()).endArray();
+                        writer.flush();
+                        String expected = escape(value.toString());
+                        assertEquals("[\"" + expected + "\"]", out.toString());
+                        assertEquals(expected, DefaultJsonWriter.encodeString(value.toString()));
+                    }
+                }
+            }
+        }
+    }
+
+    public void testNumbersWithTinyBuffer() {
+        StringWriter out = new StringWriter();
+        JsonWriter writer = new DefaultJsonWriter(out, 4);
+        writer.beginArray().value(Long.MAX_VALUE).value(-12345L).value(new long[]{Long.MIN_VALUE, 7}, 0, 2).endArray();
+        writer.flush();
+        assertEquals("[9223372036854775807,-12345,[-9223372036854775808,7]]", out.toString());
+    }
+
+    public void testStringBuilderOutput() {
+        StringBuilder out = new StringBuilder();
+        DefaultJsonWriter writer = new DefaultJsonWriter(out, 32);
+        writer.beginArray();
+        for (int i = 0; i < 100; i++) {
+            writer.value(i);
+        }
+        writer.endArray();
+        String output = writer.getOutput();
+        assertTrue(output.startsWith("[0,1,2,"));
+        assertTrue(output.endsWith(",98,99]"));
+
+        writer.reset();
+        assertEquals("", writer.getOutput());
+        assertEquals(0, out.length());
+        writer.beginObject().name("a").value(true).endObject();
+        writer.close();
+        assertEquals("{\"a\":true}", writer.getOutput());
+    }
+
+    public void testNativeValueOutsideOfTheBrowser() {
+        StringWriter out = new StringWriter();
+        JsonWriter writer = new DefaultJsonWriter(out, 32);
+        writer.beginArray().value((Object) 1).value((Object) true).value((Object) "a\"b");
+        try {
+            writer.value(new Object());
+            fail();
+        } catch (IllegalArgumentException expected) {
+        }
+        writer.endArray();
+        writer.flush();
+        assertEquals("[1,true,\"a\\\"b\"]", out.toString());
+    }
+
+    public void testPooledWriter() {
+        JsonStreamPool pool = JsonStreamPool.get();
+        JsonWriter writer = pool.obtainWriter();
+        JsonWriter nested = pool.obtainWriter();
+        assertNotSame(writer, nested);
+        assertTrue(writer instanceof DefaultJsonWriter);
+        pool.releaseWriter(nested);
+        writer.beginArray().endArray();
+        assertEquals("[]", writer.getOutput());
+        pool.releaseWriter(writer);
+        assertSame(writer, pool.obtainWriter());
+        assertEquals("", writer.getOutput());
+
+        // a writer that does not write to a StringBuilder is not kept
+        pool.releaseWriter(writer);
+        pool.releaseWriter(new DefaultJsonWriter(new StringWriter()));
+        assertSame(writer, pool.obtainWriter());
+    }
+}
@@ -28,4 +28,30 @@ public class FastJsonWriterTest extends AbstractJsonWriterTest {
     public JsonWriter newJsonWriter() {
         return new FastJsonWriter(new StringBuilder());
     }
+
+    public void testReset() {
+        FastJsonWriter writer = new FastJsonWriter(new StringBuilder());
+        writer.setIndent("  ");
+        writer.beginObject().name("a");
+        writer.reset();
+        writer.beginArray().value(1).endArray();
+        assertEquals("[\n  1\n]", writer.getOutput());
+        writer.reset();
+        writer.beginObject().name("b").value(true).endObject();
+        writer.close();
+        assertEquals("{\n  \"b\": true\n}", writer.getOutput());
+    }
+
+    public void testPooledWriter() {
+        JsonStreamPool pool = JsonStreamPool.get();
+        JsonWriter writer = pool.obtainWriter();
+        JsonWriter nested = pool.obtainWriter();
+        assertNotSame(writer, nested);
+        pool.releaseWriter(nested);
+        writer.beginArray().endArray();
+        assertEquals("[]", writer.getOutput());
+        pool.releaseWriter(writer);
+        assertSame(writer, pool.obtainWriter());
+        assertEquals("", writer.getOutput());
+    }
 }
@@ -18,6 +18,9 @@ package com.progressoft.brix.domino.gwtjackson.stream.impl;
 
 import com.progressoft.brix.domino.gwtjackson.stream.AbstractJsonReaderTest;
 import com.progressoft.brix.domino.gwtjackson.stream.JsonReader;
+import com.progressoft.brix.domino.gwtjackson.stream.JsonToken;
+
+import java.util.function.Supplier;
 
 /**
  * @author Nicolas Morel
@@ -28,4 +31,81 @@ public class NonBufferedJsonReaderTest extends AbstractJsonReaderTest {
     public JsonReader newJsonReader(String input) {
         return new NonBufferedJsonReader(input);
     }
+
+    public void testPeekLength() {
+        JsonReader reader = newJsonReader("{\"a\":[1, [2, 3], {\"b\": \"x,]\\\"\"}, \"y\"],\"c\":[ ],\"d\":{}}");
+        assertEquals(3, reader.peekLength());
+        reader.beginObject();
+        assertEquals("a", reader.nextName());
+        assertEquals(4, reader.peekLength());
+        reader.beginArray();
+        assertEquals(-1, reader.peekLength());
+        assertEquals(1, reader.nextInt());
+        assertEquals(2, reader.peekLength());
+        reader.skipValue();
+        assertEquals(1, reader.peekLength());
+        reader.skipValue();
+        assertEquals("y", reader.nextString());
+        reader.endArray();
+        assertEquals("c", reader.nextName());
+        assertEquals(0, reader.peekLength());
+        reader.skipValue();
+        assertEquals("d", reader.nextName());
+        assertEquals(0, reader.peekLength());
+        reader.skipValue();
+        reader.endObject();
+        assertEquals(JsonToken.END_DOCUMENT, reader.peek());
+    }
+
+    public void testNextValueReader() {
+        JsonReader reader = newJsonReader("[{\"a\":[1,\"]\"]},[],3,1.25,\"x\",null]");
+        reader.beginArray();
+        Supplier<JsonReader> object = reader.nextValueReader();
+        Supplier<JsonReader> array = reader.nextValueReader();
+        Supplier<JsonReader> integer = reader.nextValueReader();
+        Supplier<JsonReader> number = reader.nextValueReader();
+        Supplier<JsonReader> string = reader.nextValueReader();
+        assertNull(reader.nextValueReader());
+        reader.nextNull();
+        reader.endArray();
+
+        assertEquals(3, integer.get().nextInt());
+        assertEquals(1.25, number.get().nextDouble());
+        assertEquals("x", string.get().nextString());
+
+        JsonReader objectReader = object.get();
+        assertEquals("{\"a\":[1,\"]\"]}", objectReader.nextValue());
+        assertEquals(JsonToken.END_DOCUMENT, objectReader.peek());
+        JsonReader arrayReader = array.get();
+        arrayReader.beginArray();
+        arrayReader.endArray();
+        assertEquals(JsonToken.END_DOCUMENT, arrayReader.peek());
+    }
+
+    public void testReset() {
+        NonBufferedJsonReader reader = new NonBufferedJsonReader("{\"a\":[1,");
+        reader.beginObject();
+        assertEquals("a", reader.nextName());
+        reader.beginArray();
+        reader.reset("[\n\"b\"]");
+        reader.beginArray();
+        assertEquals("b", reader.nextString());
+        assertEquals(2, reader.getLineNumber());
+        reader.endArray();
+        assertEquals(JsonToken.END_DOCUMENT, reader.peek());
+        assertEquals("[\n\"b\"]", reader.getInput());
+    }
+
+    public void testPooledReader() {
+        JsonStreamPool pool = JsonStreamPool.get();
+        JsonReader reader = pool.obtainReader("1");
+        JsonReader nested = pool.obtainReader("2");
+        assertNotSame(reader, nested);
+        pool.releaseReader(nested);
+        pool.releaseReader(reader);
+        assertSame(reader, pool.obtainReader("[3]"));
+        reader.beginArray();
+        assertEquals(3, reader.nextInt());
+        reader.endArray();
+    }
 }
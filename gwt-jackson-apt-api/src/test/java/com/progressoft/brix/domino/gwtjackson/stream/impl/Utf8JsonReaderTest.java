@@ -0,0 +1,215 @@
+/*
+ * Copyright 2017 Ahmad Bawaneh
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.progressoft.brix.domino.gwtjackson.stream.impl;
+
+import com.progressoft.brix.domino.gwtjackson.annotation.GwtIncompatible;
+import com.progressoft.brix.domino.gwtjackson.stream.JsonReader;
+import com.progressoft.brix.domino.gwtjackson.stream.JsonToken;
+import junit.framework.TestCase;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.function.Supplier;
+
+@GwtIncompatible
+public class Utf8JsonReaderTest extends TestCase {
+
+    private static byte[] utf8(String input) {
+        return input.getBytes(StandardCharsets.UTF_8);
+    }
+
+    public void testReadObject() {
+        JsonReader reader = new Utf8JsonReader(utf8("{\"a\":\"hello\",\"b\":[1,2.5,true,null],\"c\":-9223372036854775808}"));
+        reader.beginObject();
+        assertEquals("a", reader.nextName());
+        assertEquals("hello", reader.nextString());
+        assertEquals("b", reader.nextName());
+        reader.beginArray();
+        assertEquals(1, reader.nextInt());
+        assertEquals(2.5, reader.nextDouble());
+        assertTrue(reader.nextBoolean());
+        reader.nextNull();
+        reader.endArray();
+        assertEquals("c", reader.nextName());
+        assertEquals(Long.MIN_VALUE, reader.nextLong());
+        reader.endObject();
+        assertEquals(JsonToken.END_DOCUMENT, reader.peek());
+    }
+
+    public void testMultiBytesCharacters() {
+        JsonReader reader = new Utf8JsonReader(utf8("{\"prénom\":\"Ahmad é中😀\",\"escaped\":\"\\u00e9\\nà\"}"));
+        reader.beginObject();
+        assertEquals("prénom", reader.nextName());
+        assertEquals("Ahmad é中😀", reader.nextString());
+        assertEquals("escaped", reader.nextName());
+        assertEquals("é\nà", reader.nextString());
+        reader.endObject();
+    }
+
+    public void testPeekLength() {
+        JsonReader reader = new Utf8JsonReader(utf8("[\"\u00e9,\", {\"a\":[1,2]}, [], 3]"));
+        assertEquals(4, reader.peekLength());
+        reader.beginArray();
+        assertEquals("\u00e9,", reader.nextString());
+        assertEquals(1, reader.peekLength());
+        reader.skipValue();
+        assertEquals(0, reader.peekLength());
+        reader.skipValue();
+        assertEquals(-1, reader.peekLength());
+        assertEquals(3, reader.nextInt());
+        reader.endArray();
+
+        reader = new Utf8JsonReader(utf8("[1,2"));
+        assertEquals(-1, reader.peekLength());
+    }
+
+    public void testNextValueReader() {
+        JsonReader reader = new Utf8JsonReader(utf8("{\"a\":{\"b\":[1,\"\u00e9}\"]},\"c\":-25,\"d\":\"1.5e3\",\"e\":true}"));
+        reader.beginObject();
+        assertEquals("a", reader.nextName());
+        Supplier<JsonReader> value = reader.nextValueReader();
+        assertNotNull(value);
+        assertEquals("c", reader.nextName());
+        Supplier<JsonReader> number = reader.nextValueReader();
+        assertEquals("d", reader.nextName());
+        Supplier<JsonReader> string = reader.nextValueReader();
+        assertEquals("e", reader.nextName());
+        assertNull(reader.nextValueReader());
+        assertTrue(reader.nextBoolean());
+        reader.endObject();
+
+        assertEquals(-25, number.get().nextInt());
+        assertEquals(1.5e3, string.get().nextDouble());
+
+        for (int i = 0; i < 2; i++) {
+            JsonReader valueReader = value.get();
+            valueReader.beginObject();
+            assertEquals("b", valueReader.nextName());
+            valueReader.beginArray();
+            assertEquals(1, valueReader.nextInt());
+            assertEquals("\u00e9}", valueReader.nextString());
+            valueReader.endArray();
+            valueReader.endObject();
+            assertEquals(JsonToken.END_DOCUMENT, valueReader.peek());
+        }
+    }
+
+    public void testNextValueReaderOutlivesTheInput() {
+        for (boolean buffer : new boolean[]{false, true}) {
+            byte[] json = utf8("{\"a\":[\"x\",1]}");
+            JsonReader reader = buffer ? new Utf8JsonReader(ByteBuffer.wrap(json)) : new Utf8JsonReader(json);
+            reader.beginObject();
+            assertEquals("a", reader.nextName());
+            Supplier<JsonReader> value = reader.nextValueReader();
+            reader.endObject();
+
+            // the caller reuses its array for the next input
+            Arrays.fill(json, (byte) ' ');
+
+            JsonReader valueReader = value.get();
+            valueReader.beginArray();
+            assertEquals("x", valueReader.nextString());
+            assertEquals(1, valueReader.nextInt());
+            valueReader.endArray();
+        }
+    }
+
+    public void testByteOrderMark() {
+        byte[] json = utf8("\ufeff[\"a\"]");
+        assertEquals((byte) 0xEF, json[0]);
+        JsonReader reader = new Utf8JsonReader(json);
+        reader.beginArray();
+        assertEquals("a", reader.nextString());
+        reader.endArray();
+    }
+
+    public void testMalformedBytes() {
+        byte[] json = utf8("[\"x?y\", 12?]");
+        json[3] = (byte) 0xFF;
+        json[10] = (byte) 0xE9;
+        JsonReader reader = new Utf8JsonReader(json);
+        reader.setLenient(true);
+        reader.beginArray();
+        assertEquals("x\ufffdy", reader.nextString());
+        // a byte above 0x7F is never read as an ASCII character of a number
+        assertEquals(JsonToken.STRING, reader.peek());
+        assertEquals("12\ufffd", reader.nextString());
+        reader.endArray();
+    }
+
+    public void testOffsetAndLength() {
+        byte[] json = utf8("xx[1,\"é\"]yy");
+        JsonReader reader = new Utf8JsonReader(json, 2, json.length - 4);
+        reader.beginArray();
+        assertEquals(1, reader.nextInt());
+        assertEquals("é", reader.nextString());
+        reader.endArray();
+        assertEquals(JsonToken.END_DOCUMENT, reader.peek());
+        assertEquals("[1,\"é\"]", reader.getInput());
+    }
+
+    public void testHeapAndDirectByteBuffer() {
+        byte[] json = utf8("  {\"a\":\"é\"}");
+        ByteBuffer heap = ByteBuffer.wrap(json);
+        heap.position(2);
+        ByteBuffer direct = ByteBuffer.allocateDirect(json.length);
+        direct.put(json).flip();
+        direct.position(2);
+
+        for (ByteBuffer buffer : new ByteBuffer[]{heap, direct}) {
+            JsonReader reader = new Utf8JsonReader(buffer);
+            reader.beginObject();
+            assertEquals("a", reader.nextName());
+            assertEquals("é", reader.nextString());
+            reader.endObject();
+            assertEquals(2, buffer.position());
+        }
+    }
+
+    public void testDeepNesting() {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < 100; i++) {
+            builder.append('[');
+        }
+        for (int i = 0; i < 100; i++) {
+            builder.append(']');
+        }
+        JsonReader reader = new Utf8JsonReader(utf8(builder.toString()));
+        for (int i = 0; i < 100; i++) {
+            reader.beginArray();
+        }
+        for (int i = 0; i < 100; i++) {
+            reader.endArray();
+        }
+        assertEquals(JsonToken.END_DOCUMENT, reader.peek());
+    }
+
+    public void testNextValue() {
+        JsonReader reader = new Utf8JsonReader(utf8("{\"a\":{\"b\":[1,\"é\",{}]},\"c\":12,\"d\":\"x\",\"e\":null}"));
+        reader.setLenient(true);
+        reader.beginObject();
+        assertEquals("a", reader.nextName());
+        assertEquals("{\"b\":[1,\"é\",{}]}", reader.nextValue());
+        assertEquals("c", reader.nextName());
+        assertEquals("12", reader.nextValue());
+        assertEquals("d", reader.nextName());
+        assertEquals("\"x\"", reader.nextValue());
+        assertEquals("e", reader.nextName());
+        assertEquals("null", reader.nextValue());
+        reader.endObject();
+    }
+}
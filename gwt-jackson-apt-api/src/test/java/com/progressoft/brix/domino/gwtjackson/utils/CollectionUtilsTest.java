@@ -0,0 +1,33 @@
+/*
+ * Copyright 2017 Ahmad Bawaneh
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.progressoft.brix.domino.gwtjackson.utils;
+
+import com.progressoft.brix.domino.gwtjackson.annotation.GwtIncompatible;
+import junit.framework.TestCase;
+
+@GwtIncompatible
+public class CollectionUtilsTest extends TestCase {
+
+    public void testHashCapacityHoldsTheExpectedSizeWithoutRehashing() {
+        for (int expectedSize = 0; expectedSize < 10000; expectedSize++) {
+            int capacity = CollectionUtils.hashCapacity(expectedSize);
+            assertTrue(capacity > 0);
+            // HashMap rounds the capacity up to a power of two and rehashes once its size exceeds three quarters of it
+            int table = Integer.highestOneBit(capacity - 1 > 0 ? (capacity - 1) << 1 : 1);
+            assertTrue("size " + expectedSize, expectedSize <= table * 0.75f);
+        }
+    }
+}
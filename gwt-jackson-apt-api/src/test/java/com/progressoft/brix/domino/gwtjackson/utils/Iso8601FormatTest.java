@@ -0,0 +1,102 @@
+/*
+ * Copyright 2017 Ahmad Bawaneh
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.progressoft.brix.domino.gwtjackson.utils;
+
+import com.progressoft.brix.domino.gwtjackson.annotation.GwtIncompatible;
+import junit.framework.TestCase;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.Random;
+
+@GwtIncompatible
+public class Iso8601FormatTest extends TestCase {
+
+    private static final DateTimeFormatter ISO_8601 = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss.SSSZ")
+            .withZone(ZoneOffset.UTC);
+
+    private static void assertFormat(long millis) {
+        assertEquals(ISO_8601.format(Instant.ofEpochMilli(millis)), Iso8601Format.formatUtc(millis));
+    }
+
+    public void testFormatUtc() {
+        assertEquals("2012-08-18T15:45:56.543+0000", Iso8601Format.formatUtc(1345304756543L));
+        assertEquals("1970-01-01T00:00:00.000+0000", Iso8601Format.formatUtc(0));
+        assertEquals("1969-12-31T23:59:59.999+0000", Iso8601Format.formatUtc(-1));
+        assertEquals("2000-02-29T12:00:00.007+0000", Iso8601Format.formatUtc(951825600007L));
+    }
+
+    public void testRange() {
+        assertFormat(-62135596800000L);
+        assertFormat(253402300799999L);
+        assertNull(Iso8601Format.formatUtc(-62135596800001L));
+        assertNull(Iso8601Format.formatUtc(253402300800000L));
+    }
+
+    public void testRandomDates() {
+        Random random = new Random(42);
+        for (int i = 0; i < 100000; i++) {
+            assertFormat(-62135596800000L + (long) (random.nextDouble() * (253402300800000L + 62135596800000L)));
+        }
+    }
+
+    public void testParseUtc() {
+        assertEquals(1345304756543L, Iso8601Format.parseUtc("2012-08-18T15:45:56.543+0000"));
+        assertEquals(1345304756543L, Iso8601Format.parseUtc("2012-08-18T15:45:56.543Z"));
+        assertEquals(1345304756543L, Iso8601Format.parseUtc("2012-08-18T17:45:56.543+02:00"));
+        assertEquals(1345304756543L, Iso8601Format.parseUtc("2012-08-18T12:15:56.543-0330"));
+        assertEquals(-62135596800000L, Iso8601Format.parseUtc("0001-01-01T00:00:00.000Z"));
+        assertEquals(253402300799999L, Iso8601Format.parseUtc("9999-12-31T23:59:59.999Z"));
+    }
+
+    public void testParseUtcLeftToDateTimeFormat() {
+        String[] dates = {"", "2012-08-18", "2012-08-18T15:45:56Z", "2012-08-18T15:45:56.543", "2012-08-18T15:45:56.543+02",
+                "2012-08-18T15:45:56.543 +0000", "2012-08-18T15:45:56.543GMT", "2012-08-18T15:45:56.543+0000 ",
+                "2012-13-18T15:45:56.543Z", "2012-02-30T15:45:56.543Z", "2011-02-29T15:45:56.543Z", "0000-01-01T00:00:00.000Z",
+                "2012-08-18T24:00:00.000Z", "2012-08-18T15:60:56.543Z", "2012-08-18T15:45:60.543Z", "2012-08-18T15:45:56.54xZ",
+                "2012-08-18T15:45:56.543+2:00", "2012-08-18T15:45:56.543+02:60", "2012/08/18T15:45:56.543Z"};
+        for (String date : dates) {
+            assertEquals(date, Iso8601Format.INVALID, Iso8601Format.parseUtc(date));
+        }
+    }
+
+    public void testParseDateUtc() {
+        assertEquals(1345248000000L, Iso8601Format.parseDateUtc("2012-08-18"));
+        assertEquals(951782400000L, Iso8601Format.parseDateUtc("2000-02-29"));
+        assertEquals(Iso8601Format.INVALID, Iso8601Format.parseDateUtc("1900-02-29"));
+        assertEquals(Iso8601Format.INVALID, Iso8601Format.parseDateUtc("2012-8-18"));
+        assertEquals(Iso8601Format.INVALID, Iso8601Format.parseDateUtc("2012-08-18T00:00:00.000Z"));
+    }
+
+    public void testParseRandomDates() {
+        Random random = new Random(42);
+        for (int i = 0; i < 100000; i++) {
+            long millis = -62135596800000L + 86400000L + (long) (random.nextDouble() * (253402300800000L + 62135596800000L
+                    - 2 * 86400000L));
+            ZoneOffset offset = ZoneOffset.ofTotalSeconds((random.nextInt(35) - 17) * 3600 + random.nextInt(4) * 15 * 60);
+            OffsetDateTime dateTime = Instant.ofEpochMilli(millis).atOffset(offset);
+            assertEquals(millis, Iso8601Format.parseUtc(Iso8601Format.formatUtc(millis)));
+            assertEquals(millis, Iso8601Format.parseUtc(DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss.SSSxxx")
+                    .format(dateTime)));
+
+            LocalDate day = dateTime.toLocalDate();
+            assertEquals(day.toEpochDay() * 86400000L, Iso8601Format.parseDateUtc(day.toString()));
+        }
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright 2017 Ahmad Bawaneh
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.progressoft.brix.domino.gwtjackson.utils;
+
+import com.progressoft.brix.domino.gwtjackson.annotation.GwtIncompatible;
+import junit.framework.TestCase;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Tests the cache behind {@link DateFormat} directly, DateFormat itself cannot be loaded on the JVM without the GWT i18n classes.
+ */
+@GwtIncompatible
+public class PatternCacheTest extends TestCase {
+
+    private static final int THREADS = 8;
+
+    private static final int PATTERNS = 200;
+
+    /**
+     * Same use as {@link DateFormat}, the object of a missing pattern is built and given to the cache
+     */
+    private static Object getOrBuild(PatternCache<Object> cache, String pattern) {
+        Object value = cache.get(pattern);
+        if (null == value) {
+            value = cache.put(pattern, new Object());
+        }
+        return value;
+    }
+
+    public void testHitsAndMisses() {
+        PatternCache<Object> cache = new PatternCache<Object>(10);
+        Object first = getOrBuild(cache, "yyyy");
+        assertSame(first, getOrBuild(cache, "yyyy"));
+        assertNotSame(first, getOrBuild(cache, "MM"));
+        assertEquals(2, cache.size());
+        assertEquals(1, cache.getHits());
+        assertEquals(2, cache.getMisses());
+    }
+
+    public void testBounded() {
+        PatternCache<Object> cache = new PatternCache<Object>(2);
+        getOrBuild(cache, "a");
+        getOrBuild(cache, "b");
+        Object value = new Object();
+        assertSame(value, cache.put("c", value));
+        assertNull(cache.get("c"));
+        assertEquals(2, cache.size());
+    }
+
+    public void testRaceOnTheLastKey() {
+        PatternCache<Object> cache = new PatternCache<Object>(1);
+        Object first = cache.put("a", new Object());
+        // a thread that missed "a" before it was put, while the cache is now full
+        assertSame(first, cache.put("a", new Object()));
+    }
+
+    public void testRacingThreadsGetTheSameObject() throws Exception {
+        PatternCache<Object> cache = new PatternCache<Object>(PATTERNS);
+        AtomicReferenceArray<Object> observed = new AtomicReferenceArray<Object>(PATTERNS);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<Future<?>>();
+        for (int i = 0; i < THREADS; i++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int pattern = 0; pattern < PATTERNS; pattern++) {
+                    Object value = getOrBuild(cache, "pattern" + pattern);
+                    observed.compareAndSet(pattern, null, value);
+                    assertSame(observed.get(pattern), value);
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        try {
+            for (Future<?> future : futures) {
+                future.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(PATTERNS, cache.size());
+        assertEquals(THREADS * PATTERNS, cache.getHits() + cache.getMisses());
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright 2017 Ahmad Bawaneh
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.progressoft.brix.domino.gwtjackson.benchmarks;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Root bean of the mapper benchmarks, mixing a nested bean, a big list of beans, a map and a primitive array.
+ */
+public class Catalog {
+
+    private String name;
+    private Item featured;
+    private List<Item> items;
+    private Map<String, Integer> stock;
+    private int[] samples;
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public Item getFeatured() {
+        return featured;
+    }
+
+    public void setFeatured(Item featured) {
+        this.featured = featured;
+    }
+
+    public List<Item> getItems() {
+        return items;
+    }
+
+    public void setItems(List<Item> items) {
+        this.items = items;
+    }
+
+    public Map<String, Integer> getStock() {
+        return stock;
+    }
+
+    public void setStock(Map<String, Integer> stock) {
+        this.stock = stock;
+    }
+
+    public int[] getSamples() {
+        return samples;
+    }
+
+    public void setSamples(int[] samples) {
+        this.samples = samples;
+    }
+}
@@ -0,0 +1,161 @@
+/*
+ * Copyright 2017 Ahmad Bawaneh
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.progressoft.brix.domino.gwtjackson.benchmarks;
+
+import com.progressoft.brix.domino.gwtjackson.stream.JsonReader;
+import com.progressoft.brix.domino.gwtjackson.stream.impl.DefaultJsonReader;
+import com.progressoft.brix.domino.gwtjackson.stream.impl.NonBufferedJsonReader;
+import com.progressoft.brix.domino.gwtjackson.stream.impl.Utf8JsonReader;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Walks every token of a document with the {@link JsonReader} implementations: {@link DefaultJsonReader} over a whole
+ * {@link String} and refilled from a {@link java.io.Reader}, {@link Utf8JsonReader} and {@link NonBufferedJsonReader}, the
+ * reader used in the browser.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonReaderBenchmark {
+
+    public enum ReaderType {
+        STRING {
+            @Override
+            JsonReader newReader(String input, byte[] utf8) {
+                return new DefaultJsonReader(input);
+            }
+        },
+        STREAMING {
+            @Override
+            JsonReader newReader(String input, byte[] utf8) {
+                return new DefaultJsonReader(new StringReader(input));
+            }
+        },
+        UTF8 {
+            @Override
+            JsonReader newReader(String input, byte[] utf8) {
+                return new Utf8JsonReader(utf8);
+            }
+        },
+        NON_BUFFERED {
+            @Override
+            JsonReader newReader(String input, byte[] utf8) {
+                return new NonBufferedJsonReader(input);
+            }
+        };
+
+        /**
+         * @param input the document
+         * @param utf8  the document encoded in UTF-8
+         * @return a reader of the document
+         */
+        abstract JsonReader newReader(String input, byte[] utf8);
+    }
+
+    @Param({"STRING", "STREAMING", "UTF8", "NON_BUFFERED"})
+    public ReaderType reader;
+
+    @Param({"SMALL", "MEDIUM", "LARGE"})
+    public Payload payload;
+
+    private String catalogJson;
+
+    private byte[] catalogUtf8;
+
+    private String deepJson;
+
+    private byte[] deepUtf8;
+
+    @Setup
+    public void setup() {
+        catalogJson = payload.catalogJson();
+        catalogUtf8 = catalogJson.getBytes(StandardCharsets.UTF_8);
+        deepJson = payload.deepJson();
+        deepUtf8 = deepJson.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public void readCatalog(Blackhole blackhole) {
+        consume(reader.newReader(catalogJson, catalogUtf8), blackhole);
+    }
+
+    @Benchmark
+    public void readDeep(Blackhole blackhole) {
+        consume(reader.newReader(deepJson, deepUtf8), blackhole);
+    }
+
+    @Benchmark
+    public void skipCatalog(Blackhole blackhole) {
+        JsonReader jsonReader = reader.newReader(catalogJson, catalogUtf8);
+        jsonReader.skipValue();
+        blackhole.consume(jsonReader.peek());
+    }
+
+    static void consume(JsonReader reader, Blackhole blackhole) {
+        reader.setLenient(true);
+        while (true) {
+            switch (reader.peek()) {
+                case BEGIN_ARRAY:
+                    reader.beginArray();
+                    break;
+                case END_ARRAY:
+                    reader.endArray();
+                    break;
+                case BEGIN_OBJECT:
+                    reader.beginObject();
+                    break;
+                case END_OBJECT:
+                    reader.endObject();
+                    break;
+                case NAME:
+                    blackhole.consume(reader.nextName());
+                    break;
+                case STRING:
+                    blackhole.consume(reader.nextString());
+                    break;
+                case NUMBER:
+                    blackhole.consume(reader.nextDouble());
+                    break;
+                case BOOLEAN:
+                    blackhole.consume(reader.nextBoolean());
+                    break;
+                case NULL:
+                    reader.nextNull();
+                    break;
+                case END_DOCUMENT:
+                    return;
+            }
+        }
+    }
+}
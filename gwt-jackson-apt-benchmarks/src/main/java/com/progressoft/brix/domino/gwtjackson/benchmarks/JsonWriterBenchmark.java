@@ -0,0 +1,155 @@
+/*
+ * Copyright 2017 Ahmad Bawaneh
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.progressoft.brix.domino.gwtjackson.benchmarks;
+
+import com.progressoft.brix.domino.gwtjackson.stream.JsonWriter;
+import com.progressoft.brix.domino.gwtjackson.stream.impl.DefaultJsonWriter;
+import com.progressoft.brix.domino.gwtjackson.stream.impl.FastJsonWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayOutputStream;
+import java.io.StringWriter;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Writes the benchmark payloads token by token with the {@link JsonWriter} implementations: {@link DefaultJsonWriter} to the
+ * different outputs it supports and {@link FastJsonWriter}, the writer used in the browser. On the JVM the strings written by
+ * {@link FastJsonWriter} are encoded in Java instead of by {@code JSON.stringify}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonWriterBenchmark {
+
+    public enum WriterType {
+        STRING_BUILDER {
+            @Override
+            JsonWriter newWriter() {
+                return new DefaultJsonWriter(new StringBuilder());
+            }
+        },
+        WRITER {
+            @Override
+            JsonWriter newWriter() {
+                return new DefaultJsonWriter(new StringWriter());
+            }
+        },
+        UTF8 {
+            @Override
+            JsonWriter newWriter() {
+                return new DefaultJsonWriter(new ByteArrayOutputStream());
+            }
+        },
+        FAST {
+            @Override
+            JsonWriter newWriter() {
+                return new FastJsonWriter(new StringBuilder());
+            }
+        };
+
+        abstract JsonWriter newWriter();
+    }
+
+    @Param({"STRING_BUILDER", "WRITER", "UTF8", "FAST"})
+    public WriterType writer;
+
+    @Param({"SMALL", "MEDIUM", "LARGE"})
+    public Payload payload;
+
+    private Catalog catalog;
+
+    @Setup
+    public void setup() {
+        catalog = payload.newCatalog();
+    }
+
+    @Benchmark
+    public JsonWriter writeCatalog() {
+        JsonWriter jsonWriter = writer.newWriter();
+        jsonWriter.beginObject();
+        jsonWriter.name("name").value(catalog.getName());
+        jsonWriter.name("featured");
+        writeItem(jsonWriter, catalog.getFeatured());
+        jsonWriter.name("items").beginArray();
+        List<Item> items = catalog.getItems();
+        for (int i = 0; i < items.size(); i++) {
+            writeItem(jsonWriter, items.get(i));
+        }
+        jsonWriter.endArray();
+        jsonWriter.name("stock").beginObject();
+        for (Map.Entry<String, Integer> entry : catalog.getStock().entrySet()) {
+            jsonWriter.name(entry.getKey()).value(entry.getValue().longValue());
+        }
+        jsonWriter.endObject();
+        jsonWriter.name("samples").beginArray();
+        for (int sample : catalog.getSamples()) {
+            jsonWriter.value(sample);
+        }
+        jsonWriter.endArray();
+        jsonWriter.endObject();
+        // the output is reachable from the returned writer
+        jsonWriter.flush();
+        return jsonWriter;
+    }
+
+    @Benchmark
+    public JsonWriter writeDeep() {
+        JsonWriter jsonWriter = writer.newWriter();
+        int depth = payload.getDepth();
+        for (int i = 0; i < depth; i++) {
+            jsonWriter.beginObject();
+            jsonWriter.name("level").value(i);
+            jsonWriter.name("values").beginArray().value(true).nullValue().value(i + 0.5d).endArray();
+            jsonWriter.name("child");
+        }
+        jsonWriter.value("leaf");
+        for (int i = 0; i < depth; i++) {
+            jsonWriter.endObject();
+        }
+        // the output is reachable from the returned writer
+        jsonWriter.flush();
+        return jsonWriter;
+    }
+
+    private static void writeItem(JsonWriter jsonWriter, Item item) {
+        jsonWriter.beginObject();
+        jsonWriter.name("id").value(item.getId());
+        jsonWriter.name("name").value(item.getName());
+        jsonWriter.name("price").value(item.getPrice());
+        jsonWriter.name("available").value(item.isAvailable());
+        jsonWriter.name("tags").beginArray();
+        for (String tag : item.getTags()) {
+            jsonWriter.value(tag);
+        }
+        jsonWriter.endArray();
+        jsonWriter.endObject();
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright 2017 Ahmad Bawaneh
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.progressoft.brix.domino.gwtjackson.benchmarks;
+
+import com.progressoft.brix.domino.gwtjackson.ObjectMapper;
+import com.progressoft.brix.domino.gwtjackson.annotation.JSONMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayOutputStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the full round trip of an APT generated mapper through {@link com.progressoft.brix.domino.gwtjackson.AbstractObjectMapper},
+ * from and to the inputs and outputs supported on the JVM.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ObjectMapperBenchmark {
+
+    @JSONMapper
+    public interface CatalogMapper extends ObjectMapper<Catalog> {
+        CatalogMapper INSTANCE = new ObjectMapperBenchmark_CatalogMapperImpl();
+    }
+
+    @Param({"SMALL", "MEDIUM", "LARGE"})
+    public Payload payload;
+
+    private Catalog catalog;
+
+    private String json;
+
+    private byte[] utf8;
+
+    @Setup
+    public void setup() {
+        catalog = payload.newCatalog();
+        json = payload.catalogJson();
+        utf8 = json.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public Catalog read() {
+        return CatalogMapper.INSTANCE.read(json);
+    }
+
+    @Benchmark
+    public Catalog readUtf8() {
+        return CatalogMapper.INSTANCE.read(utf8);
+    }
+
+    @Benchmark
+    public Catalog readStream() {
+        return CatalogMapper.INSTANCE.read(new StringReader(json));
+    }
+
+    @Benchmark
+    public String write() {
+        return CatalogMapper.INSTANCE.write(catalog);
+    }
+
+    @Benchmark
+    public StringBuilder writeAppendable() {
+        StringBuilder out = new StringBuilder();
+        CatalogMapper.INSTANCE.write(catalog, out);
+        return out;
+    }
+
+    @Benchmark
+    public ByteArrayOutputStream writeUtf8() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        CatalogMapper.INSTANCE.write(catalog, out);
+        return out;
+    }
+}
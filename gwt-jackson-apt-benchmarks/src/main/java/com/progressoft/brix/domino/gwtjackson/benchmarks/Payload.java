@@ -0,0 +1,154 @@
+/*
+ * Copyright 2017 Ahmad Bawaneh
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.progressoft.brix.domino.gwtjackson.benchmarks;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Payload sizes shared by all the benchmarks. Each size builds the same {@link Catalog} both as a bean and as a JSON
+ * document, and a document made of nested objects and arrays.
+ */
+public enum Payload {
+
+    SMALL(1, 4, 8, 4),
+    MEDIUM(100, 64, 1024, 32),
+    LARGE(10000, 1024, 65536, 256);
+
+    private final int items;
+    private final int stockEntries;
+    private final int samples;
+    private final int depth;
+
+    Payload(int items, int stockEntries, int samples, int depth) {
+        this.items = items;
+        this.stockEntries = stockEntries;
+        this.samples = samples;
+        this.depth = depth;
+    }
+
+    public int getDepth() {
+        return depth;
+    }
+
+    public Catalog newCatalog() {
+        Catalog catalog = new Catalog();
+        catalog.setName("catalog-" + name().toLowerCase());
+        catalog.setFeatured(newItem(-1));
+
+        List<Item> list = new ArrayList<>(items);
+        for (int i = 0; i < items; i++) {
+            list.add(newItem(i));
+        }
+        catalog.setItems(list);
+
+        Map<String, Integer> stock = new LinkedHashMap<>();
+        for (int i = 0; i < stockEntries; i++) {
+            stock.put("sku-" + i, i * 7);
+        }
+        catalog.setStock(stock);
+
+        int[] values = new int[samples];
+        for (int i = 0; i < samples; i++) {
+            values[i] = i * 31 - samples;
+        }
+        catalog.setSamples(values);
+        return catalog;
+    }
+
+    private static Item newItem(int id) {
+        Item item = new Item();
+        item.setId(id);
+        item.setName("item \"" + id + "\" été");
+        item.setPrice(id * 1.25d + 0.99d);
+        item.setAvailable(id % 2 == 0);
+        item.setTags(Arrays.asList("tag-" + (id % 10), "group-" + (id % 3)));
+        return item;
+    }
+
+    public String catalogJson() {
+        Catalog catalog = newCatalog();
+        StringBuilder builder = new StringBuilder();
+        builder.append("{\"name\":");
+        appendString(builder, catalog.getName());
+        builder.append(",\"featured\":");
+        appendItem(builder, catalog.getFeatured());
+        builder.append(",\"items\":[");
+        for (int i = 0; i < catalog.getItems().size(); i++) {
+            if (i > 0) {
+                builder.append(',');
+            }
+            appendItem(builder, catalog.getItems().get(i));
+        }
+        builder.append("],\"stock\":{");
+        boolean first = true;
+        for (Map.Entry<String, Integer> entry : catalog.getStock().entrySet()) {
+            if (!first) {
+                builder.append(',');
+            }
+            first = false;
+            appendString(builder, entry.getKey());
+            builder.append(':').append(entry.getValue());
+        }
+        builder.append("},\"samples\":[");
+        for (int i = 0; i < catalog.getSamples().length; i++) {
+            if (i > 0) {
+                builder.append(',');
+            }
+            builder.append(catalog.getSamples()[i]);
+        }
+        builder.append("]}");
+        return builder.toString();
+    }
+
+    private static void appendItem(StringBuilder builder, Item item) {
+        builder.append("{\"id\":").append(item.getId());
+        builder.append(",\"name\":");
+        appendString(builder, item.getName());
+        builder.append(",\"price\":").append(item.getPrice());
+        builder.append(",\"available\":").append(item.isAvailable());
+        builder.append(",\"tags\":[");
+        for (int i = 0; i < item.getTags().size(); i++) {
+            if (i > 0) {
+                builder.append(',');
+            }
+            appendString(builder, item.getTags().get(i));
+        }
+        builder.append("]}");
+    }
+
+    private static void appendString(StringBuilder builder, String value) {
+        builder.append('"').append(value.replace("\\", "\\\\").replace("\"", "\\\"")).append('"');
+    }
+
+    /**
+     * @return a document nesting {@link #getDepth()} levels of objects, each holding an array and the next level
+     */
+    public String deepJson() {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < depth; i++) {
+            builder.append("{\"level\":").append(i).append(",\"values\":[true,null,").append(i).append(".5],\"child\":");
+        }
+        builder.append("\"leaf\"");
+        for (int i = 0; i < depth; i++) {
+            builder.append('}');
+        }
+        return builder.toString();
+    }
+}
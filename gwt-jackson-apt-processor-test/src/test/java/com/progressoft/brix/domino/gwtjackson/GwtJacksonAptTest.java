@@ -19,6 +19,7 @@ package com.progressoft.brix.domino.gwtjackson;
 import com.progressoft.brix.domino.gwtjackson.annotation.JSONMapper;
 import com.progressoft.brix.domino.gwtjackson.annotation.JSONReader;
 import com.progressoft.brix.domino.gwtjackson.annotation.JSONWriter;
+import com.progressoft.brix.domino.gwtjackson.exception.JsonDeserializationException;
 import org.junit.Test;
 
 import java.util.*;
@@ -61,6 +62,31 @@ public class GwtJacksonAptTest extends JacksonTestCase {
         BeanWithMapsTypeMapper INSTANCE = new GwtJacksonAptTest_BeanWithMapsTypeMapperImpl();
     }
 
+    @JSONMapper
+    public interface InlinePropertiesBeanMapper extends ObjectMapper<InlinePropertiesBean> {
+        InlinePropertiesBeanMapper INSTANCE = new GwtJacksonAptTest_InlinePropertiesBeanMapperImpl();
+    }
+
+    @JSONReader
+    public interface IndexedPropertiesBeanReader extends ObjectReader<IndexedPropertiesBean> {
+        IndexedPropertiesBeanReader INSTANCE = new GwtJacksonAptTest_IndexedPropertiesBeanReaderImpl();
+    }
+
+    @JSONMapper
+    public interface LazyPropertiesBeanMapper extends ObjectMapper<LazyPropertiesBean> {
+        LazyPropertiesBeanMapper INSTANCE = new GwtJacksonAptTest_LazyPropertiesBeanMapperImpl();
+    }
+
+    @JSONMapper
+    public interface PersonMapper extends ObjectMapper<Person> {
+        PersonMapper INSTANCE = new GwtJacksonAptTest_PersonMapperImpl();
+    }
+
+    @JSONMapper
+    public interface CollectionsBeanMapper extends ObjectMapper<CollectionsBean> {
+        CollectionsBeanMapper INSTANCE = new GwtJacksonAptTest_CollectionsBeanMapperImpl();
+    }
+
     @Test
     public void testDeserializeValue() {
         tester.testDeserializeValue(SimpleBeanMapper.INSTANCE);
@@ -319,5 +345,120 @@ public class GwtJacksonAptTest extends JacksonTestCase {
         assertEquals(expected, BeanWithMapsTypeMapper.INSTANCE.write(bean));
     }
 
+    private InlinePropertiesBean inlinePropertiesBean(String description, Integer count) {
+        InlinePropertiesBean bean = new InlinePropertiesBean();
+        bean.setId(1);
+        bean.setRatio(0.5);
+        bean.setActive(true);
+        bean.setName("a \"name\"");
+        bean.setDescription(description);
+        bean.setCount(count);
+        return bean;
+    }
+
+    @Test
+    public void testInlinePropertiesSerializeValue() {
+        String expected = "{\"id\":1,\"ratio\":0.5,\"active\":true,\"name\":\"a \\\"name\\\"\",\"description\":\"text\",\"count\":2}";
+        assertEquals(expected, InlinePropertiesBeanMapper.INSTANCE.write(inlinePropertiesBean("text", 2)));
+
+        InlinePropertiesBean bean = InlinePropertiesBeanMapper.INSTANCE.read(expected);
+        assertEquals("a \"name\"", bean.getName());
+        assertEquals("text", bean.getDescription());
+        assertEquals(Integer.valueOf(2), bean.getCount());
+    }
+
+    @Test
+    public void testInlinePropertiesNullStrings() {
+        InlinePropertiesBean bean = inlinePropertiesBean(null, null);
+
+        assertEquals("{\"id\":1,\"ratio\":0.5,\"active\":true,\"name\":\"a \\\"name\\\"\",\"description\":null,\"count\":null}",
+                InlinePropertiesBeanMapper.INSTANCE.write(bean));
+
+        JsonSerializationContext ctx = DefaultJsonSerializationContext.builder().serializeNulls(false).build();
+        assertEquals("{\"id\":1,\"ratio\":0.5,\"active\":true,\"name\":\"a \\\"name\\\"\"}",
+                InlinePropertiesBeanMapper.INSTANCE.write(bean, ctx));
+    }
+
+    @Test
+    public void testInlinePropertiesIndent() {
+        JsonSerializationContext ctx = DefaultJsonSerializationContext.builder().indent(true).build();
+        String expected = "{\n" +
+                "  \"id\": 1,\n" +
+                "  \"ratio\": 0.5,\n" +
+                "  \"active\": true,\n" +
+                "  \"name\": \"a \\\"name\\\"\",\n" +
+                "  \"description\": null,\n" +
+                "  \"count\": 2\n" +
+                "}";
+        assertEquals(expected, InlinePropertiesBeanMapper.INSTANCE.write(inlinePropertiesBean(null, 2), ctx));
+    }
 
+    @Test
+    public void testPropertyIndexInAnyOrder() {
+        IndexedPropertiesBean bean = IndexedPropertiesBeanReader.INSTANCE
+                .read("{\"size\":3,\"count\":4,\"type\":\"t\",\"id\":1,\"name\":\"n\"}");
+        assertEquals(1, bean.id);
+        assertEquals("n", bean.name);
+        assertEquals("t", bean.type);
+        assertEquals(3, bean.size);
+        assertEquals(Integer.valueOf(4), bean.count);
+    }
+
+    @Test
+    public void testPropertyIndexUnknownNames() {
+        // same lengths and first chars as known names
+        JsonDeserializationContext ctx = DefaultJsonDeserializationContext.builder().failOnUnknownProperties(false).build();
+        IndexedPropertiesBean bean = IndexedPropertiesBeanReader.INSTANCE
+                .read("{\"nome\":\"x\",\"name\":\"n\",\"ix\":2,\"id\":1,\"county\":5}", ctx);
+        assertEquals(1, bean.id);
+        assertEquals("n", bean.name);
+        assertNull(bean.count);
+
+        try {
+            IndexedPropertiesBeanReader.INSTANCE.read("{\"nome\":\"x\"}");
+            fail();
+        } catch (JsonDeserializationException e) {
+            // unknown property
+        }
+    }
+
+    @Test
+    public void testLazyProperties() {
+        String input = "{\"id\":1,\"name\":\"n\",\"values\":[1,2,3]}";
+        LazyPropertiesBean bean = LazyPropertiesBeanMapper.INSTANCE.read(input);
+        assertEquals(1, bean.id);
+        assertEquals("n", bean.name.get());
+        assertEquals(Arrays.asList(1, 2, 3), bean.values.get());
+        assertTrue(bean.values.isLoaded());
+
+        assertEquals(input, LazyPropertiesBeanMapper.INSTANCE.write(bean));
+
+        bean.values = Lazy.of(Arrays.asList(4, 5));
+        assertEquals("{\"id\":1,\"name\":\"n\",\"values\":[4,5]}", LazyPropertiesBeanMapper.INSTANCE.write(bean));
+    }
+
+    @Test
+    public void testPersonMapper() {
+        String input = "{\"firstName\":\"Nicolas\",\"lastName\":\"Morel\",\"bio\":null}";
+        Person person = PersonMapper.INSTANCE.read(input);
+        assertEquals("Nicolas", person.firstName);
+        assertEquals("Morel", person.lastName);
+        assertNull(person.bio);
+        assertEquals(input, PersonMapper.INSTANCE.write(person));
+    }
+
+    @Test
+    public void testCollectionsBeanMapper() {
+        CollectionsBean bean = CollectionsBeanMapper.INSTANCE
+                .read("{\"enumSet\":[\"B\",\"A\"],\"listSet\":[[\"a\"],[]],\"vector\":[[\"b\",\"c\"]]}");
+        assertEquals(EnumSet.of(AnEnum.A, AnEnum.B), bean.enumSet);
+        assertEquals(Arrays.asList(Collections.singleton("a"), Collections.emptySet()), bean.listSet);
+        assertEquals(1, bean.vector.size());
+        assertEquals(Arrays.asList("b", "c"), bean.vector.get(0));
+        assertNull(bean.stack);
+
+        JsonSerializationContext ctx = DefaultJsonSerializationContext.builder().serializeNulls(false).build();
+        assertEquals("{\"enumSet\":[\"A\",\"B\"],\"vector\":[[\"b\",\"c\"]],\"listSet\":[[\"a\"],[]]}",
+                CollectionsBeanMapper.INSTANCE.write(bean, ctx));
+    }
 }
@@ -66,7 +66,7 @@ public abstract class AbstractBeanMapperGenerator {
                 .addAnnotation(Override.class)
                 .returns(ParameterizedTypeName.get(ClassName.get(JsonDeserializer.class),
                         ClassName.get(getBeanType(element))))
-                .addStatement("return new " + beanName + "BeanJsonDeserializerImpl()")
+                .addStatement("return " + beanName + "BeanJsonDeserializerImpl.getInstance()")
                 .build();
     }
 
@@ -75,7 +75,7 @@ public abstract class AbstractBeanMapperGenerator {
                 .addModifiers(Modifier.PROTECTED)
                 .addAnnotation(Override.class)
                 .returns(ParameterizedTypeName.get(ClassName.get(JsonSerializer.class), DEFAULT_WILDCARD))
-                .addStatement("return new " + beanName + "BeanJsonSerializerImpl()")
+                .addStatement("return " + beanName + "BeanJsonSerializerImpl.getInstance()")
                 .build();
     }
 
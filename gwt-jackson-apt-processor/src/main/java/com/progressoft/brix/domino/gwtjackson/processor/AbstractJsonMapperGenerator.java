@@ -40,11 +40,14 @@ public abstract class AbstractJsonMapperGenerator {
 
     protected void generate(Name beanName, String packageName) throws IOException {
         MethodSpec constructor = MethodSpec.constructorBuilder().addModifiers(Modifier.PUBLIC).build();
+        ClassName className = ClassName.get(packageName, beanName + namePostfix());
 
-        final TypeSpec.Builder builder = TypeSpec.classBuilder(beanName + namePostfix())
+        final TypeSpec.Builder builder = TypeSpec.classBuilder(className)
                 .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
                 .superclass(superClass())
+                .addField(instanceField(className))
                 .addMethod(constructor)
+                .addMethod(getInstanceMethod(className))
                 .addMethod(targetTypeMethod());
 
         moreMethods().forEach(builder::addMethod);
@@ -54,6 +57,20 @@ public abstract class AbstractJsonMapperGenerator {
         JavaFile.builder(packageName, builder.build()).build().writeTo(filer);
     }
 
+    private FieldSpec instanceField(ClassName className) {
+        return FieldSpec.builder(className, "INSTANCE", Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL)
+                .initializer("new $T()", className)
+                .build();
+    }
+
+    private MethodSpec getInstanceMethod(ClassName className) {
+        return MethodSpec.methodBuilder("getInstance")
+                .addModifiers(Modifier.PUBLIC, Modifier.STATIC)
+                .returns(className)
+                .addStatement("return INSTANCE")
+                .build();
+    }
+
     private MethodSpec targetTypeMethod() {
         return MethodSpec.methodBuilder(targetTypeMethodName())
                 .addModifiers(Modifier.PUBLIC)
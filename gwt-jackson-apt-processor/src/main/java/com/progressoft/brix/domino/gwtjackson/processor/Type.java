@@ -15,6 +15,7 @@
  */
 package com.progressoft.brix.domino.gwtjackson.processor;
 
+import com.progressoft.brix.domino.gwtjackson.Lazy;
 import com.progressoft.brix.domino.gwtjackson.processor.serialization.AptSerializerBuilder;
 import com.squareup.javapoet.ClassName;
 import com.squareup.javapoet.TypeName;
@@ -121,6 +122,11 @@ public class Type {
         return !Type.isPrimitive(typeMirror) && isAssignableFrom(typeMirror, Map.class);
     }
 
+    public static boolean isLazy(TypeMirror typeMirror) {
+        return TypeKind.DECLARED.equals(typeMirror.getKind())
+                && typeUtils.erasure(typeMirror).toString().equals(Lazy.class.getCanonicalName());
+    }
+
     public static TypeMirror firstTypeArgument(TypeMirror typeMirror) {
         return ((DeclaredType) typeMirror).getTypeArguments().get(FIRST_ARGUMENT);
     }
@@ -26,8 +26,11 @@ import com.squareup.javapoet.*;
 import javax.annotation.processing.Filer;
 import javax.lang.model.element.Modifier;
 import javax.lang.model.type.TypeMirror;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -63,9 +66,90 @@ public class AptDeserializerBuilder extends AbstractJsonMapperGenerator {
 
     @Override
     protected Set<MethodSpec> moreMethods() {
+        List<String> propertyNames = orderedFields().stream().map(field -> field.getSimpleName().toString())
+                .collect(Collectors.toList());
         return Stream.of(buildInitInstanceBuilderMethod(beanType, ParameterizedTypeName
-                .get(ClassName.get(MapLike.class), ClassName
-                        .get(HasDeserializerAndParameters.class)))).collect(Collectors.toSet());
+                        .get(ClassName.get(MapLike.class), ClassName
+                                .get(HasDeserializerAndParameters.class))),
+                buildInitPropertyNamesMethod(propertyNames),
+                buildPropertyIndexMethod(propertyNames)).collect(Collectors.toSet());
+    }
+
+    private MethodSpec buildInitPropertyNamesMethod(List<String> propertyNames) {
+        String names = propertyNames.stream().map(name -> CodeBlock.of("$S", name).toString())
+                .collect(Collectors.joining(", "));
+        return MethodSpec.methodBuilder("initPropertyNames")
+                .addModifiers(Modifier.PROTECTED)
+                .addAnnotation(Override.class)
+                .returns(String[].class)
+                .addStatement("return new $T[]{$L}", String.class, names)
+                .build();
+    }
+
+    /**
+     * Builds the dispatch from a property name to its index in the generated property names. The names are
+     * switched on their length then on the characters that tell them apart, so a single {@code equals} confirms the match.
+     */
+    private MethodSpec buildPropertyIndexMethod(List<String> propertyNames) {
+        MethodSpec.Builder builder = MethodSpec.methodBuilder("propertyIndex")
+                .addModifiers(Modifier.PROTECTED)
+                .addAnnotation(Override.class)
+                .returns(int.class)
+                .addParameter(String.class, "propertyName");
+
+        if (!propertyNames.isEmpty()) {
+            Map<Integer, List<String>> namesByLength = propertyNames.stream()
+                    .collect(Collectors.groupingBy(String::length, TreeMap::new, Collectors.toList()));
+
+            builder.beginControlFlow("switch (propertyName.length())");
+            namesByLength.forEach((length, names) -> {
+                builder.addCode("case $L:\n$>", length);
+                addCharDispatch(builder, names, propertyNames);
+                builder.addCode("$<");
+            });
+            builder.endControlFlow();
+        }
+
+        builder.addStatement("return -1");
+        return builder.build();
+    }
+
+    private void addCharDispatch(MethodSpec.Builder builder, List<String> names, List<String> propertyNames) {
+        if (names.size() == 1) {
+            builder.addStatement("return propertyName.equals($S) ? $L : -1", names.get(0), propertyNames.indexOf(names.get(0)));
+            return;
+        }
+
+        int position = 0;
+        long distinct = 0;
+        for (int i = 0; i < names.get(0).length(); i++) {
+            int index = i;
+            long count = names.stream().map(name -> name.charAt(index)).distinct().count();
+            if (count > distinct) {
+                position = i;
+                distinct = count;
+            }
+        }
+
+        int charPosition = position;
+        Map<Character, List<String>> namesByChar = names.stream()
+                .collect(Collectors.groupingBy(name -> name.charAt(charPosition), TreeMap::new, Collectors.toList()));
+
+        builder.beginControlFlow("switch (propertyName.charAt($L))", position);
+        namesByChar.forEach((c, group) -> {
+            builder.addCode("case $L:\n$>", charLiteral(c));
+            addCharDispatch(builder, group, propertyNames);
+            builder.addCode("$<");
+        });
+        builder.endControlFlow();
+        builder.addStatement("return -1");
+    }
+
+    private String charLiteral(char c) {
+        if (c < 128 && Character.isJavaIdentifierPart(c)) {
+            return "'" + c + "'";
+        }
+        return Integer.toString(c);
     }
 
     private MethodSpec buildInitInstanceBuilderMethod(TypeMirror beanType, ParameterizedTypeName parameterizedTypeName) {
@@ -102,7 +186,8 @@ public class AptDeserializerBuilder extends AbstractJsonMapperGenerator {
                 .addParameter(JsonReader.class, "reader")
                 .addParameter(JsonDeserializationContext.class, "ctx")
                 .addParameter(JsonDeserializerParameters.class, "params")
-                .addParameter(ParameterizedTypeName.get(Map.class, String.class, String.class), "bufferedProperties")
+                .addParameter(ParameterizedTypeName.get(ClassName.get(Map.class), ClassName.get(String.class),
+                        ParameterizedTypeName.get(Supplier.class, JsonReader.class)), "bufferedProperties")
                 .addParameter(ParameterizedTypeName.get(Map.class, String.class, Object.class), "bufferedPropertiesValues")
                 .addStatement("return new $T($N(), bufferedProperties)",
                         ParameterizedTypeName.get(ClassName.get(Instance.class), ClassName.get(beanType)),
@@ -16,6 +16,7 @@
 package com.progressoft.brix.domino.gwtjackson.processor.deserialization;
 
 import com.progressoft.brix.domino.gwtjackson.deser.EnumJsonDeserializer;
+import com.progressoft.brix.domino.gwtjackson.deser.LazyJsonDeserializer;
 import com.progressoft.brix.domino.gwtjackson.deser.array.ArrayJsonDeserializer;
 import com.progressoft.brix.domino.gwtjackson.deser.array.dd.Array2dJsonDeserializer;
 import com.progressoft.brix.domino.gwtjackson.processor.MappersChainBuilder;
@@ -54,6 +55,8 @@ public class FieldDeserializersChainBuilder implements MappersChainBuilder {
     }
 
     private String getFieldDeserializer(TypeMirror typeMirror) {
+        if (Type.isLazy(typeMirror))
+            return getLazyDeserializer(typeMirror);
         if (Type.isIterable(typeMirror))
             return getIterableDeserializer(typeMirror);
         if (Type.isMap(typeMirror))
@@ -82,7 +85,7 @@ public class FieldDeserializersChainBuilder implements MappersChainBuilder {
                 deserializers.addLast(TypeRegistry.getCustomDeserializer(typeMirror));
             }
         }
-        return "new $T()";
+        return GET_INSTANCE;
     }
 
     private String generateCustomDeserializer(TypeMirror typeMirror) {
@@ -122,6 +125,11 @@ public class FieldDeserializersChainBuilder implements MappersChainBuilder {
         return NEW_INSTANCE + "$T.class" + ")";
     }
 
+    private String getLazyDeserializer(TypeMirror typeMirror) {
+        deserializers.addLast(TypeName.get(LazyJsonDeserializer.class));
+        return NEW_INSTANCE + getFieldDeserializer(Type.firstTypeArgument(typeMirror)) + ")";
+    }
+
     private String getIterableDeserializer(TypeMirror typeMirror) {
         deserializers.addLast(TypeName.get(TypeRegistry.getCollectionDeserializer(typeMirror)));
         return NEW_INSTANCE + getFieldDeserializer(Type.firstTypeArgument(typeMirror)) + ")";
@@ -15,17 +15,23 @@
  */
 package com.progressoft.brix.domino.gwtjackson.processor.serialization;
 
+import com.progressoft.brix.domino.gwtjackson.JsonSerializationContext;
 import com.progressoft.brix.domino.gwtjackson.processor.AbstractJsonMapperGenerator;
 import com.progressoft.brix.domino.gwtjackson.processor.Type;
 import com.progressoft.brix.domino.gwtjackson.ser.bean.AbstractBeanJsonSerializer;
 import com.progressoft.brix.domino.gwtjackson.ser.bean.BeanPropertySerializer;
+import com.progressoft.brix.domino.gwtjackson.stream.JsonWriter;
+import com.progressoft.brix.domino.gwtjackson.stream.impl.DefaultJsonWriter;
 import com.squareup.javapoet.*;
 
 import javax.annotation.processing.Filer;
 import javax.lang.model.element.Element;
 import javax.lang.model.element.Modifier;
+import javax.lang.model.type.TypeKind;
 import javax.lang.model.type.TypeMirror;
+import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 
 public class AptSerializerBuilder extends AbstractJsonMapperGenerator {
 
@@ -50,6 +56,11 @@ public class AptSerializerBuilder extends AbstractJsonMapperGenerator {
         return "getSerializedType";
     }
 
+    @Override
+    protected Set<MethodSpec> moreMethods() {
+        return Collections.singleton(buildSerializePropertiesInlineMethod());
+    }
+
     @Override
     protected MethodSpec initMethod() {
         return buildInitSerializersMethod(beanType);
@@ -73,4 +84,58 @@ public class AptSerializerBuilder extends AbstractJsonMapperGenerator {
         builder.addStatement("return result");
         return builder.build();
     }
+
+    private MethodSpec buildSerializePropertiesInlineMethod() {
+        final List<Element> fields = orderedFields();
+
+        MethodSpec.Builder builder = MethodSpec.methodBuilder("serializePropertiesInline")
+                .addModifiers(Modifier.PROTECTED)
+                .addAnnotation(Override.class)
+                .returns(TypeName.BOOLEAN)
+                .addParameter(JsonWriter.class, "writer")
+                .addParameter(ClassName.get(beanType), "bean")
+                .addParameter(JsonSerializationContext.class, "ctx");
+
+        for (int i = 0; i < fields.size(); i++) {
+            Element field = fields.get(i);
+            String propertyName = DefaultJsonWriter.encodeString(field.getSimpleName().toString());
+            String nameFragment = ",\"" + propertyName + "\":";
+            AbstractJsonMapperGenerator.AccessorInfo accessorInfo = new SerializerBuilder(beanType, field).getterInfo();
+            String value = "bean." + accessorInfo.accessor + (accessorInfo.present ? "()" : "");
+
+            if (isInlinedPrimitive(field.asType())) {
+                builder.addStatement("writer.rawName($S)", nameFragment);
+                builder.addStatement("writer.value($L)", value);
+            } else if (isString(field.asType())) {
+                String variable = "value" + i;
+                builder.addStatement("$T $L = $L", String.class, variable, value)
+                        .beginControlFlow("if (null != $L)", variable)
+                        .addStatement("writer.rawName($S)", nameFragment)
+                        .addStatement("writer.value($L)", variable)
+                        .nextControlFlow("else if (ctx.isSerializeNulls())")
+                        .addStatement("writer.rawName($S)", nameFragment)
+                        .addStatement("writer.nullValue()")
+                        .endControlFlow();
+            } else {
+                builder.addStatement("serializeProperty($L, writer, bean, ctx)", i);
+            }
+        }
+
+        builder.addStatement("return true");
+        return builder.build();
+    }
+
+    /**
+     * float and char are left to their serializers, writing them with the double and long writer methods would change
+     * their output.
+     */
+    private boolean isInlinedPrimitive(TypeMirror typeMirror) {
+        TypeKind kind = typeMirror.getKind();
+        return kind == TypeKind.BOOLEAN || kind == TypeKind.BYTE || kind == TypeKind.SHORT || kind == TypeKind.INT
+                || kind == TypeKind.LONG || kind == TypeKind.DOUBLE;
+    }
+
+    private boolean isString(TypeMirror typeMirror) {
+        return typeMirror.getKind() == TypeKind.DECLARED && String.class.getName().equals(typeMirror.toString());
+    }
 }
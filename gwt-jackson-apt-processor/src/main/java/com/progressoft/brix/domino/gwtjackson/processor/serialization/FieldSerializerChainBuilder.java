@@ -21,6 +21,7 @@ import com.progressoft.brix.domino.gwtjackson.processor.TypeRegistry;
 import com.progressoft.brix.domino.gwtjackson.ser.CollectionJsonSerializer;
 import com.progressoft.brix.domino.gwtjackson.ser.EnumJsonSerializer;
 import com.progressoft.brix.domino.gwtjackson.ser.IterableJsonSerializer;
+import com.progressoft.brix.domino.gwtjackson.ser.LazyJsonSerializer;
 import com.progressoft.brix.domino.gwtjackson.ser.array.ArrayJsonSerializer;
 import com.progressoft.brix.domino.gwtjackson.ser.array.dd.Array2dJsonSerializer;
 import com.progressoft.brix.domino.gwtjackson.ser.map.MapJsonSerializer;
@@ -56,6 +57,8 @@ public class FieldSerializerChainBuilder implements MappersChainBuilder {
     }
 
     private String getFieldSerializer(TypeMirror typeMirror) {
+        if (Type.isLazy(typeMirror))
+            return getLazySerializer(typeMirror);
         if (Type.isCollection(typeMirror))
             return getCollectionSerializer(typeMirror);
         if (Type.isIterable(typeMirror))
@@ -86,7 +89,7 @@ public class FieldSerializerChainBuilder implements MappersChainBuilder {
                 serializers.addLast(TypeRegistry.getCustomSerializer(typeMirror));
             }
         }
-        return "new $T()";
+        return GET_INSTANCE;
     }
 
     private String generateCustomSerializer(TypeMirror typeMirror) {
@@ -116,6 +119,11 @@ public class FieldSerializerChainBuilder implements MappersChainBuilder {
         return GET_INSTANCE;
     }
 
+    private String getLazySerializer(TypeMirror typeMirror) {
+        serializers.addLast(TypeName.get(LazyJsonSerializer.class));
+        return NEW_INSTANCE + getFieldSerializer(Type.firstTypeArgument(typeMirror)) + ")";
+    }
+
     private String getCollectionSerializer(TypeMirror typeMirror) {
         serializers.addLast(TypeName.get(CollectionJsonSerializer.class));
         return NEW_INSTANCE + getFieldSerializer(Type.firstTypeArgument(typeMirror)) + ")";
@@ -16,7 +16,10 @@
 package com.progressoft.brix.domino.gwtjackson;
 
 import com.google.gwt.junit.tools.GWTTestSuite;
+import com.progressoft.brix.domino.gwtjackson.processor.AptDeserializerBuilderTest;
+import com.progressoft.brix.domino.gwtjackson.processor.AptSerializerBuilderTest;
 import com.progressoft.brix.domino.gwtjackson.processor.DeserializerInstanceBuilderTest;
+import com.progressoft.brix.domino.gwtjackson.processor.GeneratedBeanCodeTest;
 import com.progressoft.brix.domino.gwtjackson.processor.SerializerInstanceBuilderTest;
 import junit.framework.Test;
 import junit.framework.TestSuite;
@@ -26,6 +29,9 @@ public class GwtJacksonAptSuite extends GWTTestSuite {
         TestSuite suite = new TestSuite("Tests for gwt-jackson-apt");
         suite.addTestSuite(DeserializerInstanceBuilderTest.class);
         suite.addTestSuite(SerializerInstanceBuilderTest.class);
+        suite.addTestSuite(AptSerializerBuilderTest.class);
+        suite.addTestSuite(AptDeserializerBuilderTest.class);
+        suite.addTestSuite(GeneratedBeanCodeTest.class);
 
         return suite;
     }
@@ -0,0 +1,62 @@
+/*
+ * Copyright 2017 Ahmad Bawaneh
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.progressoft.brix.domino.gwtjackson.processor;
+
+import com.progressoft.brix.domino.gwtjackson.processor.deserialization.AptDeserializerBuilder;
+
+import static com.google.common.truth.Truth.assertThat;
+
+public class AptDeserializerBuilderTest extends BaseMapperGeneratorTest {
+
+    private String generatedSource;
+
+    @Override
+    protected void setUp() throws Exception {
+        generatedSource = generate("IndexedPropertiesBean.java", Type.BEAN_JSON_DESERIALIZER_IMPL, AptDeserializerBuilder::new);
+    }
+
+    public void testPropertyNamesInFieldOrder() {
+        assertThat(generatedSource).contains("return new String[]{\"id\", \"name\", \"type\", \"size\", \"count\", \"created\"};");
+    }
+
+    public void testPropertyIndexSwitchesOnLength() {
+        assertThat(generatedSource).contains("protected int propertyIndex(String propertyName)");
+        assertThat(generatedSource).contains("switch (propertyName.length())");
+        assertThat(generatedSource).contains("return propertyName.equals(\"id\") ? 0 : -1;");
+        assertThat(generatedSource).contains("return propertyName.equals(\"count\") ? 4 : -1;");
+        assertThat(generatedSource).contains("return propertyName.equals(\"created\") ? 5 : -1;");
+    }
+
+    public void testPropertyIndexSwitchesOnTheCharThatTellsNamesApart() {
+        // name, type and size have the same length and differ on their first char
+        assertThat(generatedSource).contains("switch (propertyName.charAt(0))");
+        assertThat(generatedSource).contains("case 'n':");
+        assertThat(generatedSource).contains("return propertyName.equals(\"name\") ? 1 : -1;");
+        assertThat(generatedSource).contains("case 't':");
+        assertThat(generatedSource).contains("return propertyName.equals(\"type\") ? 2 : -1;");
+        assertThat(generatedSource).contains("case 's':");
+        assertThat(generatedSource).contains("return propertyName.equals(\"size\") ? 3 : -1;");
+    }
+
+    public void testNewInstanceTakesBufferedPropertiesReaders() {
+        // javapoet may wrap the parameters
+        String source = generatedSource.replaceAll("\\s+", "");
+        assertThat(source).contains("publicInstance<IndexedPropertiesBean>newInstance(JsonReaderreader,JsonDeserializationContextctx,"
+                + "JsonDeserializerParametersparams,Map<String,Supplier<JsonReader>>bufferedProperties,"
+                + "Map<String,Object>bufferedPropertiesValues)");
+        assertThat(source).contains("returnnewInstance<IndexedPropertiesBean>(create(),bufferedProperties);");
+    }
+}
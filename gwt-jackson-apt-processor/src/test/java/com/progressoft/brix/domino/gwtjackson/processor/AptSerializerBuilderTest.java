@@ -0,0 +1,64 @@
+/*
+ * Copyright 2017 Ahmad Bawaneh
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.progressoft.brix.domino.gwtjackson.processor;
+
+import com.progressoft.brix.domino.gwtjackson.processor.serialization.AptSerializerBuilder;
+
+import static com.google.common.truth.Truth.assertThat;
+
+public class AptSerializerBuilderTest extends BaseMapperGeneratorTest {
+
+    private String generatedSource;
+
+    @Override
+    protected void setUp() throws Exception {
+        generatedSource = generate("InlinePropertiesBean.java", Type.BEAN_JSON_SERIALIZER_IMPL, AptSerializerBuilder::new);
+    }
+
+    public void testPrimitivesAreWrittenWithPreQuotedNames() {
+        assertThat(generatedSource).contains("writer.rawName(\",\\\"intField\\\":\");");
+        assertThat(generatedSource).contains("writer.value(bean.intField);");
+        assertThat(generatedSource).contains("writer.rawName(\",\\\"doubleField\\\":\");");
+        assertThat(generatedSource).contains("writer.value(bean.doubleField);");
+        assertThat(generatedSource).contains("writer.value(bean.booleanField);");
+    }
+
+    public void testStringsAreWrittenDirectlyUnlessNull() {
+        assertThat(generatedSource).contains("String value3 = bean.stringField;");
+        assertThat(generatedSource).contains("if (null != value3)");
+        assertThat(generatedSource).contains("writer.value(value3);");
+        assertThat(generatedSource).contains("else if (ctx.isSerializeNulls())");
+        assertThat(generatedSource).doesNotContain("writer.unescapeName(");
+        assertThat(generatedSource).contains("writer.nullValue();");
+    }
+
+    public void testGettersAreUsedWhenPresent() {
+        assertThat(generatedSource).contains("String value7 = bean.getPrivateField();");
+    }
+
+    public void testOtherPropertiesGoThroughTheirSerializer() {
+        // float keeps its own serializer so its output does not change, boxed values may be null
+        assertThat(generatedSource).contains("serializeProperty(4, writer, bean, ctx);");
+        assertThat(generatedSource).contains("serializeProperty(5, writer, bean, ctx);");
+        assertThat(generatedSource).contains("serializeProperty(6, writer, bean, ctx);");
+        assertThat(generatedSource).doesNotContain("serializers[");
+    }
+
+    public void testAllPropertiesAreWrittenInline() {
+        assertThat(generatedSource).contains("protected boolean serializePropertiesInline(");
+        assertThat(generatedSource).contains("return true;");
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright 2017 Ahmad Bawaneh
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.progressoft.brix.domino.gwtjackson.processor;
+
+import com.google.testing.compile.Compilation;
+import com.google.testing.compile.JavaFileObjects;
+import junit.framework.TestCase;
+
+import javax.annotation.processing.Filer;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.TypeMirror;
+import javax.tools.JavaFileObject;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Optional;
+import java.util.function.BiFunction;
+
+import static com.google.common.truth.Truth.assertThat;
+import static com.google.testing.compile.Compiler.javac;
+
+/**
+ * Runs a mapper generator on the bean of a test resource and gives back the generated source. The generated class is compiled
+ * with the bean, so the tests also check that it compiles against the api.
+ */
+public abstract class BaseMapperGeneratorTest extends TestCase {
+
+    String generate(String resource, String postfix, BiFunction<TypeMirror, Filer, AbstractJsonMapperGenerator> generator)
+            throws IOException {
+        TestProcessor testProcessor = new TestProcessor();
+        final String[] generatedName = {null};
+        testProcessor.setDelegate((annotations, roundEnv, typeUtils, elementUtils, filer, messager) -> {
+            Optional<? extends Element> element = roundEnv.getElementsAnnotatedWith(TestAnnotation.class).stream().findFirst();
+            if (element.isPresent()) {
+                ObjectMapperProcessor.typeUtils = typeUtils;
+                ObjectMapperProcessor.elementUtils = elementUtils;
+                ObjectMapperProcessor.messager = messager;
+                // the serializers and deserializers of nested beans are generated with the processor filer
+                ObjectMapperProcessor.filer = filer;
+
+                TypeElement typeElement = (TypeElement) element.get();
+                String packageName = elementUtils.getPackageOf(typeElement).getQualifiedName().toString();
+                generatedName[0] = packageName + "." + typeElement.getSimpleName() + postfix;
+                try {
+                    generator.apply(typeElement.asType(), filer).generate(typeElement.getSimpleName(), packageName);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+        });
+
+        Compilation compilation = javac().withProcessors(testProcessor).compile(JavaFileObjects.forResource(resource));
+        assertThat(compilation.status()).isEqualTo(Compilation.Status.SUCCESS);
+        assertNotNull("the processor did not execute.", generatedName[0]);
+
+        Optional<JavaFileObject> generated = compilation.generatedSourceFile(generatedName[0]);
+        assertTrue(generatedName[0] + " was not generated.", generated.isPresent());
+        return generated.get().getCharContent(true).toString();
+    }
+}
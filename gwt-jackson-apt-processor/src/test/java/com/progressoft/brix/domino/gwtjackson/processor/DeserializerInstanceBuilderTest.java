@@ -620,12 +620,21 @@ public class DeserializerInstanceBuilderTest extends BaseInstanceBuilderTest {
         runTests();
     }
 
+    @Test
+    public void testLazyTypeField() throws Exception {
+        addFieldTest("lazyString", result -> assertEquals(buildTestString("$T.newInstance($T.getInstance())", LazyJsonDeserializer.class, StringJsonDeserializer.class), result));
+        addFieldTest("lazyList", result -> assertEquals(buildTestString("$T.newInstance($T.newInstance($T.getInstance()))", LazyJsonDeserializer.class, ListJsonDeserializer.class, IntegerJsonDeserializer.class), result));
+        addFieldTest("lazyMap", result -> assertEquals(buildTestString("$T.newInstance($T.newInstance($T.getInstance(), $T.getInstance()))", LazyJsonDeserializer.class, MapJsonDeserializer.class, StringKeyDeserializer.class, IntegerJsonDeserializer.class), result));
+
+        runTests();
+    }
+
     @Test
     public void testNestedBeanTypeField() throws Exception {
 
         ClassName deserializer = ClassName.bestGuess("com.progressoft.brix.domino.gwtjackson.processor.TestBeanBeanJsonDeserializerImpl");
         TypeRegistry.registerSerializer("com.progressoft.brix.domino.gwtjackson.processor.TestBean", deserializer);
-        addFieldTest("testBean", result -> assertEquals(buildTestString("new $T()", deserializer), result));
+        addFieldTest("testBean", result -> assertEquals(buildTestString("$T.getInstance()", deserializer), result));
 
         runTests();
     }
@@ -0,0 +1,40 @@
+/*
+ * Copyright 2017 Ahmad Bawaneh
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.progressoft.brix.domino.gwtjackson.processor;
+
+import com.progressoft.brix.domino.gwtjackson.processor.deserialization.AptDeserializerBuilder;
+import com.progressoft.brix.domino.gwtjackson.processor.serialization.AptSerializerBuilder;
+
+/**
+ * Generates the serializer and the deserializer of every test bean, {@link #generate} compiles them with the bean against the
+ * api.
+ */
+public class GeneratedBeanCodeTest extends BaseMapperGeneratorTest {
+
+    private static final String[] BEANS = {"TestBean.java", "InlinePropertiesBean.java", "IndexedPropertiesBean.java"};
+
+    public void testSerializersCompile() throws Exception {
+        for (String bean : BEANS) {
+            assertFalse(bean, generate(bean, Type.BEAN_JSON_SERIALIZER_IMPL, AptSerializerBuilder::new).isEmpty());
+        }
+    }
+
+    public void testDeserializersCompile() throws Exception {
+        for (String bean : BEANS) {
+            assertFalse(bean, generate(bean, Type.BEAN_JSON_DESERIALIZER_IMPL, AptDeserializerBuilder::new).isEmpty());
+        }
+    }
+}
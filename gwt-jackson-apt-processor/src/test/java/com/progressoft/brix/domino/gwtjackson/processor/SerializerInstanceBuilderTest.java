@@ -334,12 +334,21 @@ public class SerializerInstanceBuilderTest extends BaseInstanceBuilderTest {
         runTests();
     }
 
+    @Test
+    public void testLazyTypeField() throws Exception {
+        addFieldTest("lazyString", result -> assertEquals(buildTestString("$T.newInstance($T.getInstance())", LazyJsonSerializer.class, StringJsonSerializer.class), result));
+        addFieldTest("lazyList", result -> assertEquals(buildTestString("$T.newInstance($T.newInstance($T.getInstance()))", LazyJsonSerializer.class, CollectionJsonSerializer.class, BaseNumberJsonSerializer.IntegerJsonSerializer.class), result));
+        addFieldTest("lazyMap", result -> assertEquals(buildTestString("$T.newInstance($T.newInstance($T.getInstance(), $T.getInstance()))", LazyJsonSerializer.class, MapJsonSerializer.class, ToStringKeySerializer.class, BaseNumberJsonSerializer.IntegerJsonSerializer.class), result));
+
+        runTests();
+    }
+
     @Test
     public void testNestedBeanTypeField() throws Exception {
 
         ClassName serializer = ClassName.bestGuess("com.progressoft.brix.domino.gwtjackson.processor.TestBeanBeanJsonSerializerImpl");
         TypeRegistry.registerSerializer("com.progressoft.brix.domino.gwtjackson.processor.TestBean", serializer);
-        addFieldTest("testBean", result -> assertEquals(buildTestString("new $T()", serializer), result));
+        addFieldTest("testBean", result -> assertEquals(buildTestString("$T.getInstance()", serializer), result));
 
         runTests();
     }
@@ -0,0 +1,39 @@
+/*
+ * Copyright 2017 Ahmad Bawaneh
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.progressoft.brix.domino.gwtjackson.processor;
+
+import java.util.List;
+
+@TestAnnotation
+public class InlinePropertiesBean {
+
+    public int intField;
+    public double doubleField;
+    public boolean booleanField;
+    public String stringField;
+    public float floatField;
+    public Integer boxedIntField;
+    public List<String> listField;
+    private String privateField;
+
+    public String getPrivateField() {
+        return privateField;
+    }
+
+    public void setPrivateField(String privateField) {
+        this.privateField = privateField;
+    }
+}
@@ -20,6 +20,7 @@ import java.math.BigInteger;
 import java.sql.Time;
 import java.sql.Timestamp;
 import java.util.*;
+import com.progressoft.brix.domino.gwtjackson.Lazy;
 import com.progressoft.brix.domino.gwtjackson.processor.Person;
 
 @TestAnnotation
@@ -239,6 +240,10 @@ public class TestBean {
     public SortedMap<String, Short[]> sortedMapArray;
     public TreeMap<String, BigInteger[]> treeMapArray;
 
+    public Lazy<String> lazyString;
+    public Lazy<List<Integer>> lazyList;
+    public Lazy<Map<String, Integer>> lazyMap;
+
     public TestBean testBean;
 
 }